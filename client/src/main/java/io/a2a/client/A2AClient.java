@@ -3,13 +3,19 @@ package io.a2a.client;
 import static io.a2a.util.Assert.checkNotNullParam;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import io.a2a.client.sse.SSEEventListener;
 import io.a2a.http.A2AHttpClient;
 import io.a2a.http.A2AHttpResponse;
@@ -32,12 +38,14 @@ import io.a2a.spec.GetTaskPushNotificationConfigResponse;
 import io.a2a.spec.GetTaskRequest;
 import io.a2a.spec.GetTaskResponse;
 import io.a2a.spec.JSONRPCError;
+import io.a2a.spec.JSONRPCErrorResponse;
 import io.a2a.spec.JSONRPCMessage;
 import io.a2a.spec.JSONRPCResponse;
 import io.a2a.spec.ListTaskPushNotificationConfigParams;
 import io.a2a.spec.ListTaskPushNotificationConfigRequest;
 import io.a2a.spec.ListTaskPushNotificationConfigResponse;
 import io.a2a.spec.MessageSendParams;
+import io.a2a.spec.NonStreamingJSONRPCRequest;
 import io.a2a.spec.PushNotificationConfig;
 import io.a2a.spec.SendMessageRequest;
 import io.a2a.spec.SendMessageResponse;
@@ -49,6 +57,7 @@ import io.a2a.spec.TaskIdParams;
 import io.a2a.spec.TaskPushNotificationConfig;
 import io.a2a.spec.TaskQueryParams;
 import io.a2a.spec.TaskResubscriptionRequest;
+import io.a2a.util.JsonCodec;
 import io.a2a.util.Utils;
 
 /**
@@ -232,6 +241,70 @@ public class A2AClient {
         }
     }
 
+    /**
+     * Retrieve several tasks from the A2A server in a single JSON-RPC batch request.
+     *
+     * @param taskQueryParams the params for each of the tasks to be queried
+     * @return the responses, in the same order as the params. A task that could not be retrieved is reported by
+     * the error of its response rather than by an exception
+     * @throws A2AServerException if sending the batch fails, or if the server rejects it as a whole
+     */
+    public List<GetTaskResponse> getTasks(List<TaskQueryParams> taskQueryParams) throws A2AServerException {
+        checkNotNullParam("taskQueryParams", taskQueryParams);
+        List<GetTaskRequest> requests = new ArrayList<>(taskQueryParams.size());
+        for (TaskQueryParams params : taskQueryParams) {
+            requests.add(new GetTaskRequest.Builder()
+                    .jsonrpc(JSONRPCMessage.JSONRPC_VERSION)
+                    .method(GetTaskRequest.METHOD)
+                    .params(params)
+                    .build());
+        }
+        List<JSONRPCResponse<?>> responses = sendBatch(requests);
+        List<GetTaskResponse> getTaskResponses = new ArrayList<>(responses.size());
+        for (JSONRPCResponse<?> response : responses) {
+            getTaskResponses.add((GetTaskResponse) response);
+        }
+        return getTaskResponses;
+    }
+
+    /**
+     * Send several requests to the A2A server in a single JSON-RPC batch request. The server may process
+     * them concurrently.
+     *
+     * @param requests the requests to send, each with a distinct ID. Streaming requests cannot be batched
+     * @return the responses, in the same order as the requests. An error returned for one of the requests is
+     * reported by the error of its response rather than by an exception
+     * @throws A2AServerException if sending the batch fails, or if the server rejects it as a whole
+     */
+    public List<JSONRPCResponse<?>> sendBatch(List<? extends NonStreamingJSONRPCRequest<?>> requests) throws A2AServerException {
+        checkNotNullParam("requests", requests);
+        Map<Object, TypeReference<? extends JSONRPCResponse<?>>> responseTypes = new HashMap<>();
+        for (NonStreamingJSONRPCRequest<?> request : requests) {
+            checkNotNullParam("request", request);
+            if (request.getId() == null || responseTypes.put(request.getId(), getResponseTypeReference(request)) != null) {
+                throw new IllegalArgumentException("Batched requests must have distinct IDs");
+            }
+        }
+
+        Map<Object, JSONRPCResponse<?>> responses;
+        try {
+            String httpResponseBody = sendPostRequest(requests);
+            responses = unmarshalBatchResponse(httpResponseBody, responseTypes);
+        } catch (IOException | InterruptedException e) {
+            throw new A2AServerException("Failed to send batch request: " + e, e.getCause());
+        }
+
+        List<JSONRPCResponse<?>> orderedResponses = new ArrayList<>(requests.size());
+        for (NonStreamingJSONRPCRequest<?> request : requests) {
+            JSONRPCResponse<?> response = responses.get(request.getId());
+            if (response == null) {
+                throw new A2AServerException("No response for request " + request.getId());
+            }
+            orderedResponses.add(response);
+        }
+        return orderedResponses;
+    }
+
     /**
      * Cancel a task that was previously submitted to the A2A server.
      *
@@ -695,7 +768,7 @@ public class A2AClient {
         A2AHttpClient.PostBuilder builder =  httpClient.createPost()
                 .url(agentUrl)
                 .addHeader("Content-Type", "application/json")
-                .body(Utils.OBJECT_MAPPER.writeValueAsString(value));
+                .body(JsonCodec.DEFAULT.writeValueAsString(value));
         if (authHeaders != null) {
             for (Map.Entry<String, String> entry : authHeaders.entrySet()) {
                 builder.addHeader(entry.getKey(), entry.getValue());
@@ -704,6 +777,77 @@ public class A2AClient {
         return builder;
     }
 
+    private static TypeReference<? extends JSONRPCResponse<?>> getResponseTypeReference(NonStreamingJSONRPCRequest<?> request) {
+        if (request instanceof GetTaskRequest) {
+            return GET_TASK_RESPONSE_REFERENCE;
+        } else if (request instanceof CancelTaskRequest) {
+            return CANCEL_TASK_RESPONSE_REFERENCE;
+        } else if (request instanceof SetTaskPushNotificationConfigRequest) {
+            return SET_TASK_PUSH_NOTIFICATION_CONFIG_RESPONSE_REFERENCE;
+        } else if (request instanceof GetTaskPushNotificationConfigRequest) {
+            return GET_TASK_PUSH_NOTIFICATION_CONFIG_RESPONSE_REFERENCE;
+        } else if (request instanceof SendMessageRequest) {
+            return SEND_MESSAGE_RESPONSE_REFERENCE;
+        } else if (request instanceof ListTaskPushNotificationConfigRequest) {
+            return LIST_TASK_PUSH_NOTIFICATION_CONFIG_RESPONSE_REFERENCE;
+        } else if (request instanceof DeleteTaskPushNotificationConfigRequest) {
+            return DELETE_TASK_PUSH_NOTIFICATION_CONFIG_RESPONSE_REFERENCE;
+        } else if (request instanceof GetAuthenticatedExtendedCardRequest) {
+            return GET_AUTHENTICATED_EXTENDED_CARD_RESPONSE_REFERENCE;
+        }
+        throw new IllegalArgumentException("Unsupported request " + request.getMethod());
+    }
+
+    private static Map<Object, JSONRPCResponse<?>> unmarshalBatchResponse(String response,
+            Map<Object, TypeReference<? extends JSONRPCResponse<?>>> responseTypes) throws A2AServerException, IOException {
+        try (JsonParser jsonParser = JsonCodec.DEFAULT.getMapper().createParser(response)) {
+            JsonToken token = jsonParser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                // The server rejected the batch as a whole
+                JSONRPCErrorResponse errorResponse = JsonCodec.DEFAULT.reader(JSONRPCErrorResponse.class).readValue(jsonParser);
+                JSONRPCError error = errorResponse.getError();
+                throw new A2AServerException(error.getMessage() + (error.getData() != null ? ": " + error.getData() : ""), error);
+            } else if (token != JsonToken.START_ARRAY) {
+                throw new A2AServerException("Invalid batch response");
+            }
+
+            Map<Object, JSONRPCResponse<?>> responses = new HashMap<>();
+            while (jsonParser.nextToken() == JsonToken.START_OBJECT) {
+                // The response type depends on the request with the same ID, which may come after the result
+                TokenBuffer buffer = new TokenBuffer(jsonParser);
+                buffer.copyCurrentStructure(jsonParser);
+                Object id = readId(buffer);
+                TypeReference<? extends JSONRPCResponse<?>> responseType = responseTypes.get(id);
+                if (responseType != null) {
+                    try (JsonParser responseParser = buffer.asParser(JsonCodec.DEFAULT.getMapper())) {
+                        responses.put(id, JsonCodec.DEFAULT.reader(responseType).readValue(responseParser));
+                    }
+                }
+            }
+            return responses;
+        }
+    }
+
+    private static Object readId(TokenBuffer buffer) throws IOException {
+        try (JsonParser jsonParser = buffer.asParser()) {
+            jsonParser.nextToken();
+            while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = jsonParser.currentName();
+                JsonToken token = jsonParser.nextToken();
+                if ("id".equals(fieldName)) {
+                    if (token == JsonToken.VALUE_STRING) {
+                        return jsonParser.getText();
+                    } else if (token == JsonToken.VALUE_NUMBER_INT) {
+                        return jsonParser.getIntValue();
+                    }
+                    return null;
+                }
+                jsonParser.skipChildren();
+            }
+            return null;
+        }
+    }
+
     private <T extends JSONRPCResponse> T unmarshalResponse(String response, TypeReference<T> typeReference)
             throws A2AServerException, JsonProcessingException {
         T value = Utils.unmarshalFrom(response, typeReference);
@@ -17,6 +17,7 @@ import io.a2a.grpc.GetTaskRequest;
 import io.a2a.grpc.SendMessageRequest;
 import io.a2a.grpc.SendMessageResponse;
 import io.a2a.grpc.StreamResponse;
+import io.a2a.grpc.utils.GrpcMethodOptions;
 import io.a2a.grpc.utils.ProtoUtils;
 import io.a2a.spec.A2AServerException;
 import io.a2a.spec.AgentCard;
@@ -28,7 +29,12 @@ import io.a2a.spec.Task;
 import io.a2a.spec.TaskIdParams;
 import io.a2a.spec.TaskPushNotificationConfig;
 import io.a2a.spec.TaskQueryParams;
+import io.grpc.CallOptions;
 import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ClientInterceptors;
+import io.grpc.MethodDescriptor;
 import io.grpc.StatusRuntimeException;
 import io.grpc.stub.StreamObserver;
 
@@ -48,8 +54,24 @@ public class A2AGrpcClient {
      * @param agentCard the agent card for the A2A server this client will be communicating with
      */
     public A2AGrpcClient(Channel channel, AgentCard agentCard) {
+        this(channel, agentCard, GrpcMethodOptions.DEFAULT);
+    }
+
+    /**
+     * Create an A2A client for interacting with an A2A agent via gRPC.
+     *
+     * @param channel the gRPC channel, on which any codec other than gzip used by {@code methodOptions} must be
+     *                registered, see {@link io.a2a.grpc.utils.GrpcCompression}
+     * @param agentCard the agent card for the A2A server this client will be communicating with
+     * @param methodOptions the compression and maximum message sizes of the calls to each method
+     */
+    public A2AGrpcClient(Channel channel, AgentCard agentCard, GrpcMethodOptions methodOptions) {
         checkNotNullParam("channel", channel);
         checkNotNullParam("agentCard", agentCard);
+        checkNotNullParam("methodOptions", methodOptions);
+        if (methodOptions != GrpcMethodOptions.DEFAULT) {
+            channel = ClientInterceptors.intercept(channel, new MethodOptionsInterceptor(methodOptions));
+        }
         this.asyncStub = A2AServiceGrpc.newStub(channel);
         this.blockingStub = A2AServiceGrpc.newBlockingV2Stub(channel);
         this.agentCard = agentCard;
@@ -197,4 +219,33 @@ public class A2AGrpcClient {
         }
         return name.toString();
     }
+
+    /**
+     * Applies the options of the method to each call.
+     */
+    private static class MethodOptionsInterceptor implements ClientInterceptor {
+        private final GrpcMethodOptions methodOptions;
+
+        MethodOptionsInterceptor(GrpcMethodOptions methodOptions) {
+            this.methodOptions = methodOptions;
+        }
+
+        @Override
+        public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+                                                                   CallOptions callOptions, Channel next) {
+            String compression = methodOptions.compression(method);
+            if (compression != null) {
+                callOptions = callOptions.withCompression(compression);
+            }
+            Integer maxInboundMessageSize = methodOptions.maxInboundMessageSize(method);
+            if (maxInboundMessageSize != null) {
+                callOptions = callOptions.withMaxInboundMessageSize(maxInboundMessageSize);
+            }
+            Integer maxOutboundMessageSize = methodOptions.maxOutboundMessageSize(method);
+            if (maxOutboundMessageSize != null) {
+                callOptions = callOptions.withMaxOutboundMessageSize(maxOutboundMessageSize);
+            }
+            return next.newCall(method, callOptions);
+        }
+    }
 }
@@ -0,0 +1,75 @@
+package io.a2a.client;
+
+import static io.a2a.util.Assert.checkNotNullParam;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import io.a2a.spec.FilePart;
+import io.a2a.spec.FileWithBytes;
+import io.a2a.spec.Part;
+import io.a2a.spec.StreamingEventKind;
+import io.a2a.spec.TaskArtifactUpdateEvent;
+
+/**
+ * Writes the file of an artifact streamed in chunks to an output stream as the chunks are received, so that the
+ * file is never held in memory as a whole. Pass it, or compose it with another handler, as the event handler of a
+ * streaming request:
+ * <pre>{@code
+ * FileArtifactReceiver receiver = new FileArtifactReceiver(artifactId, out);
+ * client.sendMessageStreaming(params, receiver.andThen(otherHandler), errorHandler);
+ * receiver.completion().join();
+ * }</pre>
+ * Events of other artifacts and other kinds are ignored.
+ */
+public class FileArtifactReceiver implements Consumer<StreamingEventKind> {
+
+    private final String artifactId;
+    private final OutputStream out;
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    /**
+     * @param artifactId the id of the artifact to receive
+     * @param out the stream to write the file to, which is not closed
+     */
+    public FileArtifactReceiver(String artifactId, OutputStream out) {
+        checkNotNullParam("artifactId", artifactId);
+        checkNotNullParam("out", out);
+        this.artifactId = artifactId;
+        this.out = out;
+    }
+
+    @Override
+    public void accept(StreamingEventKind event) {
+        if (!(event instanceof TaskArtifactUpdateEvent update)
+                || !artifactId.equals(update.getArtifact().artifactId())
+                || completion.isDone()) {
+            return;
+        }
+        try {
+            for (Part<?> part : update.getArtifact().parts()) {
+                if (part instanceof FilePart filePart && filePart.getFile() instanceof FileWithBytes file) {
+                    Channels.newChannel(out).write(file.content());
+                }
+            }
+            if (Boolean.TRUE.equals(update.isLastChunk())) {
+                out.flush();
+                completion.complete(null);
+            }
+        } catch (IOException e) {
+            completion.completeExceptionally(new UncheckedIOException(e));
+        }
+    }
+
+    /**
+     * @return a future completed once the last chunk of the file was written, or completed exceptionally if
+     * writing the file failed
+     */
+    public CompletableFuture<Void> completion() {
+        return completion;
+    }
+}
@@ -0,0 +1,423 @@
+package io.a2a.client;
+
+import static io.a2a.util.Assert.checkNotNullParam;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import io.a2a.spec.AgentCard;
+import io.a2a.spec.AgentInterface;
+import io.a2a.spec.TransportProtocol;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+/**
+ * Creates and reuses the gRPC channels to agents, and balances the calls to an agent across the gRPC interfaces
+ * of its card.
+ * <p>
+ * A single channel multiplexes all its calls over one HTTP/2 connection, which limits the throughput of a busy
+ * client. The pool opens {@link Builder#channelsPerTarget(int) several channels} to each target, shared by all
+ * the agents served from it, and spreads the calls over the channels of all the interfaces of an agent:
+ * <pre>{@code
+ * GrpcChannelPool pool = new GrpcChannelPool.Builder()
+ *         .channelsPerTarget(4)
+ *         .loadBalancing(GrpcChannelPool.LoadBalancing.LEAST_OUTSTANDING_REQUESTS)
+ *         .keepAliveTime(Duration.ofSeconds(30))
+ *         .build();
+ * A2AGrpcClient client = new A2AGrpcClient(pool.channel(agentCard), agentCard);
+ * }</pre>
+ * Channels in transient failure are skipped as long as another channel of the agent is not. Creating channels
+ * requires a gRPC transport, such as {@code grpc-netty-shaded} or {@code grpc-okhttp}, on the class path.
+ */
+public final class GrpcChannelPool implements AutoCloseable {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    /**
+     * How calls are spread over the channels of an agent.
+     */
+    public enum LoadBalancing {
+        /**
+         * Each call uses the next channel in turn.
+         */
+        ROUND_ROBIN,
+        /**
+         * Each call uses the channel with the fewest calls in progress, which favours the channels to the
+         * fastest targets.
+         */
+        LEAST_OUTSTANDING_REQUESTS
+    }
+
+    private final int channelsPerTarget;
+    private final LoadBalancing loadBalancing;
+    private final Function<Target, ManagedChannel> channelFactory;
+    private final ConcurrentMap<Target, List<PooledChannel>> channels = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    private GrpcChannelPool(Builder builder) {
+        this(builder.channelsPerTarget, builder.loadBalancing, builder.channelFactory());
+    }
+
+    GrpcChannelPool(int channelsPerTarget, LoadBalancing loadBalancing, Function<Target, ManagedChannel> channelFactory) {
+        this.channelsPerTarget = channelsPerTarget;
+        this.loadBalancing = loadBalancing;
+        this.channelFactory = channelFactory;
+    }
+
+    /**
+     * Returns a channel balancing its calls across the gRPC interfaces of an agent, which are the URL of its card
+     * if its preferred transport is gRPC, and its additional interfaces using gRPC.
+     *
+     * @param agentCard the card of the agent
+     * @return the channel, which does not need to be shut down, since its underlying channels are owned by the pool
+     * @throws IllegalArgumentException if the agent has no gRPC interface
+     * @throws IllegalStateException if the pool is closed
+     */
+    public Channel channel(AgentCard agentCard) {
+        checkNotNullParam("agentCard", agentCard);
+        Set<String> urls = new LinkedHashSet<>();
+        if (TransportProtocol.GRPC.asString().equals(agentCard.preferredTransport())) {
+            urls.add(agentCard.url());
+        }
+        if (agentCard.additionalInterfaces() != null) {
+            for (AgentInterface agentInterface : agentCard.additionalInterfaces()) {
+                if (TransportProtocol.GRPC.asString().equals(agentInterface.transport())) {
+                    urls.add(agentInterface.url());
+                }
+            }
+        }
+        if (urls.isEmpty()) {
+            throw new IllegalArgumentException("Agent " + agentCard.name() + " has no gRPC interface");
+        }
+        List<PooledChannel> agentChannels = new ArrayList<>(urls.size() * channelsPerTarget);
+        for (String url : urls) {
+            agentChannels.addAll(channels(url));
+        }
+        return new BalancingChannel(agentChannels.toArray(new PooledChannel[0]), loadBalancing);
+    }
+
+    /**
+     * @param url the URL of a gRPC interface of an agent
+     * @return a channel balancing its calls across the pooled channels to the interface
+     * @throws IllegalArgumentException if the URL is not of scheme {@code http}, {@code grpc}, {@code https} or
+     * {@code grpcs}
+     * @throws IllegalStateException if the pool is closed
+     */
+    public Channel channel(String url) {
+        checkNotNullParam("url", url);
+        return new BalancingChannel(channels(url).toArray(new PooledChannel[0]), loadBalancing);
+    }
+
+    private List<PooledChannel> channels(String url) {
+        if (closed) {
+            throw new IllegalStateException("The channel pool is closed");
+        }
+        return channels.computeIfAbsent(Target.parse(url), target -> {
+            List<PooledChannel> targetChannels = new ArrayList<>(channelsPerTarget);
+            for (int i = 0; i < channelsPerTarget; i++) {
+                targetChannels.add(new PooledChannel(channelFactory.apply(target)));
+            }
+            return List.copyOf(targetChannels);
+        });
+    }
+
+    /**
+     * Shuts down all the channels, waiting a few seconds for the calls in progress to complete before cancelling
+     * them.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        List<ManagedChannel> managedChannels = new ArrayList<>();
+        for (List<PooledChannel> targetChannels : channels.values()) {
+            for (PooledChannel pooledChannel : targetChannels) {
+                managedChannels.add(pooledChannel.channel.shutdown());
+            }
+        }
+        channels.clear();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SHUTDOWN_TIMEOUT_SECONDS);
+        try {
+            for (ManagedChannel channel : managedChannels) {
+                if (!channel.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    channel.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            managedChannels.forEach(ManagedChannel::shutdownNow);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The gRPC target of an interface, and whether it is reached without TLS.
+     */
+    record Target(String target, boolean plaintext) {
+
+        /**
+         * @param url a URL of scheme {@code http} or {@code grpc} for plaintext connections, or {@code https} or
+         *            {@code grpcs} for TLS
+         * @return the target
+         * @throws IllegalArgumentException if the URL has none of these schemes, since whether to use TLS could
+         * not be told
+         */
+        static Target parse(String url) {
+            int separator = url.indexOf("://");
+            String scheme = separator > 0 ? url.substring(0, separator).toLowerCase() : "";
+            boolean plaintext;
+            int defaultPort;
+            switch (scheme) {
+                case "http", "grpc" -> {
+                    plaintext = true;
+                    defaultPort = 80;
+                }
+                case "https", "grpcs" -> {
+                    plaintext = false;
+                    defaultPort = 443;
+                }
+                default -> throw new IllegalArgumentException(
+                        "gRPC interface URL must be of scheme http, grpc, https or grpcs: " + url);
+            }
+            try {
+                URI uri = new URI(url);
+                if (uri.getHost() == null) {
+                    throw new IllegalArgumentException("Invalid gRPC interface URL: " + url);
+                }
+                int port = uri.getPort() != -1 ? uri.getPort() : defaultPort;
+                // IPv6 addresses are returned in brackets, as the target expects them
+                return new Target(uri.getHost() + ":" + port, plaintext);
+            } catch (URISyntaxException e) {
+                throw new IllegalArgumentException("Invalid gRPC interface URL: " + url, e);
+            }
+        }
+    }
+
+    private static final class PooledChannel {
+        final ManagedChannel channel;
+        final AtomicInteger outstandingCalls = new AtomicInteger();
+
+        PooledChannel(ManagedChannel channel) {
+            this.channel = channel;
+        }
+
+        boolean isAvailable() {
+            ConnectivityState state = channel.getState(false);
+            return state != ConnectivityState.TRANSIENT_FAILURE && state != ConnectivityState.SHUTDOWN;
+        }
+    }
+
+    private static final class BalancingChannel extends Channel {
+        private final PooledChannel[] channels;
+        private final LoadBalancing loadBalancing;
+        private final AtomicInteger next = new AtomicInteger();
+
+        BalancingChannel(PooledChannel[] channels, LoadBalancing loadBalancing) {
+            this.channels = channels;
+            this.loadBalancing = loadBalancing;
+        }
+
+        @Override
+        public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> method,
+                                                             CallOptions callOptions) {
+            PooledChannel selected = select();
+            ClientCall<ReqT, RespT> call = selected.channel.newCall(method, callOptions);
+            return loadBalancing == LoadBalancing.LEAST_OUTSTANDING_REQUESTS
+                    ? new CountedCall<>(call, selected.outstandingCalls) : call;
+        }
+
+        private PooledChannel select() {
+            // Starting from the next channel in turn also spreads the calls evenly across equally loaded channels
+            int start = Math.floorMod(next.getAndIncrement(), channels.length);
+            PooledChannel selected = null;
+            for (int i = 0; i < channels.length; i++) {
+                PooledChannel candidate = channels[(start + i) % channels.length];
+                if (!candidate.isAvailable()) {
+                    continue;
+                }
+                if (loadBalancing == LoadBalancing.ROUND_ROBIN) {
+                    return candidate;
+                }
+                if (selected == null || candidate.outstandingCalls.get() < selected.outstandingCalls.get()) {
+                    selected = candidate;
+                }
+            }
+            // When all channels are failing, gRPC fails or queues the call according to its wait-for-ready option
+            return selected != null ? selected : channels[start];
+        }
+
+        @Override
+        public String authority() {
+            return channels[0].channel.authority();
+        }
+    }
+
+    /**
+     * Counts the call as outstanding from its start until it is closed.
+     */
+    private static final class CountedCall<ReqT, RespT> extends ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT> {
+        private final AtomicInteger outstandingCalls;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        CountedCall(ClientCall<ReqT, RespT> call, AtomicInteger outstandingCalls) {
+            super(call);
+            this.outstandingCalls = outstandingCalls;
+        }
+
+        @Override
+        public void start(Listener<RespT> responseListener, Metadata headers) {
+            outstandingCalls.incrementAndGet();
+            try {
+                super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<>(responseListener) {
+                    @Override
+                    public void onClose(Status status, Metadata trailers) {
+                        done();
+                        super.onClose(status, trailers);
+                    }
+                }, headers);
+            } catch (RuntimeException e) {
+                done();
+                throw e;
+            }
+        }
+
+        private void done() {
+            if (done.compareAndSet(false, true)) {
+                outstandingCalls.decrementAndGet();
+            }
+        }
+    }
+
+    public static class Builder {
+        private int channelsPerTarget = 1;
+        private LoadBalancing loadBalancing = LoadBalancing.ROUND_ROBIN;
+        private Duration keepAliveTime;
+        private Duration keepAliveTimeout;
+        private boolean keepAliveWithoutCalls;
+        private Duration idleTimeout;
+        private Consumer<ManagedChannelBuilder<?>> channelConfigurer = builder -> {
+        };
+
+        /**
+         * @param channelsPerTarget the number of channels, and so of connections, to each target, 1 by default
+         */
+        public Builder channelsPerTarget(int channelsPerTarget) {
+            if (channelsPerTarget <= 0) {
+                throw new IllegalArgumentException("channelsPerTarget must be greater than zero");
+            }
+            this.channelsPerTarget = channelsPerTarget;
+            return this;
+        }
+
+        /**
+         * @param loadBalancing how calls are spread over the channels of an agent, round robin by default
+         */
+        public Builder loadBalancing(LoadBalancing loadBalancing) {
+            checkNotNullParam("loadBalancing", loadBalancing);
+            this.loadBalancing = loadBalancing;
+            return this;
+        }
+
+        /**
+         * Enables keepalive pings, which detect broken connections and keep idle connections open through proxies
+         * and load balancers. Servers reject pings more frequent than they permit, which is every 5 minutes by
+         * default with grpc-java, closing the connection.
+         *
+         * @param keepAliveTime the time without activity on a connection after which a ping is sent
+         */
+        public Builder keepAliveTime(Duration keepAliveTime) {
+            checkNotNullParam("keepAliveTime", keepAliveTime);
+            this.keepAliveTime = keepAliveTime;
+            return this;
+        }
+
+        /**
+         * @param keepAliveTimeout the time to wait for the acknowledgement of a ping before closing the connection
+         */
+        public Builder keepAliveTimeout(Duration keepAliveTimeout) {
+            checkNotNullParam("keepAliveTimeout", keepAliveTimeout);
+            this.keepAliveTimeout = keepAliveTimeout;
+            return this;
+        }
+
+        /**
+         * @param keepAliveWithoutCalls whether pings are also sent while no call is in progress, {@code false} by
+         *                              default
+         */
+        public Builder keepAliveWithoutCalls(boolean keepAliveWithoutCalls) {
+            this.keepAliveWithoutCalls = keepAliveWithoutCalls;
+            return this;
+        }
+
+        /**
+         * @param idleTimeout the time without calls after which a channel closes its connection, until its next call
+         */
+        public Builder idleTimeout(Duration idleTimeout) {
+            checkNotNullParam("idleTimeout", idleTimeout);
+            this.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        /**
+         * @param channelConfigurer configures the builder of each channel further, for instance with TLS
+         *                          credentials, interceptors or the compressor registry of
+         *                          {@link io.a2a.grpc.utils.GrpcCompression}
+         */
+        public Builder channelConfigurer(Consumer<ManagedChannelBuilder<?>> channelConfigurer) {
+            checkNotNullParam("channelConfigurer", channelConfigurer);
+            this.channelConfigurer = channelConfigurer;
+            return this;
+        }
+
+        private Function<Target, ManagedChannel> channelFactory() {
+            Duration keepAliveTime = this.keepAliveTime;
+            Duration keepAliveTimeout = this.keepAliveTimeout;
+            boolean keepAliveWithoutCalls = this.keepAliveWithoutCalls;
+            Duration idleTimeout = this.idleTimeout;
+            Consumer<ManagedChannelBuilder<?>> channelConfigurer = this.channelConfigurer;
+            return target -> {
+                ManagedChannelBuilder<?> builder = ManagedChannelBuilder.forTarget(target.target());
+                if (target.plaintext()) {
+                    builder.usePlaintext();
+                }
+                if (keepAliveTime != null) {
+                    builder.keepAliveTime(keepAliveTime.toNanos(), TimeUnit.NANOSECONDS);
+                }
+                if (keepAliveTimeout != null) {
+                    builder.keepAliveTimeout(keepAliveTimeout.toNanos(), TimeUnit.NANOSECONDS);
+                }
+                if (keepAliveWithoutCalls) {
+                    builder.keepAliveWithoutCalls(true);
+                }
+                if (idleTimeout != null) {
+                    builder.idleTimeout(idleTimeout.toNanos(), TimeUnit.NANOSECONDS);
+                }
+                channelConfigurer.accept(builder);
+                return builder.build();
+            };
+        }
+
+        public GrpcChannelPool build() {
+            return new GrpcChannelPool(this);
+        }
+    }
+}
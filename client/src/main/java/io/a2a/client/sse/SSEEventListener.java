@@ -1,16 +1,17 @@
 package io.a2a.client.sse;
 
-import static io.a2a.util.Utils.OBJECT_MAPPER;
-
+import java.io.IOException;
 import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.logging.Logger;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import io.a2a.spec.JSONRPCError;
 import io.a2a.spec.StreamingEventKind;
 import io.a2a.spec.TaskStatusUpdateEvent;
+import io.a2a.util.JsonCodec;
 
 public class SSEEventListener {
     private static final Logger log = Logger.getLogger(SSEEventListener.class.getName());
@@ -25,10 +26,12 @@ public class SSEEventListener {
     }
 
     public void onMessage(String message, Future<Void> completableFuture) {
-        try {
-            handleMessage(OBJECT_MAPPER.readTree(message),completableFuture);
-        } catch (JsonProcessingException e) {
+        try (JsonParser jsonParser = JsonCodec.DEFAULT.getMapper().createParser(message)) {
+            handleMessage(jsonParser, completableFuture);
+        } catch (JsonParseException e) {
             log.warning("Failed to parse JSON message: " + message);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
         }
     }
 
@@ -37,24 +40,38 @@ public class SSEEventListener {
         future.cancel(true); // close SSE channel
     }
 
-    private void handleMessage(JsonNode jsonNode, Future<Void> future) {
-        try {
-            if (jsonNode.has("error")) {
-                JSONRPCError error = OBJECT_MAPPER.treeToValue(jsonNode.get("error"), JSONRPCError.class);
-                errorHandler.accept(error);
-            } else if (jsonNode.has("result")) {
-                // result can be a Task, Message, TaskStatusUpdateEvent, or TaskArtifactUpdateEvent
-                JsonNode result = jsonNode.path("result");
-                StreamingEventKind event = OBJECT_MAPPER.treeToValue(result, StreamingEventKind.class);
-                eventHandler.accept(event);
-                if (event instanceof TaskStatusUpdateEvent && ((TaskStatusUpdateEvent) event).isFinal()) {
-                    future.cancel(true); // close SSE channel
+    private void handleMessage(JsonParser jsonParser, Future<Void> future) throws IOException {
+        // Bind the error or result directly from the token stream rather than going through a tree
+        JSONRPCError error = null;
+        StreamingEventKind event = null;
+        boolean hasError = false;
+        boolean hasResult = false;
+        if (jsonParser.nextToken() == JsonToken.START_OBJECT) {
+            while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = jsonParser.currentName();
+                jsonParser.nextToken();
+                if ("error".equals(fieldName)) {
+                    hasError = true;
+                    error = JsonCodec.DEFAULT.reader(JSONRPCError.class).readValue(jsonParser);
+                } else if ("result".equals(fieldName) && !hasError) {
+                    // result can be a Task, Message, TaskStatusUpdateEvent, or TaskArtifactUpdateEvent
+                    hasResult = true;
+                    event = JsonCodec.DEFAULT.reader(StreamingEventKind.class).readValue(jsonParser);
+                } else {
+                    jsonParser.skipChildren();
                 }
-            } else {
-                throw new IllegalArgumentException("Unknown message type");
             }
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
+        }
+
+        if (hasError) {
+            errorHandler.accept(error);
+        } else if (hasResult) {
+            eventHandler.accept(event);
+            if (event instanceof TaskStatusUpdateEvent && ((TaskStatusUpdateEvent) event).isFinal()) {
+                future.cancel(true); // close SSE channel
+            }
+        } else {
+            throw new IllegalArgumentException("Unknown message type");
         }
     }
 
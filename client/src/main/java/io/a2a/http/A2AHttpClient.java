@@ -1,6 +1,7 @@
 package io.a2a.http;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
@@ -25,6 +26,17 @@ public interface A2AHttpClient {
 
     interface PostBuilder extends Builder<PostBuilder> {
         PostBuilder body(String body);
+
+        /**
+         * Sets the body to the given bytes. Implementations should send the bytes as they are; the default
+         * implementation decodes them as UTF-8 and calls {@link #body(String)}.
+         *
+         * @param body the UTF-8 encoded body
+         * @return this builder
+         */
+        default PostBuilder body(byte[] body) {
+            return body(new String(body, StandardCharsets.UTF_8));
+        }
         A2AHttpResponse post() throws IOException, InterruptedException;
         CompletableFuture<Void> postAsyncSSE(
                 Consumer<String> messageConsumer,
@@ -0,0 +1,275 @@
+package io.a2a.http;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Decompresses a {@code gzip} or {@code deflate} encoded response body as it arrives, passing the decompressed
+ * bytes on to another body subscriber. Unlike decompressing the whole body once it has been received, this
+ * lets a compressed event stream be consumed event by event.
+ * <p>
+ * A body which ends before the end of the compressed data, or whose gzip trailer is missing or does not match
+ * the decompressed bytes, fails with an {@link IOException} rather than being passed on truncated.
+ */
+final class DecompressingBodySubscriber<T> implements HttpResponse.BodySubscriber<T> {
+
+    static final String GZIP = "gzip";
+    static final String DEFLATE = "deflate";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    // The flags in the gzip header, see RFC 1952
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    private static final int GZIP_TRAILER_SIZE = 8;
+
+    private final HttpResponse.BodySubscriber<T> downstream;
+    private final boolean gzip;
+    private final Inflater inflater;
+    private final CRC32 crc = new CRC32();
+    private final byte[] trailer = new byte[GZIP_TRAILER_SIZE];
+    private byte[] header;
+    private boolean headerRead;
+    private int trailerLength;
+    private boolean received;
+    private Flow.Subscription upstream;
+    private boolean failed;
+
+    private DecompressingBodySubscriber(HttpResponse.BodySubscriber<T> downstream, boolean gzip) {
+        this.downstream = downstream;
+        this.gzip = gzip;
+        // gzip wraps raw deflate data, whereas the deflate content coding is the zlib format
+        this.inflater = new Inflater(gzip);
+        this.header = new byte[0];
+        this.headerRead = !gzip;
+    }
+
+    /**
+     * Returns a body handler decoding the response body according to its {@code Content-Encoding}.
+     *
+     * @param handler the handler for the decoded body
+     * @return the decoding body handler
+     */
+    static <T> HttpResponse.BodyHandler<T> decoding(HttpResponse.BodyHandler<T> handler) {
+        return responseInfo -> {
+            HttpResponse.BodySubscriber<T> subscriber = handler.apply(responseInfo);
+            String contentEncoding = responseInfo.headers().firstValue("Content-Encoding").orElse("").trim();
+            if (contentEncoding.equalsIgnoreCase(GZIP)) {
+                return new DecompressingBodySubscriber<>(subscriber, true);
+            } else if (contentEncoding.equalsIgnoreCase(DEFLATE)) {
+                return new DecompressingBodySubscriber<>(subscriber, false);
+            }
+            return subscriber;
+        };
+    }
+
+    @Override
+    public CompletionStage<T> getBody() {
+        return downstream.getBody();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.upstream = subscription;
+        downstream.onSubscribe(subscription);
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> items) {
+        if (failed) {
+            return;
+        }
+        List<ByteBuffer> decompressed = new ArrayList<>();
+        try {
+            for (ByteBuffer item : items) {
+                inflate(item, decompressed);
+            }
+        } catch (IOException e) {
+            failed = true;
+            inflater.end();
+            upstream.cancel();
+            downstream.onError(e);
+            return;
+        }
+        if (decompressed.isEmpty()) {
+            // The downstream subscriber is still waiting for the item it requested
+            upstream.request(1);
+        } else {
+            downstream.onNext(decompressed);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        if (!failed) {
+            failed = true;
+            inflater.end();
+            downstream.onError(throwable);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (failed) {
+            return;
+        }
+        failed = true;
+        try {
+            checkComplete();
+        } catch (IOException e) {
+            inflater.end();
+            downstream.onError(e);
+            return;
+        }
+        inflater.end();
+        downstream.onComplete();
+    }
+
+    private void checkComplete() throws IOException {
+        if (!received) {
+            // An empty body, such as that of a response without content
+            return;
+        }
+        if (!headerRead || !inflater.finished()) {
+            throw new IOException("Truncated compressed response body");
+        }
+        if (!gzip) {
+            // The zlib format ends with an Adler-32 checksum, which the inflater checks itself
+            return;
+        }
+        if (trailerLength < GZIP_TRAILER_SIZE) {
+            throw new IOException("Truncated gzip response body");
+        }
+        ByteBuffer values = ByteBuffer.wrap(trailer).order(ByteOrder.LITTLE_ENDIAN);
+        if ((values.getInt(0) & 0xffffffffL) != crc.getValue()) {
+            throw new IOException("Corrupt gzip response body, CRC mismatch");
+        }
+        if ((values.getInt(4) & 0xffffffffL) != (inflater.getBytesWritten() & 0xffffffffL)) {
+            throw new IOException("Corrupt gzip response body, size mismatch");
+        }
+    }
+
+    private void inflate(ByteBuffer item, List<ByteBuffer> decompressed) throws IOException {
+        if (item.hasRemaining()) {
+            received = true;
+        }
+        if (!headerRead) {
+            item = readGzipHeader(item);
+            if (item == null) {
+                return;
+            }
+        }
+        if (inflater.finished()) {
+            readGzipTrailer(item);
+            return;
+        }
+        inflater.setInput(item);
+        try {
+            while (!inflater.finished() && !inflater.needsInput()) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int length = inflater.inflate(buffer);
+                if (length > 0) {
+                    if (gzip) {
+                        crc.update(buffer, 0, length);
+                    }
+                    decompressed.add(ByteBuffer.wrap(buffer, 0, length));
+                } else if (inflater.needsDictionary()) {
+                    throw new IOException("Compressed response body requires a dictionary");
+                }
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Invalid compressed response body", e);
+        }
+        if (inflater.finished()) {
+            // The inflater advanced the item past the compressed data
+            readGzipTrailer(item);
+        }
+    }
+
+    /**
+     * Accumulates the gzip trailer, which may be split across several items. Anything after it is ignored.
+     */
+    private void readGzipTrailer(ByteBuffer item) {
+        if (!gzip) {
+            return;
+        }
+        int length = Math.min(item.remaining(), GZIP_TRAILER_SIZE - trailerLength);
+        item.get(trailer, trailerLength, length);
+        trailerLength += length;
+    }
+
+    /**
+     * Accumulates the gzip header, which may be split across several items.
+     *
+     * @return the rest of the item once the header has been read, otherwise {@code null}
+     */
+    private ByteBuffer readGzipHeader(ByteBuffer item) throws IOException {
+        byte[] combined = new byte[header.length + item.remaining()];
+        System.arraycopy(header, 0, combined, 0, header.length);
+        item.get(combined, header.length, combined.length - header.length);
+        header = combined;
+
+        int length = gzipHeaderLength(header);
+        if (length < 0) {
+            return null;
+        }
+        headerRead = true;
+        ByteBuffer rest = ByteBuffer.wrap(header, length, header.length - length);
+        header = null;
+        return rest;
+    }
+
+    /**
+     * @return the length of the gzip header at the start of {@code bytes}, or {@code -1} if it is incomplete
+     */
+    private static int gzipHeaderLength(byte[] bytes) throws IOException {
+        if (bytes.length < 10) {
+            return -1;
+        }
+        if ((bytes[0] & 0xff) != 0x1f || (bytes[1] & 0xff) != 0x8b || bytes[2] != 8) {
+            throw new IOException("Invalid gzip response body");
+        }
+        int flags = bytes[3] & 0xff;
+        int position = 10;
+        if ((flags & FEXTRA) != 0) {
+            if (bytes.length < position + 2) {
+                return -1;
+            }
+            position += 2 + ((bytes[position] & 0xff) | (bytes[position + 1] & 0xff) << 8);
+        }
+        if ((flags & FNAME) != 0) {
+            position = skipZeroTerminated(bytes, position);
+        }
+        if ((flags & FCOMMENT) != 0) {
+            position = skipZeroTerminated(bytes, position);
+        }
+        if ((flags & FHCRC) != 0 && position >= 0) {
+            position += 2;
+        }
+        return position >= 0 && position <= bytes.length ? position : -1;
+    }
+
+    private static int skipZeroTerminated(byte[] bytes, int position) {
+        if (position < 0) {
+            return -1;
+        }
+        for (int i = position; i < bytes.length; i++) {
+            if (bytes[i] == 0) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+}
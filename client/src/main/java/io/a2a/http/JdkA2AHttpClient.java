@@ -16,6 +16,9 @@ import java.util.function.Consumer;
 
 public class JdkA2AHttpClient implements A2AHttpClient {
 
+    // The encodings responses are decoded from, see DecompressingBodySubscriber
+    private static final String ACCEPT_ENCODING = DecompressingBodySubscriber.GZIP + ", " + DecompressingBodySubscriber.DEFLATE;
+
     private final HttpClient httpClient;
 
     public JdkA2AHttpClient() {
@@ -59,8 +62,13 @@ public class JdkA2AHttpClient implements A2AHttpClient {
         protected HttpRequest.Builder createRequestBuilder() throws IOException {
             HttpRequest.Builder builder = HttpRequest.newBuilder()
                     .uri(URI.create(url));
+            boolean acceptEncodingSet = false;
             for (Map.Entry<String, String> headerEntry : headers.entrySet()) {
                 builder.header(headerEntry.getKey(), headerEntry.getValue());
+                acceptEncodingSet |= headerEntry.getKey().equalsIgnoreCase("Accept-Encoding");
+            }
+            if (!acceptEncodingSet) {
+                builder.header("Accept-Encoding", ACCEPT_ENCODING);
             }
             return builder;
         }
@@ -105,7 +113,7 @@ public class JdkA2AHttpClient implements A2AHttpClient {
                 }
             };
 
-            BodyHandler<Void> bodyHandler = BodyHandlers.fromLineSubscriber(subscriber);
+            BodyHandler<Void> bodyHandler = DecompressingBodySubscriber.decoding(BodyHandlers.fromLineSubscriber(subscriber));
 
             // Send the response async, and let the subscriber handle the lines.
             return httpClient.sendAsync(request, bodyHandler)
@@ -132,7 +140,7 @@ public class JdkA2AHttpClient implements A2AHttpClient {
             HttpRequest request = createRequestBuilder(false)
                     .build();
             HttpResponse<String> response =
-                    httpClient.send(request, BodyHandlers.ofString(StandardCharsets.UTF_8));
+                    httpClient.send(request, DecompressingBodySubscriber.decoding(BodyHandlers.ofString(StandardCharsets.UTF_8)));
             return new JdkHttpResponse(response);
         }
 
@@ -148,17 +156,23 @@ public class JdkA2AHttpClient implements A2AHttpClient {
     }
 
     private class JdkPostBuilder extends JdkBuilder<PostBuilder> implements A2AHttpClient.PostBuilder {
-        String body = "";
+        byte[] body = new byte[0];
 
         @Override
         public PostBuilder body(String body) {
+            this.body = body.getBytes(StandardCharsets.UTF_8);
+            return self();
+        }
+
+        @Override
+        public PostBuilder body(byte[] body) {
             this.body = body;
             return self();
         }
 
         private HttpRequest.Builder createRequestBuilder(boolean SSE) throws IOException {
             HttpRequest.Builder builder = super.createRequestBuilder()
-                    .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8));
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body));
             if (SSE) {
                 builder.header("Accept", "text/event-stream");
             }
@@ -168,10 +182,9 @@ public class JdkA2AHttpClient implements A2AHttpClient {
         @Override
         public A2AHttpResponse post() throws IOException, InterruptedException {
             HttpRequest request = createRequestBuilder(false)
-                    .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
                     .build();
             HttpResponse<String> response =
-                    httpClient.send(request, BodyHandlers.ofString(StandardCharsets.UTF_8));
+                    httpClient.send(request, DecompressingBodySubscriber.decoding(BodyHandlers.ofString(StandardCharsets.UTF_8)));
             return new JdkHttpResponse(response);
         }
 
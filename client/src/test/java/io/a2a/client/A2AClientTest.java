@@ -2,6 +2,8 @@ package io.a2a.client;
 
 import static io.a2a.client.JsonMessages.AGENT_CARD;
 import static io.a2a.client.JsonMessages.AUTHENTICATION_EXTENDED_AGENT_CARD;
+import static io.a2a.client.JsonMessages.BATCH_TEST_REQUEST;
+import static io.a2a.client.JsonMessages.BATCH_TEST_RESPONSE;
 import static io.a2a.client.JsonMessages.CANCEL_TASK_TEST_REQUEST;
 import static io.a2a.client.JsonMessages.CANCEL_TASK_TEST_RESPONSE;
 import static io.a2a.client.JsonMessages.GET_AUTHENTICATED_EXTENDED_AGENT_CARD_REQUEST;
@@ -44,6 +46,7 @@ import io.a2a.spec.AgentCardSignature;
 import io.a2a.spec.AgentInterface;
 import io.a2a.spec.AgentSkill;
 import io.a2a.spec.Artifact;
+import io.a2a.spec.CancelTaskRequest;
 import io.a2a.spec.CancelTaskResponse;
 import io.a2a.spec.DataPart;
 import io.a2a.spec.FileContent;
@@ -53,7 +56,9 @@ import io.a2a.spec.FileWithUri;
 import io.a2a.spec.GetAuthenticatedExtendedCardResponse;
 import io.a2a.spec.GetTaskPushNotificationConfigParams;
 import io.a2a.spec.GetTaskPushNotificationConfigResponse;
+import io.a2a.spec.GetTaskRequest;
 import io.a2a.spec.GetTaskResponse;
+import io.a2a.spec.JSONRPCResponse;
 import io.a2a.spec.Message;
 import io.a2a.spec.MessageSendConfiguration;
 import io.a2a.spec.MessageSendParams;
@@ -66,6 +71,7 @@ import io.a2a.spec.SendMessageResponse;
 import io.a2a.spec.SetTaskPushNotificationConfigResponse;
 import io.a2a.spec.Task;
 import io.a2a.spec.TaskIdParams;
+import io.a2a.spec.TaskNotCancelableError;
 import io.a2a.spec.TaskPushNotificationConfig;
 import io.a2a.spec.TaskQueryParams;
 import io.a2a.spec.TaskState;
@@ -289,6 +295,37 @@ public class A2AClientTest {
         assertTrue(task.getMetadata().isEmpty());
     }
 
+    @Test
+    public void testA2AClientSendBatch() throws Exception {
+        this.server.when(
+                        request()
+                                .withMethod("POST")
+                                .withPath("/")
+                                .withBody(JsonBody.json(BATCH_TEST_REQUEST, MatchType.STRICT))
+
+                )
+                .respond(
+                        response()
+                                .withStatusCode(200)
+                                .withBody(BATCH_TEST_RESPONSE)
+                );
+
+        A2AClient client = new A2AClient("http://localhost:4001");
+        List<JSONRPCResponse<?>> responses = client.sendBatch(List.of(
+                new GetTaskRequest("request-1", new TaskQueryParams("task-1")),
+                new CancelTaskRequest("request-2", new TaskIdParams("task-2"))));
+
+        // Responses are returned in the order of the requests
+        assertEquals(2, responses.size());
+        GetTaskResponse getTaskResponse = assertInstanceOf(GetTaskResponse.class, responses.get(0));
+        assertEquals("request-1", getTaskResponse.getId());
+        assertEquals("task-1", getTaskResponse.getResult().getId());
+        assertEquals(TaskState.WORKING, getTaskResponse.getResult().getStatus().state());
+        CancelTaskResponse cancelTaskResponse = assertInstanceOf(CancelTaskResponse.class, responses.get(1));
+        assertEquals("request-2", cancelTaskResponse.getId());
+        assertInstanceOf(TaskNotCancelableError.class, cancelTaskResponse.getError());
+    }
+
     @Test
     public void testA2AClientCancelTask() throws Exception {
         this.server.when(
@@ -0,0 +1,74 @@
+package io.a2a.client;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import io.a2a.spec.Artifact;
+import io.a2a.spec.FilePart;
+import io.a2a.spec.FileWithBytes;
+import io.a2a.spec.TaskArtifactUpdateEvent;
+import io.a2a.spec.TaskState;
+import io.a2a.spec.TaskStatus;
+import io.a2a.spec.TaskStatusUpdateEvent;
+import io.a2a.spec.TextPart;
+import org.junit.jupiter.api.Test;
+
+public class FileArtifactReceiverTest {
+
+    @Test
+    public void testReceiveChunks() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FileArtifactReceiver receiver = new FileArtifactReceiver("file-artifact", out);
+
+        receiver.accept(chunk("file-artifact", "Hello, ", false, false));
+        receiver.accept(chunk("other-artifact", "ignored", false, true));
+        receiver.accept(new TaskStatusUpdateEvent.Builder()
+                .taskId("task-123")
+                .contextId("context-123")
+                .status(new TaskStatus(TaskState.WORKING))
+                .build());
+        assertFalse(receiver.completion().isDone());
+
+        receiver.accept(chunk("file-artifact", "chunked ", true, false));
+        receiver.accept(chunk("file-artifact", "world", true, true));
+        assertTrue(receiver.completion().isDone());
+        assertArrayEquals("Hello, chunked world".getBytes(StandardCharsets.UTF_8), out.toByteArray());
+    }
+
+    @Test
+    public void testIgnoresOtherParts() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FileArtifactReceiver receiver = new FileArtifactReceiver("file-artifact", out);
+
+        receiver.accept(new TaskArtifactUpdateEvent.Builder()
+                .taskId("task-123")
+                .contextId("context-123")
+                .artifact(new Artifact.Builder()
+                        .artifactId("file-artifact")
+                        .parts(new TextPart("not a file"))
+                        .build())
+                .lastChunk(true)
+                .build());
+        assertTrue(receiver.completion().isDone());
+        assertArrayEquals(new byte[0], out.toByteArray());
+    }
+
+    private static TaskArtifactUpdateEvent chunk(String artifactId, String content, boolean append, boolean lastChunk) {
+        return new TaskArtifactUpdateEvent.Builder()
+                .taskId("task-123")
+                .contextId("context-123")
+                .artifact(new Artifact.Builder()
+                        .artifactId(artifactId)
+                        .parts(new FilePart(new FileWithBytes("text/plain", "file.txt",
+                                Base64.getEncoder().encodeToString(content.getBytes(StandardCharsets.UTF_8)))))
+                        .build())
+                .append(append)
+                .lastChunk(lastChunk)
+                .build();
+    }
+}
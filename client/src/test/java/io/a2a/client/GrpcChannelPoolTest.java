@@ -0,0 +1,243 @@
+package io.a2a.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.a2a.grpc.A2AServiceGrpc;
+import io.a2a.spec.AgentCapabilities;
+import io.a2a.spec.AgentCard;
+import io.a2a.spec.AgentInterface;
+import io.a2a.spec.TransportProtocol;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import org.junit.jupiter.api.Test;
+
+public class GrpcChannelPoolTest {
+
+    private final List<FakeChannel> created = new ArrayList<>();
+
+    @Test
+    public void testParseTarget() {
+        assertEquals(new GrpcChannelPool.Target("localhost:9000", true), GrpcChannelPool.Target.parse("http://localhost:9000"));
+        assertEquals(new GrpcChannelPool.Target("example.com:80", true), GrpcChannelPool.Target.parse("grpc://example.com"));
+        assertEquals(new GrpcChannelPool.Target("example.com:443", false), GrpcChannelPool.Target.parse("https://example.com/a2a"));
+        assertEquals(new GrpcChannelPool.Target("[::1]:8443", false), GrpcChannelPool.Target.parse("grpcs://[::1]:8443"));
+
+        // Whether to use TLS cannot be told without one of these schemes
+        assertThrows(IllegalArgumentException.class, () -> GrpcChannelPool.Target.parse("dns:///example.com:443"));
+        assertThrows(IllegalArgumentException.class, () -> GrpcChannelPool.Target.parse("example.com:443"));
+        assertThrows(IllegalArgumentException.class, () -> GrpcChannelPool.Target.parse("ftp://example.com"));
+    }
+
+    @Test
+    public void testChannelsAreCreatedPerTargetAndReused() {
+        GrpcChannelPool pool = pool(2, GrpcChannelPool.LoadBalancing.ROUND_ROBIN);
+        pool.channel(agentCard());
+        assertEquals(4, created.size());
+        assertEquals(2, created.stream().filter(channel -> channel.target.target().equals("localhost:9000")).count());
+
+        // The channels to a target are shared by all the agents served from it
+        pool.channel(agentCard());
+        pool.channel("http://localhost:9001");
+        assertEquals(4, created.size());
+    }
+
+    @Test
+    public void testNoGrpcInterface() {
+        GrpcChannelPool pool = pool(1, GrpcChannelPool.LoadBalancing.ROUND_ROBIN);
+        AgentCard agentCard = agentCard(TransportProtocol.JSONRPC,
+                new AgentInterface(TransportProtocol.JSONRPC.asString(), "http://localhost:9000"));
+        assertThrows(IllegalArgumentException.class, () -> pool.channel(agentCard));
+    }
+
+    @Test
+    public void testRoundRobin() {
+        Channel channel = pool(2, GrpcChannelPool.LoadBalancing.ROUND_ROBIN).channel(agentCard());
+        for (int i = 0; i < 8; i++) {
+            start(channel);
+        }
+        for (FakeChannel fakeChannel : created) {
+            assertEquals(2, fakeChannel.calls.size());
+        }
+    }
+
+    @Test
+    public void testSkipChannelsInTransientFailure() {
+        Channel channel = pool(1, GrpcChannelPool.LoadBalancing.ROUND_ROBIN).channel(agentCard());
+        created.get(0).state = ConnectivityState.TRANSIENT_FAILURE;
+        for (int i = 0; i < 4; i++) {
+            start(channel);
+        }
+        assertEquals(0, created.get(0).calls.size());
+        assertEquals(4, created.get(1).calls.size());
+
+        // Failing channels are used when all channels are failing
+        created.get(1).state = ConnectivityState.TRANSIENT_FAILURE;
+        start(channel);
+        assertEquals(5, created.get(0).calls.size() + created.get(1).calls.size());
+    }
+
+    @Test
+    public void testLeastOutstandingRequests() {
+        Channel channel = pool(1, GrpcChannelPool.LoadBalancing.LEAST_OUTSTANDING_REQUESTS).channel(agentCard());
+        FakeChannel first = created.get(0);
+        FakeChannel second = created.get(1);
+        start(channel);
+        start(channel);
+        assertEquals(1, first.calls.size());
+        assertEquals(1, second.calls.size());
+
+        // Calls go to the first channel while the calls to the second one are outstanding
+        first.calls.get(0).close();
+        start(channel);
+        assertEquals(2, first.calls.size());
+        first.calls.get(1).close();
+        start(channel);
+        assertEquals(3, first.calls.size());
+        assertEquals(1, second.calls.size());
+    }
+
+    @Test
+    public void testClose() {
+        GrpcChannelPool pool = pool(2, GrpcChannelPool.LoadBalancing.ROUND_ROBIN);
+        pool.channel(agentCard());
+        pool.close();
+        for (FakeChannel fakeChannel : created) {
+            assertTrue(fakeChannel.isShutdown());
+        }
+        assertThrows(IllegalStateException.class, () -> pool.channel(agentCard()));
+    }
+
+    private GrpcChannelPool pool(int channelsPerTarget, GrpcChannelPool.LoadBalancing loadBalancing) {
+        return new GrpcChannelPool(channelsPerTarget, loadBalancing, target -> {
+            FakeChannel channel = new FakeChannel(target);
+            created.add(channel);
+            return channel;
+        });
+    }
+
+    private static void start(Channel channel) {
+        channel.newCall(A2AServiceGrpc.getGetTaskMethod(), CallOptions.DEFAULT)
+                .start(new ClientCall.Listener<>() {
+                }, new Metadata());
+    }
+
+    private static AgentCard agentCard() {
+        return agentCard(TransportProtocol.GRPC,
+                new AgentInterface(TransportProtocol.GRPC.asString(), "http://localhost:9000"),
+                new AgentInterface(TransportProtocol.JSONRPC.asString(), "http://localhost:9999"),
+                new AgentInterface(TransportProtocol.GRPC.asString(), "http://localhost:9001"));
+    }
+
+    private static AgentCard agentCard(TransportProtocol preferredTransport, AgentInterface... additionalInterfaces) {
+        return new AgentCard.Builder()
+                .name("agent")
+                .description("An agent served from two targets")
+                .url("http://localhost:9000")
+                .version("1.0.0")
+                .capabilities(new AgentCapabilities.Builder().streaming(true).build())
+                .defaultInputModes(Collections.singletonList("text"))
+                .defaultOutputModes(Collections.singletonList("text"))
+                .skills(Collections.emptyList())
+                .preferredTransport(preferredTransport.asString())
+                .additionalInterfaces(List.of(additionalInterfaces))
+                .build();
+    }
+
+    private static final class FakeChannel extends ManagedChannel {
+        final GrpcChannelPool.Target target;
+        final List<FakeCall<?, ?>> calls = new ArrayList<>();
+        ConnectivityState state = ConnectivityState.IDLE;
+        private boolean shutdown;
+
+        FakeChannel(GrpcChannelPool.Target target) {
+            this.target = target;
+        }
+
+        @Override
+        public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> method, CallOptions callOptions) {
+            FakeCall<ReqT, RespT> call = new FakeCall<>();
+            calls.add(call);
+            return call;
+        }
+
+        @Override
+        public String authority() {
+            return target.target();
+        }
+
+        @Override
+        public ConnectivityState getState(boolean requestConnection) {
+            return shutdown ? ConnectivityState.SHUTDOWN : state;
+        }
+
+        @Override
+        public ManagedChannel shutdown() {
+            shutdown = true;
+            return this;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown;
+        }
+
+        @Override
+        public ManagedChannel shutdownNow() {
+            return shutdown();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return shutdown;
+        }
+    }
+
+    private static final class FakeCall<ReqT, RespT> extends ClientCall<ReqT, RespT> {
+        private Listener<RespT> listener;
+
+        @Override
+        public void start(Listener<RespT> responseListener, Metadata headers) {
+            assertNull(listener);
+            listener = responseListener;
+        }
+
+        void close() {
+            listener.onClose(Status.OK, new Metadata());
+        }
+
+        @Override
+        public void request(int numMessages) {
+        }
+
+        @Override
+        public void cancel(String message, Throwable cause) {
+        }
+
+        @Override
+        public void halfClose() {
+        }
+
+        @Override
+        public void sendMessage(ReqT message) {
+        }
+    }
+}
@@ -650,4 +650,48 @@ public class JsonMessages {
             """
             }
             """;
+
+    static final String BATCH_TEST_REQUEST = """
+            [
+             {
+              "jsonrpc": "2.0",
+              "id": "request-1",
+              "method": "tasks/get",
+              "params": {
+               "id": "task-1"
+              }
+             },
+             {
+              "jsonrpc": "2.0",
+              "id": "request-2",
+              "method": "tasks/cancel",
+              "params": {
+               "id": "task-2"
+              }
+             }
+            ]""";
+
+    static final String BATCH_TEST_RESPONSE = """
+            [
+             {
+              "jsonrpc": "2.0",
+              "id": "request-2",
+              "error": {
+               "code": -32002,
+               "message": "Task cannot be canceled"
+              }
+             },
+             {
+              "jsonrpc": "2.0",
+              "id": "request-1",
+              "result": {
+               "id": "task-1",
+               "contextId": "context-1",
+               "status": {
+                "state": "working"
+               },
+               "kind": "task"
+              }
+             }
+            ]""";
 }
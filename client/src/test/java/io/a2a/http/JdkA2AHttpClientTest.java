@@ -0,0 +1,149 @@
+package io.a2a.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JdkA2AHttpClientTest {
+
+    private HttpServer server;
+    private String url;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.start();
+        url = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testDecodesGzipResponse() throws Exception {
+        String body = "{\"result\": \"" + "a".repeat(10000) + "\"}";
+        AtomicReference<String> acceptEncoding = new AtomicReference<>();
+        server.createContext("/", exchange -> {
+            acceptEncoding.set(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = new GZIPOutputStream(exchange.getResponseBody())) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        });
+
+        A2AHttpResponse response = new JdkA2AHttpClient().createPost()
+                .url(url)
+                .body("{}")
+                .post();
+
+        assertEquals("gzip, deflate", acceptEncoding.get());
+        assertEquals(200, response.status());
+        assertEquals(body, response.body());
+    }
+
+    @Test
+    public void testRejectsTruncatedGzipResponse() throws Exception {
+        byte[] compressed = gzip("{\"result\": \"" + "a".repeat(10000) + "\"}");
+        // Without the trailer, then with the compressed data cut short
+        assertRejected("gzip", Arrays.copyOf(compressed, compressed.length - 8));
+        assertRejected("gzip", Arrays.copyOf(compressed, compressed.length / 2));
+    }
+
+    @Test
+    public void testRejectsGzipResponseWithWrongTrailer() throws Exception {
+        byte[] compressed = gzip("{\"result\": \"ok\"}");
+        compressed[compressed.length - 8] ^= 1;
+        assertRejected("gzip", compressed);
+    }
+
+    @Test
+    public void testRejectsTruncatedDeflateResponse() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new DeflaterOutputStream(bytes)) {
+            out.write(("{\"result\": \"" + "a".repeat(10000) + "\"}").getBytes(StandardCharsets.UTF_8));
+        }
+        byte[] compressed = bytes.toByteArray();
+        assertRejected("deflate", Arrays.copyOf(compressed, compressed.length - 4));
+    }
+
+    private void assertRejected(String contentEncoding, byte[] body) {
+        String path = "/" + contentEncoding + "-" + body.length;
+        server.createContext(path, exchange -> {
+            exchange.getResponseHeaders().add("Content-Encoding", contentEncoding);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        assertThrows(IOException.class, () -> new JdkA2AHttpClient().createPost()
+                .url(url + path)
+                .body("{}")
+                .post());
+    }
+
+    private static byte[] gzip(String body) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    @Test
+    public void testDecodesCompressedEventsAsTheyArrive() throws Exception {
+        CountDownLatch firstEventReceived = new CountDownLatch(1);
+        server.createContext("/", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.getResponseHeaders().add("Content-Encoding", "deflate");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = new DeflaterOutputStream(exchange.getResponseBody(), true)) {
+                out.write("data: {\"id\": 1}\n\n".getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                // The stream stays open, so the client must decompress the event without the rest of the body
+                firstEventReceived.await(5, TimeUnit.SECONDS);
+                out.write("data: {\"id\": 2}\n\n".getBytes(StandardCharsets.UTF_8));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        List<String> events = new CopyOnWriteArrayList<>();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        new JdkA2AHttpClient().createPost()
+                .url(url)
+                .body("{}")
+                .postAsyncSSE(event -> {
+                    events.add(event);
+                    firstEventReceived.countDown();
+                }, error::set, completed::countDown);
+
+        assertTrue(firstEventReceived.await(5, TimeUnit.SECONDS));
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertNull(error.get());
+        assertEquals(List.of("{\"id\": 1}", "{\"id\": 2}"), events);
+    }
+}
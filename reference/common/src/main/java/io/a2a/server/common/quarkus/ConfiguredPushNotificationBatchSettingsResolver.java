@@ -0,0 +1,66 @@
+package io.a2a.server.common.quarkus;
+
+import java.time.Duration;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.a2a.server.tasks.PushNotificationBatchSettings;
+import io.a2a.server.tasks.PushNotificationBatchSettingsResolver;
+import io.a2a.spec.PushNotificationConfig;
+import io.quarkus.arc.DefaultBean;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Applies the same batch settings, read from the configuration, to every push notification configuration.
+ * Batching is disabled by default.
+ *
+ * If an application provides its own {@link PushNotificationBatchSettingsResolver} bean, for instance to batch
+ * only the notifications for some endpoints, it is used instead.
+ */
+@ApplicationScoped
+@DefaultBean
+public class ConfiguredPushNotificationBatchSettingsResolver implements PushNotificationBatchSettingsResolver {
+
+    /**
+     * Whether to deliver the push notifications for the same endpoint in batches.
+     */
+    @ConfigProperty(name = "a2a.push-notifications.batch.enabled", defaultValue = "false")
+    boolean enabled;
+
+    /**
+     * The maximum number of tasks sent in a single POST.
+     */
+    @ConfigProperty(name = "a2a.push-notifications.batch.max-size", defaultValue = "100")
+    int maxBatchSize;
+
+    /**
+     * The maximum time a notification waits for other notifications to join its batch.
+     */
+    @ConfigProperty(name = "a2a.push-notifications.batch.max-linger", defaultValue = "200ms")
+    Duration maxLinger;
+
+    /**
+     * The maximum number of times a batch is posted before it is given up on.
+     */
+    @ConfigProperty(name = "a2a.push-notifications.batch.max-attempts", defaultValue = "3")
+    int maxAttempts;
+
+    /**
+     * The delay before the first retry of a batch, doubled with every further retry.
+     */
+    @ConfigProperty(name = "a2a.push-notifications.batch.retry-backoff", defaultValue = "500ms")
+    Duration retryBackoff;
+
+    private PushNotificationBatchSettings settings;
+
+    @PostConstruct
+    void init() {
+        settings = enabled ? new PushNotificationBatchSettings(maxBatchSize, maxLinger, maxAttempts, retryBackoff) : null;
+    }
+
+    @Override
+    public PushNotificationBatchSettings resolve(PushNotificationConfig config) {
+        return settings;
+    }
+}
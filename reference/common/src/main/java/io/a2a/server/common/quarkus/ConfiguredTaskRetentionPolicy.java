@@ -0,0 +1,34 @@
+package io.a2a.server.common.quarkus;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.a2a.server.tasks.TaskRetentionPolicy;
+import io.a2a.spec.Task;
+import io.quarkus.arc.DefaultBean;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Keeps every finished task for the same time, read from the configuration. Finished tasks are kept until they
+ * are deleted when no retention is configured.
+ *
+ * If an application provides its own {@link TaskRetentionPolicy} bean, for instance to keep failed tasks longer
+ * than completed ones, it is used instead.
+ */
+@ApplicationScoped
+@DefaultBean
+public class ConfiguredTaskRetentionPolicy implements TaskRetentionPolicy {
+
+    /**
+     * How long tasks are kept once they reached a final state.
+     */
+    @ConfigProperty(name = "a2a.tasks.finished-task-retention")
+    Optional<Duration> retention;
+
+    @Override
+    public Duration retention(Task task) {
+        return retention.orElse(null);
+    }
+}
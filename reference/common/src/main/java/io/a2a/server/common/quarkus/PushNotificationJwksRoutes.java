@@ -0,0 +1,37 @@
+package io.a2a.server.common.quarkus;
+
+import static io.vertx.core.http.HttpHeaders.CONTENT_TYPE;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import io.a2a.server.tasks.PushNotificationSigner;
+import io.quarkus.vertx.web.Route;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Serves the JWK set webhooks use to verify the signatures of push notifications. Responds with
+ * {@code 404 Not Found} when push notifications are not signed.
+ */
+@Singleton
+public class PushNotificationJwksRoutes {
+
+    private static final String APPLICATION_JSON = "application/json";
+
+    @Inject
+    Instance<PushNotificationSigner> signer;
+
+    @Route(path = "/.well-known/jwks.json", methods = Route.HttpMethod.GET, produces = APPLICATION_JSON)
+    public void getJwkSet(RoutingContext rc) {
+        PushNotificationSigner pushNotificationSigner = signer.isResolvable() ? signer.get() : null;
+        if (pushNotificationSigner == null) {
+            rc.response().setStatusCode(404).end();
+            return;
+        }
+        rc.response()
+                .setStatusCode(200)
+                .putHeader(CONTENT_TYPE, APPLICATION_JSON)
+                .end(pushNotificationSigner.getJwkSet());
+    }
+}
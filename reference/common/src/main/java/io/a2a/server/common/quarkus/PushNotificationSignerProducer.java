@@ -0,0 +1,98 @@
+package io.a2a.server.common.quarkus;
+
+import java.io.File;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.cert.Certificate;
+import java.util.Optional;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Produces;
+
+import io.a2a.server.tasks.PushNotificationSigner;
+import io.quarkus.arc.DefaultBean;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Produces the {@link PushNotificationSigner} used to sign push notifications, configured with
+ * {@code a2a.push-notifications.signing.*}. Signing is disabled by default, in which case the produced signer
+ * is {@code null}.
+ *
+ * The key is read from a key store when one is configured. Otherwise a P-256 key is generated when the
+ * application starts, which webhooks pick up from the JWK set served at {@code /.well-known/jwks.json}.
+ *
+ * If an application provides its own {@link PushNotificationSigner} bean, it is used instead.
+ */
+@ApplicationScoped
+public class PushNotificationSignerProducer {
+
+    /**
+     * Whether to sign push notifications sent to webhooks which do not supply their own credentials.
+     */
+    @ConfigProperty(name = "a2a.push-notifications.signing.enabled", defaultValue = "false")
+    boolean enabled;
+
+    /**
+     * The key ID advertised in the JWS header and the JWK set.
+     */
+    @ConfigProperty(name = "a2a.push-notifications.signing.key-id", defaultValue = "a2a-push-notifications")
+    String keyId;
+
+    /**
+     * The key store, such as a PKCS12 file, holding the signing key.
+     */
+    @ConfigProperty(name = "a2a.push-notifications.signing.key-store")
+    Optional<String> keyStore;
+
+    /**
+     * The password of the key store and of the signing key.
+     */
+    @ConfigProperty(name = "a2a.push-notifications.signing.key-store-password")
+    Optional<String> keyStorePassword;
+
+    /**
+     * The alias of the signing key in the key store. Defaults to the key ID.
+     */
+    @ConfigProperty(name = "a2a.push-notifications.signing.key-alias")
+    Optional<String> keyAlias;
+
+    private PushNotificationSigner signer;
+
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            return;
+        }
+        signer = keyStore.isPresent()
+                ? new PushNotificationSigner(loadKeyPair(), keyId)
+                : PushNotificationSigner.generate(keyId);
+    }
+
+    @Produces
+    @Dependent
+    @DefaultBean
+    public PushNotificationSigner pushNotificationSigner() {
+        return signer;
+    }
+
+    private KeyPair loadKeyPair() {
+        char[] password = keyStorePassword.map(String::toCharArray).orElse(null);
+        String alias = keyAlias.orElse(keyId);
+        try {
+            KeyStore store = KeyStore.getInstance(new File(keyStore.get()), password);
+            Certificate certificate = store.getCertificate(alias);
+            if (!(store.getKey(alias, password) instanceof PrivateKey privateKey) || certificate == null) {
+                throw new IllegalStateException("No private key and certificate with alias " + alias
+                        + " in " + keyStore.get());
+            }
+            return new KeyPair(certificate.getPublicKey(), privateKey);
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to load the push notification signing key from " + keyStore.get(), e);
+        }
+    }
+}
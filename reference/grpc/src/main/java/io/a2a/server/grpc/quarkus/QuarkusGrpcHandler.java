@@ -1,29 +1,68 @@
 package io.a2a.server.grpc.quarkus;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 
+import io.a2a.grpc.handler.CallContextInterceptor;
 import io.a2a.grpc.handler.GrpcHandler;
 import io.a2a.server.PublicAgentCard;
 import io.a2a.server.requesthandlers.CallContextFactory;
 import io.a2a.server.requesthandlers.RequestHandler;
+import io.a2a.server.util.async.Internal;
+import io.a2a.server.util.async.VirtualThreads;
 import io.a2a.spec.AgentCard;
+import io.grpc.ServerServiceDefinition;
 import io.quarkus.grpc.GrpcService;
+import io.quarkus.grpc.RegisterInterceptor;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 @GrpcService
+@RegisterInterceptor(CallContextInterceptor.class)
+@RegisterInterceptor(QuarkusMethodOptionsInterceptor.class)
 public class QuarkusGrpcHandler extends GrpcHandler {
 
     private final AgentCard agentCard;
     private final RequestHandler requestHandler;
     private final Instance<CallContextFactory> callContextFactoryInstance;
+    private final QuarkusMethodOptionsInterceptor methodOptionsInterceptor;
+    private final Executor streamingExecutor;
+    private final ExecutorService virtualThreadExecutor;
 
+    /**
+     * @param virtualThreads whether to subscribe to the events of streaming calls on virtual threads, rather than
+     *                       on the internal executor, configured with {@code a2a.grpc.streaming.virtual-threads}.
+     *                       Ignored if the JVM does not support virtual threads.
+     */
     @Inject
     public QuarkusGrpcHandler(@PublicAgentCard AgentCard agentCard,
                               RequestHandler requestHandler,
-                              Instance<CallContextFactory> callContextFactoryInstance) {
+                              Instance<CallContextFactory> callContextFactoryInstance,
+                              QuarkusMethodOptionsInterceptor methodOptionsInterceptor,
+                              @Internal Executor executor,
+                              @ConfigProperty(name = "a2a.grpc.streaming.virtual-threads", defaultValue = "false")
+                              boolean virtualThreads) {
         this.agentCard = agentCard;
         this.requestHandler = requestHandler;
         this.callContextFactoryInstance = callContextFactoryInstance;
+        this.methodOptionsInterceptor = methodOptionsInterceptor;
+        this.virtualThreadExecutor = virtualThreads ? VirtualThreads.newExecutor() : null;
+        this.streamingExecutor = virtualThreadExecutor != null ? virtualThreadExecutor : executor;
+    }
+
+    @Override
+    public ServerServiceDefinition bindService() {
+        return methodOptionsInterceptor.limitInboundMessageSizes(super.bindService());
+    }
+
+    @PreDestroy
+    void close() {
+        if (virtualThreadExecutor != null) {
+            virtualThreadExecutor.shutdown();
+        }
     }
 
     @Override
@@ -40,4 +79,9 @@ public class QuarkusGrpcHandler extends GrpcHandler {
     protected CallContextFactory getCallContextFactory() {
         return callContextFactoryInstance.isUnsatisfied() ? null : callContextFactoryInstance.get();
     }
-}
\ No newline at end of file
+
+    @Override
+    protected Executor getStreamingExecutor() {
+        return streamingExecutor;
+    }
+}
@@ -0,0 +1,114 @@
+package io.a2a.server.grpc.quarkus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import io.a2a.grpc.handler.MethodOptionsInterceptor;
+import io.a2a.grpc.utils.GrpcCompression;
+import io.a2a.grpc.utils.GrpcMethodOptions;
+import io.grpc.Codec;
+import io.grpc.CompressorRegistry;
+import io.grpc.netty.NettyServerBuilder;
+import io.quarkus.grpc.api.ServerBuilderCustomizer;
+import io.quarkus.grpc.runtime.config.GrpcServerConfiguration;
+import io.quarkus.runtime.configuration.MemorySizeConverter;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Configures the compression and maximum inbound message sizes of the methods served by
+ * {@link QuarkusGrpcHandler}.
+ * <p>
+ * Responses can be compressed with gzip, or with any {@link Codec} bean, which is registered under its message
+ * encoding with a compressor registry of the gRPC server, rather than with the default registry shared by the
+ * whole JVM.
+ */
+@Singleton
+public class QuarkusMethodOptionsInterceptor extends MethodOptionsInterceptor
+        implements ServerBuilderCustomizer<NettyServerBuilder> {
+
+    private final CompressorRegistry compressorRegistry;
+
+    /**
+     * @param compression the encoding to compress the responses of all methods with, configured with
+     *                    {@code a2a.grpc.compression}
+     * @param methodCompression the encodings of some methods, overriding {@code compression}, configured with
+     *                          {@code a2a.grpc.compression.methods} as a list of {@code Method=encoding}
+     * @param gzipLevel the level of gzip compression, configured with {@code a2a.grpc.compression.gzip-level}.
+     *                  Lower levels trade some of the compression for speed.
+     * @param methodMaxInboundMessageSize the maximum sizes of the requests of some methods, configured with
+     *                                    {@code a2a.grpc.max-inbound-message-size.methods} as a list of
+     *                                    {@code Method=size}, bounded by {@code quarkus.grpc.server.max-inbound-message-size}
+     * @param codecs additional codecs to compress responses with
+     */
+    @Inject
+    public QuarkusMethodOptionsInterceptor(@ConfigProperty(name = "a2a.grpc.compression") Optional<String> compression,
+                                           @ConfigProperty(name = "a2a.grpc.compression.methods")
+                                           Optional<List<String>> methodCompression,
+                                           @ConfigProperty(name = "a2a.grpc.compression.gzip-level") OptionalInt gzipLevel,
+                                           @ConfigProperty(name = "a2a.grpc.max-inbound-message-size.methods")
+                                           Optional<List<String>> methodMaxInboundMessageSize,
+                                           Instance<Codec> codecs) {
+        this(compression, methodCompression, methodMaxInboundMessageSize, compressorRegistry(gzipLevel, codecs));
+    }
+
+    private QuarkusMethodOptionsInterceptor(Optional<String> compression, Optional<List<String>> methodCompression,
+                                            Optional<List<String>> methodMaxInboundMessageSize,
+                                            CompressorRegistry compressorRegistry) {
+        super(methodOptions(compression, methodCompression, methodMaxInboundMessageSize, compressorRegistry));
+        this.compressorRegistry = compressorRegistry;
+    }
+
+    @Override
+    public void customize(GrpcServerConfiguration config, NettyServerBuilder builder) {
+        builder.compressorRegistry(compressorRegistry);
+    }
+
+    private static CompressorRegistry compressorRegistry(OptionalInt gzipLevel, Instance<Codec> codecs) {
+        List<Codec> registered = new ArrayList<>();
+        gzipLevel.ifPresent(level -> registered.add(GrpcCompression.gzip(level)));
+        for (Codec codec : codecs) {
+            registered.add(codec);
+        }
+        return GrpcCompression.compressorRegistry(registered.toArray(Codec[]::new));
+    }
+
+    private static GrpcMethodOptions methodOptions(Optional<String> compression, Optional<List<String>> methodCompression,
+                                                   Optional<List<String>> methodMaxInboundMessageSize,
+                                                   CompressorRegistry registry) {
+        GrpcMethodOptions.Builder builder = new GrpcMethodOptions.Builder();
+        compression.ifPresent(encoding -> builder.compression(checkEncoding(registry, encoding)));
+        for (String entry : methodCompression.orElse(List.of())) {
+            int separator = separator("a2a.grpc.compression.methods", entry);
+            builder.compression(entry.substring(0, separator).trim(),
+                    checkEncoding(registry, entry.substring(separator + 1).trim()));
+        }
+        MemorySizeConverter sizeConverter = new MemorySizeConverter();
+        for (String entry : methodMaxInboundMessageSize.orElse(List.of())) {
+            int separator = separator("a2a.grpc.max-inbound-message-size.methods", entry);
+            long size = sizeConverter.convert(entry.substring(separator + 1).trim()).asLongValue();
+            builder.maxInboundMessageSize(entry.substring(0, separator).trim(), (int) Math.min(size, Integer.MAX_VALUE));
+        }
+        return builder.build();
+    }
+
+    private static int separator(String property, String entry) {
+        int separator = entry.indexOf('=');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Invalid " + property + " entry, expected Method=value: " + entry);
+        }
+        return separator;
+    }
+
+    private static String checkEncoding(CompressorRegistry registry, String encoding) {
+        if (registry.lookupCompressor(encoding) == null) {
+            throw new IllegalArgumentException("Unknown gRPC compression: " + encoding);
+        }
+        return encoding;
+    }
+}
@@ -1,31 +1,61 @@
 package io.a2a.server.apps.quarkus;
 
+import static io.vertx.core.http.HttpHeaders.ACCEPT_ENCODING;
+import static io.vertx.core.http.HttpHeaders.CACHE_CONTROL;
+import static io.vertx.core.http.HttpHeaders.CONNECTION;
+import static io.vertx.core.http.HttpHeaders.CONTENT_ENCODING;
+import static io.vertx.core.http.HttpHeaders.CONTENT_LENGTH;
 import static io.vertx.core.http.HttpHeaders.CONTENT_TYPE;
+import static io.vertx.core.http.HttpHeaders.ETAG;
+import static io.vertx.core.http.HttpHeaders.IF_NONE_MATCH;
+import static io.vertx.core.http.HttpHeaders.VARY;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Flow;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.function.Function;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import jakarta.ws.rs.core.Response;
 
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.io.JsonEOFException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import io.a2a.jsonrpc.handler.JSONRPCHandler;
 import io.a2a.server.ExtendedAgentCard;
 import io.a2a.server.ServerCallContext;
 import io.a2a.server.auth.UnauthenticatedUser;
 import io.a2a.server.auth.User;
 import io.a2a.server.util.async.Internal;
+import io.a2a.server.util.async.VirtualThreads;
 import io.a2a.spec.AgentCard;
 import io.a2a.spec.CancelTaskRequest;
 import io.a2a.spec.DeleteTaskPushNotificationConfigRequest;
@@ -42,6 +72,7 @@ import io.a2a.spec.JSONParseError;
 import io.a2a.spec.JSONRPCError;
 import io.a2a.spec.JSONRPCErrorResponse;
 import io.a2a.spec.JSONRPCRequest;
+import io.a2a.spec.JSONRPCRequestDeserializerBase;
 import io.a2a.spec.JSONRPCResponse;
 import io.a2a.spec.ListTaskPushNotificationConfigRequest;
 import io.a2a.spec.MethodNotFoundError;
@@ -53,23 +84,33 @@ import io.a2a.spec.SetTaskPushNotificationConfigRequest;
 import io.a2a.spec.StreamingJSONRPCRequest;
 import io.a2a.spec.TaskResubscriptionRequest;
 import io.a2a.spec.UnsupportedOperationError;
-import io.a2a.util.Utils;
+import io.a2a.util.JsonCodec;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.quarkus.vertx.web.Body;
-import io.quarkus.vertx.web.ReactiveRoutes;
 import io.quarkus.vertx.web.Route;
+import io.quarkus.vertx.web.RouteFilter;
 import io.quarkus.vertx.web.RoutingExchange;
 import io.smallrye.mutiny.Multi;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
-import io.vertx.core.json.Json;
 import io.vertx.ext.web.RoutingContext;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 @Singleton
 public class A2AServerRoutes {
 
+    // Params are only bound once the request is handled, so requests rejected by the handler skip binding them
+    private static final ObjectReader REQUEST_READER = JsonCodec.DEFAULT.reader(JSONRPCRequest.class)
+            .withAttribute(JSONRPCRequestDeserializerBase.LAZY_PARAMS, true);
+
     @Inject
     JSONRPCHandler jsonRpcHandler;
 
@@ -84,22 +125,153 @@ public class A2AServerRoutes {
     @Inject
     Instance<CallContextFactory> callContextFactory;
 
+    /**
+     * The maximum size of a JSON-RPC request body. Requests declaring a larger {@code Content-Length} are
+     * rejected before their body is read.
+     */
+    @ConfigProperty(name = "a2a.jsonrpc.max-body-size", defaultValue = "10M")
+    MemorySize maxBodySize;
+
+    /**
+     * The maximum number of requests in a JSON-RPC batch request.
+     */
+    @ConfigProperty(name = "a2a.jsonrpc.max-batch-size", defaultValue = "1000")
+    int maxBatchSize;
+
+    /**
+     * The number of requests of a JSON-RPC batch request processed concurrently. The thread handling the batch
+     * request processes entries itself, and up to this number minus one more run on the internal executor, so a
+     * batch always makes progress even when the internal executor is busy, and cannot take more than its share
+     * of it.
+     */
+    @ConfigProperty(name = "a2a.jsonrpc.batch-concurrency", defaultValue = "4")
+    int batchConcurrency;
+
+    /**
+     * How long clients may cache the public agent card for, sent as the {@code max-age} of its
+     * {@code Cache-Control} header.
+     */
+    @ConfigProperty(name = "a2a.jsonrpc.agent-card.max-age", defaultValue = "5M")
+    Duration agentCardMaxAge;
+
+    /**
+     * Whether to also keep a gzip compressed copy of the public agent card, served to clients accepting it.
+     */
+    @ConfigProperty(name = "a2a.jsonrpc.agent-card.gzip", defaultValue = "true")
+    boolean agentCardGzip;
+
+    /**
+     * SSE events produced in quick succession are coalesced into a single write of up to this size.
+     */
+    @ConfigProperty(name = "a2a.jsonrpc.sse.max-batch-size", defaultValue = "16K")
+    MemorySize sseMaxBatchSize;
+
+    /**
+     * How long an SSE event may be held back to be coalesced with the following ones.
+     * {@code 0} writes every event as soon as it is produced.
+     */
+    @ConfigProperty(name = "a2a.jsonrpc.sse.max-batch-delay", defaultValue = "2ms")
+    Duration sseMaxBatchDelay;
+
+    /**
+     * How often to send an SSE comment on streams which have been silent since the previous one, so that
+     * intermediaries do not time out streams for tasks which take a while to produce events, and so that
+     * disconnected clients are noticed. {@code 0} disables heartbeats.
+     */
+    @ConfigProperty(name = "a2a.jsonrpc.sse.heartbeat-interval", defaultValue = "15S")
+    Duration sseHeartbeatInterval;
+
+    /**
+     * How long a stream may wait for the client to accept the data written to it before the server closes the
+     * connection, releasing the resources consuming the task's events. Streams of tasks which produce no events
+     * are not affected, as long as the client reads their heartbeats. {@code 0} disables the timeout.
+     */
+    @ConfigProperty(name = "a2a.jsonrpc.sse.write-timeout", defaultValue = "60S")
+    Duration sseWriteTimeout;
+
+    /**
+     * Whether to compress responses for clients accepting {@code gzip} or {@code deflate} encoded responses.
+     */
+    @ConfigProperty(name = "a2a.jsonrpc.compression.enabled", defaultValue = "true")
+    boolean compressionEnabled;
+
+    /**
+     * Non-streaming responses smaller than this are not compressed, as there is little to gain.
+     */
+    @ConfigProperty(name = "a2a.jsonrpc.compression.min-size", defaultValue = "1K")
+    MemorySize compressionMinSize;
+
+    /**
+     * Whether to subscribe to the events of streaming requests on virtual threads rather than on the internal
+     * executor, as the subscribing thread is blocked for as long as the stream lasts. Ignored if the JVM does
+     * not support virtual threads.
+     */
+    @ConfigProperty(name = "a2a.jsonrpc.streaming.virtual-threads", defaultValue = "false")
+    boolean streamingVirtualThreads;
+
+    private ExecutorService virtualThreadExecutor;
+    private Executor streamingExecutor;
+
+    private volatile EncodedAgentCard encodedAgentCard;
+
+    @PostConstruct
+    void initExecutors() {
+        virtualThreadExecutor = streamingVirtualThreads ? VirtualThreads.newExecutor() : null;
+        streamingExecutor = virtualThreadExecutor != null ? virtualThreadExecutor : executor;
+    }
+
+    @PreDestroy
+    void close() {
+        if (virtualThreadExecutor != null) {
+            virtualThreadExecutor.shutdown();
+        }
+    }
+
+    @RouteFilter
+    void rejectOversizedRequests(RoutingContext rc) {
+        HttpServerRequest request = rc.request();
+        if (request.method() == HttpMethod.POST && "/".equals(rc.normalizedPath())
+                && isTooLarge(request.getHeader(CONTENT_LENGTH))) {
+            rejectOversizedRequest(rc);
+            return;
+        }
+        rc.next();
+    }
+
     @Route(path = "/", methods = {Route.HttpMethod.POST}, consumes = {APPLICATION_JSON}, type = Route.HandlerType.BLOCKING)
-    public void invokeJSONRPCHandler(@Body String body, RoutingContext rc) {
-        boolean streaming = false;
+    public void invokeJSONRPCHandler(@Body Buffer body, RoutingContext rc) {
+        if (body == null) {
+            body = Buffer.buffer();
+        } else if (body.length() > maxBodySize.asLongValue()) {
+            // Chunked requests do not declare their length upfront
+            rejectOversizedRequest(rc);
+            return;
+        }
+
         ServerCallContext context = createCallContext(rc);
+        if (isBatchRequest(body)) {
+            invokeBatch(body, context, rc);
+            return;
+        }
+
+        boolean streaming = false;
         JSONRPCResponse<?> nonStreamingResponse = null;
         Multi<? extends JSONRPCResponse<?>> streamingResponse = null;
         JSONRPCErrorResponse error = null;
 
         try {
-            if (isStreamingRequest(body)) {
-                streaming = true;
-                StreamingJSONRPCRequest<?> request = Utils.OBJECT_MAPPER.readValue(body, StreamingJSONRPCRequest.class);
-                streamingResponse = processStreamingRequest(request, context);
+            // Parse straight from the request bytes rather than decoding them to a String first
+            JSONRPCRequest<?> request = REQUEST_READER.readValue(new ByteBufInputStream(body.getByteBuf()));
+            if (request instanceof StreamingJSONRPCRequest<?> streamingRequest) {
+                InvalidParamsError paramsError = bindStreamingParams(streamingRequest);
+                if (paramsError != null) {
+                    error = new JSONRPCErrorResponse(request.getId(), paramsError);
+                } else {
+                    streaming = true;
+                    streamingResponse = processStreamingRequest(streamingRequest, context);
+                }
             } else {
-                NonStreamingJSONRPCRequest<?> request = Utils.OBJECT_MAPPER.readValue(body, NonStreamingJSONRPCRequest.class);
-                nonStreamingResponse = processNonStreamingRequest(request, context);
+                nonStreamingResponse = processNonStreamingRequest((NonStreamingJSONRPCRequest<?>) request, context);
             }
         } catch (JsonProcessingException e) {
             error = handleError(e);
@@ -110,21 +282,247 @@ public class A2AServerRoutes {
                 rc.response()
                         .setStatusCode(200)
                         .putHeader(CONTENT_TYPE, APPLICATION_JSON)
-                        .end(Json.encodeToBuffer(error));
+                        .end(encodeJson(error));
             } else if (streaming) {
                 final Multi<? extends JSONRPCResponse<?>> finalStreamingResponse = streamingResponse;
-                executor.execute(() -> {
+                final String contentEncoding = compressionEnabled
+                        ? ResponseCompression.negotiate(rc.request().getHeader(ACCEPT_ENCODING))
+                        : null;
+                streamingExecutor.execute(() -> {
                         MultiSseSupport.subscribeObject(
-                                finalStreamingResponse.map(i -> (Object)i), rc);
+                                finalStreamingResponse.map(i -> (Object)i), rc, new SseSettings(
+                                        (int) sseMaxBatchSize.asLongValue(), sseMaxBatchDelay.toMillis(),
+                                        sseHeartbeatInterval.toMillis(), sseWriteTimeout.toMillis()),
+                                contentEncoding);
                 });
 
             } else {
-                rc.response()
-                        .setStatusCode(200)
-                        .putHeader(CONTENT_TYPE, APPLICATION_JSON)
-                        .end(Json.encodeToBuffer(nonStreamingResponse));
+                writeJsonResponse(rc, nonStreamingResponse);
+            }
+        }
+    }
+
+    private void invokeBatch(Buffer body, ServerCallContext context, RoutingContext rc) {
+        Object response;
+        try {
+            List<Supplier<JSONRPCResponse<?>>> entries = parseBatch(body, context);
+            if (entries == null || entries.isEmpty()) {
+                response = new JSONRPCErrorResponse(new InvalidRequestError());
+            } else {
+                List<JSONRPCResponse<?>> responses = new ArrayList<>(entries.size());
+                for (JSONRPCResponse<?> entryResponse : processBatch(entries)) {
+                    // Notifications are not answered
+                    if (entryResponse != null) {
+                        responses.add(entryResponse);
+                    }
+                }
+                if (responses.isEmpty()) {
+                    // A batch of notifications has no response body
+                    rc.response().setStatusCode(204).end();
+                    return;
+                }
+                response = responses;
+            }
+        } catch (JsonProcessingException e) {
+            response = handleError(e);
+        } catch (Throwable t) {
+            response = new JSONRPCErrorResponse(new InternalError(t.getMessage()));
+        }
+        writeJsonResponse(rc, response);
+    }
+
+    private static Buffer encodeJson(Object response) {
+        try {
+            return Buffer.buffer(JsonCodec.DEFAULT.writeValueAsBytes(response));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to encode response", e);
+        }
+    }
+
+    private void writeJsonResponse(RoutingContext rc, Object response) {
+        Buffer json = encodeJson(response);
+        HttpServerResponse httpResponse = rc.response()
+                .setStatusCode(200)
+                .putHeader(CONTENT_TYPE, APPLICATION_JSON);
+        String contentEncoding = compressionEnabled && json.length() >= compressionMinSize.asLongValue()
+                ? ResponseCompression.negotiate(rc.request().getHeader(ACCEPT_ENCODING))
+                : null;
+        if (contentEncoding == null) {
+            httpResponse.end(json);
+            return;
+        }
+        byte[] compressed;
+        try {
+            compressed = ResponseCompression.compress(json.getByteBuf(), contentEncoding);
+        } catch (IOException e) {
+            rc.fail(e);
+            return;
+        }
+        httpResponse
+                .putHeader(CONTENT_ENCODING, contentEncoding)
+                .putHeader(VARY, ACCEPT_ENCODING)
+                .end(Buffer.buffer(compressed));
+    }
+
+    /**
+     * Processes the entries of a batch concurrently, as they are independent of each other. The calling thread
+     * takes part, so that the batch completes even if no thread of the internal executor is available.
+     *
+     * @return the responses to the entries, in the order of the entries
+     */
+    private List<JSONRPCResponse<?>> processBatch(List<Supplier<JSONRPCResponse<?>>> entries) {
+        JSONRPCResponse<?>[] responses = new JSONRPCResponse<?>[entries.size()];
+        AtomicInteger nextEntry = new AtomicInteger();
+        Runnable worker = () -> {
+            int i;
+            while ((i = nextEntry.getAndIncrement()) < responses.length) {
+                responses[i] = entries.get(i).get();
+            }
+        };
+        int helpers = Math.min(batchConcurrency, entries.size()) - 1;
+        List<CompletableFuture<Void>> futures = new ArrayList<>(Math.max(0, helpers));
+        for (int i = 0; i < helpers; i++) {
+            try {
+                futures.add(CompletableFuture.runAsync(worker, executor));
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+        }
+        worker.run();
+        futures.forEach(CompletableFuture::join);
+        return Arrays.asList(responses);
+    }
+
+    /**
+     * @return the suppliers of the responses to the entries, or {@code null} if the batch holds more than
+     * {@link #maxBatchSize} entries, which is detected before any entry is parsed
+     */
+    private List<Supplier<JSONRPCResponse<?>>> parseBatch(Buffer body, ServerCallContext context) throws IOException {
+        List<TokenBuffer> buffered = new ArrayList<>();
+        try (JsonParser parser = JsonCodec.DEFAULT.getMapper().createParser(new ByteBufInputStream(body.getByteBuf()))) {
+            parser.nextToken();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (buffered.size() == maxBatchSize) {
+                    return null;
+                }
+                // Buffer each entry, so that an invalid entry does not prevent reading the following ones.
+                // Malformed JSON still fails the whole batch before any entry is processed.
+                TokenBuffer entry = new TokenBuffer(parser);
+                entry.copyCurrentStructure(parser);
+                buffered.add(entry);
+            }
+        }
+        List<Supplier<JSONRPCResponse<?>>> entries = new ArrayList<>(buffered.size());
+        for (TokenBuffer entry : buffered) {
+            entries.add(parseBatchEntry(entry, context));
+        }
+        return entries;
+    }
+
+    /**
+     * @return the supplier of the response to the entry, which supplies {@code null} if the entry is a
+     * notification
+     */
+    private Supplier<JSONRPCResponse<?>> parseBatchEntry(TokenBuffer entry, ServerCallContext context) throws IOException {
+        boolean notification = isNotification(entry);
+        JSONRPCRequest<?> request;
+        try (JsonParser parser = entry.asParser(JsonCodec.DEFAULT.getMapper())) {
+            request = REQUEST_READER.readValue(parser);
+        } catch (JsonProcessingException e) {
+            JSONRPCErrorResponse error = handleError(e);
+            // Entries which are not valid request objects are answered even without an id
+            boolean invalidRequest = error.getError() instanceof InvalidRequestError
+                    || error.getError() instanceof JSONParseError;
+            return notification && !invalidRequest ? () -> null : () -> error;
+        }
+        if (request instanceof NonStreamingJSONRPCRequest<?> nonStreamingRequest) {
+            return () -> {
+                JSONRPCResponse<?> response;
+                try {
+                    response = processNonStreamingRequest(nonStreamingRequest, context);
+                } catch (Throwable t) {
+                    response = new JSONRPCErrorResponse(nonStreamingRequest.getId(), new InternalError(t.getMessage()));
+                }
+                return notification ? null : response;
+            };
+        }
+        if (request != null && notification) {
+            return () -> null;
+        }
+        JSONRPCErrorResponse error = request == null
+                ? new JSONRPCErrorResponse(new InvalidRequestError())
+                : new JSONRPCErrorResponse(request.getId(),
+                        new InvalidRequestError("Streaming methods are not supported in batch requests"));
+        return () -> error;
+    }
+
+    /**
+     * @return {@code true} if the entry is an object without an {@code id} member, which JSON-RPC defines as a
+     * notification that must not be answered
+     */
+    private static boolean isNotification(TokenBuffer entry) throws IOException {
+        try (JsonParser parser = entry.asParser()) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return false;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                if ("id".equals(parser.currentName())) {
+                    return false;
+                }
+                parser.nextToken();
+                parser.skipChildren();
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Binds the params of a streaming request the agent is able to handle, so that invalid params are reported
+     * as a plain JSON error response rather than as an event of the stream.
+     *
+     * @return the error if the params are invalid, otherwise {@code null}
+     */
+    private InvalidParamsError bindStreamingParams(StreamingJSONRPCRequest<?> request) {
+        if (!jsonRpcHandler.getAgentCard().capabilities().streaming()) {
+            // Rejected by the handler without its params being bound
+            return null;
+        }
+        try {
+            request.getParams();
+            return null;
+        } catch (InvalidParamsError e) {
+            return e;
+        }
+    }
+
+    private static boolean isBatchRequest(Buffer body) {
+        for (int i = 0; i < body.length(); i++) {
+            byte b = body.getByte(i);
+            if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                return b == '[';
             }
         }
+        return false;
+    }
+
+    private boolean isTooLarge(String contentLength) {
+        if (contentLength == null) {
+            return false;
+        }
+        try {
+            return Long.parseLong(contentLength) > maxBodySize.asLongValue();
+        } catch (NumberFormatException e) {
+            // Left to Vert.x to reject
+            return false;
+        }
+    }
+
+    private static void rejectOversizedRequest(RoutingContext rc) {
+        // Close the connection so that the rest of the body is not read
+        rc.response()
+                .setStatusCode(413)
+                .putHeader(CONNECTION, "close")
+                .end();
     }
 
     private JSONRPCErrorResponse handleError(JsonProcessingException exception) {
@@ -134,6 +532,8 @@ public class A2AServerRoutes {
             jsonRpcError = new JSONParseError();
         } else if (exception instanceof JsonEOFException) {
             jsonRpcError = new JSONParseError(exception.getMessage());
+        } else if (exception instanceof JsonParseException) {
+            jsonRpcError = new JSONParseError();
         } else if (exception instanceof MethodNotFoundJsonMappingException err) {
             id = err.getId();
             jsonRpcError = new MethodNotFoundError();
@@ -149,16 +549,76 @@ public class A2AServerRoutes {
         return new JSONRPCErrorResponse(id, jsonRpcError);
     }
 
-    /**
     /**
      * Handles incoming GET requests to the agent card endpoint.
-     * Returns the agent card in JSON format.
+     * Returns the agent card in JSON format, gzip compressed if the client accepts it.
+     * <p>
+     * The card is serialized once and the encoded bytes are reused for every request, along with a strong
+     * {@code ETag} so that clients revalidating their cached copy get a {@code 304 Not Modified}.
      *
-     * @return the agent card
+     * @param rc the routing context
      */
     @Route(path = "/.well-known/agent-card.json", methods = Route.HttpMethod.GET, produces = APPLICATION_JSON)
-    public AgentCard getAgentCard() {
-        return jsonRpcHandler.getAgentCard();
+    public void getAgentCard(RoutingContext rc) {
+        EncodedAgentCard encoded;
+        try {
+            encoded = getEncodedAgentCard();
+        } catch (IOException e) {
+            rc.fail(e);
+            return;
+        }
+
+        HttpServerRequest request = rc.request();
+        boolean gzip = encoded.gzip() != null
+                && ResponseCompression.accepts(request.getHeader(ACCEPT_ENCODING), ResponseCompression.GZIP);
+        String etag = gzip ? encoded.gzipETag() : encoded.etag();
+        HttpServerResponse response = rc.response()
+                .putHeader(ETAG, etag)
+                .putHeader(CACHE_CONTROL, "public, max-age=" + agentCardMaxAge.toSeconds())
+                .putHeader(VARY, ACCEPT_ENCODING);
+        if (matchesETag(request.getHeader(IF_NONE_MATCH), etag)) {
+            response.setStatusCode(304).end();
+            return;
+        }
+
+        response.setStatusCode(200).putHeader(CONTENT_TYPE, APPLICATION_JSON);
+        if (gzip) {
+            // Vert.x does not compress responses which already declare an encoding
+            response.putHeader(CONTENT_ENCODING, "gzip").end(encoded.gzip());
+        } else {
+            response.end(encoded.json());
+        }
+    }
+
+    private EncodedAgentCard getEncodedAgentCard() throws IOException {
+        AgentCard agentCard = jsonRpcHandler.getAgentCard();
+        EncodedAgentCard encoded = encodedAgentCard;
+        if (encoded == null || encoded.agentCard() != agentCard) {
+            // Concurrent requests may both encode the card, which is harmless
+            encoded = EncodedAgentCard.encode(agentCard, agentCardGzip);
+            encodedAgentCard = encoded;
+        }
+        return encoded;
+    }
+
+    private static boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        // If-None-Match uses the weak comparison, so a weak validator for the same card also matches
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.equals("*")) {
+                return true;
+            }
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private JSONRPCResponse<?> processNonStreamingRequest(
@@ -201,17 +661,6 @@ public class A2AServerRoutes {
         return new JSONRPCErrorResponse(request.getId(), error);
     }
 
-    private static boolean isStreamingRequest(String requestBody) {
-        try {
-            JsonNode node = Utils.OBJECT_MAPPER.readTree(requestBody);
-            JsonNode method = node != null ? node.get("method") : null;
-            return method != null && (SendStreamingMessageRequest.METHOD.equals(method.asText())
-                    || TaskResubscriptionRequest.METHOD.equals(method.asText()));
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
     static void setStreamingMultiSseSupportSubscribedRunnable(Runnable runnable) {
         streamingMultiSseSupportSubscribedRunnable = runnable;
     }
@@ -252,86 +701,372 @@ public class A2AServerRoutes {
         }
     }
 
+    /**
+     * The public agent card serialized to JSON, with its entity tags.
+     */
+    private record EncodedAgentCard(AgentCard agentCard, Buffer json, String etag, Buffer gzip, String gzipETag) {
+
+        static EncodedAgentCard encode(AgentCard agentCard, boolean gzip) throws IOException {
+            byte[] json = JsonCodec.DEFAULT.writer(AgentCard.class).writeValueAsBytes(agentCard);
+            String hash = hash(json);
+            Buffer gzipped = null;
+            if (gzip) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 2);
+                try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+                    gzipOut.write(json);
+                }
+                gzipped = Buffer.buffer(out.toByteArray());
+            }
+            // Each representation needs its own strong entity tag
+            return new EncodedAgentCard(agentCard, Buffer.buffer(json), "\"" + hash + "\"",
+                    gzipped, "\"" + hash + "-gzip\"");
+        }
+
+        private static String hash(byte[] json) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+                return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+            } catch (NoSuchAlgorithmException e) {
+                // Every Java platform supports SHA-256
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * How SSE streams are written, from the {@code a2a.jsonrpc.sse.*} configuration.
+     */
+    private record SseSettings(int maxBatchBytes, long maxBatchDelayMillis, long heartbeatIntervalMillis,
+                               long writeTimeoutMillis) {
+    }
+
     // Port of import io.quarkus.vertx.web.runtime.MultiSseSupport, which is considered internal API
     private static class MultiSseSupport {
 
+        // An SSE comment, which clients ignore
+        private static final byte[] HEARTBEAT = ":\n\n".getBytes(StandardCharsets.US_ASCII);
+
         private MultiSseSupport() {
             // Avoid direct instantiation.
         }
 
-        private static void initialize(HttpServerResponse response) {
+        private static void initialize(HttpServerResponse response, String contentEncoding) {
             if (response.bytesWritten() == 0) {
                 MultiMap headers = response.headers();
                 if (headers.get("content-type") == null) {
                     headers.set("content-type", "text/event-stream");
                 }
+                if (contentEncoding != null) {
+                    headers.set(CONTENT_ENCODING, contentEncoding);
+                    headers.set(VARY, ACCEPT_ENCODING);
+                }
                 response.setChunked(true);
             }
         }
 
-        private static void onWriteDone(Flow.Subscription subscription, AsyncResult<Void> ar, RoutingContext rc) {
-            if (ar.failed()) {
-                rc.fail(ar.cause());
-            } else {
-                subscription.request(1);
-            }
+        public static void subscribeObject(Multi<Object> multi, RoutingContext rc, SseSettings settings,
+                                           String contentEncoding) {
+            multi.subscribe().withSubscriber(new SseWriter(rc, settings, contentEncoding));
         }
 
-        public static void write(Multi<Buffer> multi, RoutingContext rc) {
-            HttpServerResponse response = rc.response();
-            multi.subscribe().withSubscriber(new Flow.Subscriber<Buffer>() {
-                Flow.Subscription upstream;
+        /**
+         * Writes events as they arrive, coalescing those arriving in quick succession into a single chunk.
+         * <p>
+         * Events are encoded into a pending buffer, which is written once it holds {@code maxBatchBytes}, or
+         * {@code maxBatchDelayMillis} after the first event was added to it, whichever comes first. The next
+         * event is requested as soon as the previous one has been buffered, unless the response's write queue
+         * is full, in which case it is requested once the queue drains.
+         * <p>
+         * The upstream subscription is cancelled as soon as the client disconnects, or a write fails, so that
+         * the task's events stop being consumed for it. Heartbeat comments written on silent streams make sure
+         * that a disconnected client is noticed even when the task produces no events. A client which stays
+         * connected but stops reading is noticed when writes are not accepted for {@code writeTimeoutMillis},
+         * either because the write queue does not drain or because written data is not flushed to the client,
+         * in which case the connection is closed.
+         * <p>
+         * When the stream is compressed, the compressor is flushed after every write, so that the client can
+         * decompress the events as soon as they arrive.
+         */
+        private static class SseWriter implements Flow.Subscriber<Object> {
+            private final RoutingContext rc;
+            private final HttpServerResponse response;
+            private final SseSettings settings;
+            private final ResponseCompression.StreamCompressor compressor;
 
-                @Override
-                public void onSubscribe(Flow.Subscription subscription) {
+            private Flow.Subscription upstream;
+            private long count;
+            private ByteBuf pending;
+            private long flushTimer = -1;
+            private long heartbeatTimer = -1;
+            private long writeTimer = -1;
+            private long lastWriteNanos = System.nanoTime();
+            // Writes handed to the response and not yet flushed, and when one of them was last flushed
+            private long writesInFlight;
+            private long lastFlushedNanos;
+            // When the next event started waiting for the write queue to drain, or -1 if it is not waiting
+            private long drainWaitStartNanos = -1;
+            private boolean done;
+
+            SseWriter(RoutingContext rc, SseSettings settings, String contentEncoding) {
+                this.rc = rc;
+                this.response = rc.response();
+                this.settings = settings;
+                this.compressor = contentEncoding == null ? null : new ResponseCompression.StreamCompressor(contentEncoding);
+            }
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                synchronized (this) {
                     this.upstream = subscription;
-                    this.upstream.request(1);
+                    if (settings.heartbeatIntervalMillis() > 0) {
+                        heartbeatTimer = rc.vertx().setPeriodic(settings.heartbeatIntervalMillis(), id -> onHeartbeat());
+                    }
+                    if (settings.writeTimeoutMillis() > 0) {
+                        writeTimer = rc.vertx().setPeriodic(settings.writeTimeoutMillis(), id -> onWriteCheck());
+                    }
+                }
+                response.closeHandler(v -> onClosed());
+                if (response.closed()) {
+                    // The client disconnected before we subscribed
+                    onClosed();
+                    return;
+                }
+                subscription.request(1);
+
+                // Notify tests that we are subscribed
+                Runnable runnable = streamingMultiSseSupportSubscribedRunnable;
+                if (runnable != null) {
+                    runnable.run();
+                }
+            }
+
+            @Override
+            public void onNext(Object item) {
+                synchronized (this) {
+                    if (done) {
+                        return;
+                    }
+                    try {
+                        pending = SseEventEncoder.POOLED.append(pending, item, count++);
+                    } catch (IOException | RuntimeException e) {
+                        fail(e);
+                        return;
+                    }
+                    if (pending.readableBytes() >= settings.maxBatchBytes() || settings.maxBatchDelayMillis() <= 0) {
+                        flush();
+                    } else if (flushTimer == -1) {
+                        flushTimer = rc.vertx().setTimer(settings.maxBatchDelayMillis(), id -> onFlushTimer());
+                    }
+                }
+                requestNext();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                synchronized (this) {
+                    if (done) {
+                        return;
+                    }
+                    done = true;
+                    discardPending();
+                }
+                rc.fail(throwable);
+            }
 
-                    // Notify tests that we are subscribed
-                    Runnable runnable = streamingMultiSseSupportSubscribedRunnable;
-                    if (runnable != null) {
-                        runnable.run();
+            @Override
+            public void onComplete() {
+                synchronized (this) {
+                    if (done) {
+                        return;
                     }
+                    done = true;
+                    flush();
+                    finishCompression();
+                    cancelTimers();
                 }
+                endOfStream(response);
+            }
 
-                @Override
-                public void onNext(Buffer item) {
-                    initialize(response);
-                    response.write(item, new Handler<AsyncResult<Void>>() {
-                        @Override
-                        public void handle(AsyncResult<Void> ar) {
-                            onWriteDone(upstream, ar, rc);
+            private synchronized void onFlushTimer() {
+                flushTimer = -1;
+                if (!done) {
+                    flush();
+                }
+            }
+
+            private synchronized void onHeartbeat() {
+                if (done || pending != null
+                        || System.nanoTime() - lastWriteNanos < TimeUnit.MILLISECONDS.toNanos(settings.heartbeatIntervalMillis())) {
+                    return;
+                }
+                pending = PooledByteBufAllocator.DEFAULT.buffer(HEARTBEAT.length);
+                pending.writeBytes(HEARTBEAT);
+                flush();
+            }
+
+            private void onWriteCheck() {
+                synchronized (this) {
+                    long now = System.nanoTime();
+                    long timeout = TimeUnit.MILLISECONDS.toNanos(settings.writeTimeoutMillis());
+                    boolean drainTimedOut = drainWaitStartNanos != -1 && now - drainWaitStartNanos >= timeout;
+                    boolean flushTimedOut = writesInFlight > 0 && now - lastFlushedNanos >= timeout;
+                    if (done || !(drainTimedOut || flushTimedOut)) {
+                        return;
+                    }
+                    done = true;
+                    discardPending();
+                }
+                // The client is not reading, so the stream cannot be ended gracefully
+                upstream.cancel();
+                response.close();
+            }
+
+            private void onClosed() {
+                synchronized (this) {
+                    if (done) {
+                        return;
+                    }
+                    done = true;
+                    discardPending();
+                }
+                upstream.cancel();
+            }
+
+            private void requestNext() {
+                if (!response.writeQueueFull()) {
+                    upstream.request(1);
+                    return;
+                }
+                synchronized (this) {
+                    drainWaitStartNanos = System.nanoTime();
+                }
+                AtomicBoolean requested = new AtomicBoolean();
+                Runnable requestOnce = () -> {
+                    if (requested.compareAndSet(false, true)) {
+                        synchronized (this) {
+                            drainWaitStartNanos = -1;
                         }
-                    });
+                        upstream.request(1);
+                    }
+                };
+                response.drainHandler(v -> requestOnce.run());
+                // The queue may have drained before the handler was set
+                if (!response.writeQueueFull()) {
+                    requestOnce.run();
                 }
+            }
 
-                @Override
-                public void onError(Throwable throwable) {
-                    rc.fail(throwable);
+            // Must be called while holding the lock, so that batches are written in order
+            private void flush() {
+                if (flushTimer != -1) {
+                    rc.vertx().cancelTimer(flushTimer);
+                    flushTimer = -1;
+                }
+                if (pending == null) {
+                    return;
                 }
+                ByteBuf batch = pending;
+                pending = null;
+                if (compressor != null) {
+                    ByteBuf compressed = PooledByteBufAllocator.DEFAULT.buffer(batch.readableBytes() / 2 + 64);
+                    try {
+                        compressor.compress(batch, compressed);
+                    } catch (IOException | RuntimeException e) {
+                        compressed.release();
+                        fail(e);
+                        return;
+                    } finally {
+                        batch.release();
+                    }
+                    batch = compressed;
+                }
+                write(batch);
+            }
 
-                @Override
-                public void onComplete() {
-                    endOfStream(response);
+            // Must be called while holding the lock
+            private void finishCompression() {
+                if (compressor == null) {
+                    return;
                 }
-            });
-        }
+                ByteBuf trailer = PooledByteBufAllocator.DEFAULT.buffer(64);
+                try {
+                    compressor.finish(trailer);
+                } catch (IOException | RuntimeException e) {
+                    trailer.release();
+                    rc.fail(e);
+                    return;
+                }
+                write(trailer);
+            }
+
+            // Must be called while holding the lock, so that buffers are written in order
+            private void write(ByteBuf batch) {
+                lastWriteNanos = System.nanoTime();
+                if (writesInFlight++ == 0) {
+                    lastFlushedNanos = lastWriteNanos;
+                }
+                initialize(response, compressor == null ? null : compressor.encoding());
+                response.write(Buffer.buffer(batch), new Handler<AsyncResult<Void>>() {
+                    @Override
+                    public void handle(AsyncResult<Void> ar) {
+                        // Vert.x does not release buffers it is handed, so return it to the pool once written
+                        batch.release();
+                        synchronized (SseWriter.this) {
+                            writesInFlight--;
+                            lastFlushedNanos = System.nanoTime();
+                        }
+                        if (ar.failed()) {
+                            onWriteFailed(ar.cause());
+                        }
+                    }
+                });
+            }
 
-        public static void subscribeObject(Multi<Object> multi, RoutingContext rc) {
-            AtomicLong count = new AtomicLong();
-            write(multi.map(new Function<Object, Buffer>() {
-                @Override
-                public Buffer apply(Object o) {
-                    if (o instanceof ReactiveRoutes.ServerSentEvent) {
-                        ReactiveRoutes.ServerSentEvent<?> ev = (ReactiveRoutes.ServerSentEvent<?>) o;
-                        long id = ev.id() != -1 ? ev.id() : count.getAndIncrement();
-                        String e = ev.event() == null ? "" : "event: " + ev.event() + "\n";
-                        return Buffer.buffer(e + "data: " + Json.encodeToBuffer(ev.data()) + "\nid: " + id + "\n\n");
-                    } else {
-                        return Buffer.buffer("data: " + Json.encodeToBuffer(o) + "\nid: " + count.getAndIncrement() + "\n\n");
+            private void onWriteFailed(Throwable cause) {
+                synchronized (this) {
+                    if (done) {
+                        return;
                     }
+                    done = true;
+                    discardPending();
+                }
+                upstream.cancel();
+                rc.fail(cause);
+            }
+
+            // Must be called while holding the lock
+            private void fail(Throwable cause) {
+                done = true;
+                discardPending();
+                upstream.cancel();
+                rc.fail(cause);
+            }
+
+            private void discardPending() {
+                cancelTimers();
+                if (pending != null) {
+                    pending.release();
+                    pending = null;
                 }
-            }), rc);
+                if (compressor != null) {
+                    compressor.discard();
+                }
+            }
+
+            private void cancelTimers() {
+                if (flushTimer != -1) {
+                    rc.vertx().cancelTimer(flushTimer);
+                    flushTimer = -1;
+                }
+                if (heartbeatTimer != -1) {
+                    rc.vertx().cancelTimer(heartbeatTimer);
+                    heartbeatTimer = -1;
+                }
+                if (writeTimer != -1) {
+                    rc.vertx().cancelTimer(writeTimer);
+                    writeTimer = -1;
+                }
+            }
         }
 
         private static void endOfStream(HttpServerResponse response) {
@@ -0,0 +1,180 @@
+package io.a2a.server.apps.quarkus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Compression of JSON-RPC responses, negotiated from the request's {@code Accept-Encoding} header.
+ */
+final class ResponseCompression {
+
+    static final String GZIP = "gzip";
+    static final String DEFLATE = "deflate";
+
+    private ResponseCompression() {
+        // Avoid direct instantiation.
+    }
+
+    /**
+     * Picks the content coding to use for a response.
+     *
+     * @param acceptEncoding the request's {@code Accept-Encoding} header, may be {@code null}
+     * @return {@link #GZIP}, {@link #DEFLATE}, or {@code null} if the response should not be compressed
+     */
+    static String negotiate(String acceptEncoding) {
+        double gzipQuality = quality(acceptEncoding, GZIP);
+        double deflateQuality = quality(acceptEncoding, DEFLATE);
+        if (gzipQuality <= 0 && deflateQuality <= 0) {
+            return null;
+        }
+        return gzipQuality >= deflateQuality ? GZIP : DEFLATE;
+    }
+
+    /**
+     * @param acceptEncoding the request's {@code Accept-Encoding} header, may be {@code null}
+     * @param coding the content coding
+     * @return whether the client accepts responses in the given content coding
+     */
+    static boolean accepts(String acceptEncoding, String coding) {
+        return quality(acceptEncoding, coding) > 0;
+    }
+
+    private static double quality(String acceptEncoding, String coding) {
+        if (acceptEncoding == null) {
+            return 0;
+        }
+        double wildcardQuality = 0;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parameters = element.split(";");
+            String name = parameters[0].trim();
+            if (name.equalsIgnoreCase(coding)) {
+                return quality(parameters);
+            } else if (name.equals("*")) {
+                // Applies to codings not listed explicitly
+                wildcardQuality = quality(parameters);
+            }
+        }
+        return wildcardQuality;
+    }
+
+    private static double quality(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Compresses the readable bytes of {@code data}, without consuming them.
+     */
+    static byte[] compress(ByteBuf data, String encoding) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.readableBytes() / 4));
+        try (DeflaterOutputStream compressed = createStream(out, encoding, false)) {
+            data.getBytes(data.readerIndex(), compressed, data.readableBytes());
+        }
+        return out.toByteArray();
+    }
+
+    private static DeflaterOutputStream createStream(OutputStream out, String encoding, boolean syncFlush)
+            throws IOException {
+        if (GZIP.equals(encoding)) {
+            return new GZIPOutputStream(out, syncFlush);
+        }
+        return new DeflaterOutputStream(out, syncFlush);
+    }
+
+    /**
+     * Compresses a stream of events as a single compressed body, flushing the compressor after every batch of
+     * events so that the client can decompress each one as soon as it arrives, rather than when the stream ends.
+     * Not thread safe.
+     */
+    static final class StreamCompressor {
+        private final String encoding;
+        private final ByteBufSink sink = new ByteBufSink();
+        private DeflaterOutputStream compressed;
+
+        StreamCompressor(String encoding) {
+            this.encoding = encoding;
+        }
+
+        String encoding() {
+            return encoding;
+        }
+
+        /**
+         * Compresses the readable bytes of {@code events} into {@code target}.
+         */
+        void compress(ByteBuf events, ByteBuf target) throws IOException {
+            sink.target = target;
+            try {
+                if (compressed == null) {
+                    // Writes the header, if any
+                    compressed = createStream(sink, encoding, true);
+                }
+                events.readBytes(compressed, events.readableBytes());
+                compressed.flush();
+            } finally {
+                sink.target = null;
+            }
+        }
+
+        /**
+         * Writes the end of the compressed stream into {@code target}, and releases the compressor.
+         */
+        void finish(ByteBuf target) throws IOException {
+            sink.target = target;
+            try {
+                if (compressed == null) {
+                    compressed = createStream(sink, encoding, true);
+                }
+                compressed.close();
+            } finally {
+                sink.target = null;
+            }
+        }
+
+        /**
+         * Releases the compressor without writing the end of the compressed stream, when the stream is aborted.
+         */
+        void discard() {
+            if (compressed != null) {
+                try {
+                    // Nothing is written, as the sink has no target
+                    compressed.close();
+                } catch (IOException e) {
+                    // Cannot happen, the sink does not throw
+                }
+            }
+        }
+    }
+
+    private static final class ByteBufSink extends OutputStream {
+        private ByteBuf target;
+
+        @Override
+        public void write(int b) {
+            if (target != null) {
+                target.writeByte(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            if (target != null) {
+                target.writeBytes(b, off, len);
+            }
+        }
+    }
+}
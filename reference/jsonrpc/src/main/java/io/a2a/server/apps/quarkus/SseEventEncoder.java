@@ -0,0 +1,78 @@
+package io.a2a.server.apps.quarkus;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import io.a2a.util.JsonCodec;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.quarkus.vertx.web.ReactiveRoutes;
+
+/**
+ * Encodes server-sent events, writing the SSE framing and the JSON of the event data straight into a buffer,
+ * rather than building the event as a {@code String} and encoding it again.
+ */
+final class SseEventEncoder {
+
+    static final SseEventEncoder POOLED = new SseEventEncoder(PooledByteBufAllocator.DEFAULT);
+
+    private static final byte[] EVENT_PREFIX = "event: ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] DATA_PREFIX = "data: ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ID_PREFIX = "\nid: ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] EVENT_END = "\n\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final ByteBufAllocator allocator;
+
+    SseEventEncoder(ByteBufAllocator allocator) {
+        this.allocator = allocator;
+    }
+
+    /**
+     * Appends an event to a buffer.
+     *
+     * @param buf the buffer to append the event to, or {@code null} to append it to a new buffer
+     * @param o the event, either a {@link ReactiveRoutes.ServerSentEvent} or its data
+     * @param count the id of the event, unless it is a {@code ServerSentEvent} with an id of its own
+     * @return the buffer the event was appended to
+     * @throws IOException if the data could not be serialized, in which case {@code buf} is left as it was, and
+     * a new buffer is released
+     */
+    ByteBuf append(ByteBuf buf, Object o, long count) throws IOException {
+        String event = null;
+        Object data = o;
+        long id = count;
+        if (o instanceof ReactiveRoutes.ServerSentEvent<?> ev) {
+            event = ev.event();
+            data = ev.data();
+            id = ev.id() != -1 ? ev.id() : count;
+        }
+
+        ByteBuf target = buf != null ? buf : allocator.buffer();
+        int start = target.writerIndex();
+        try {
+            if (event != null) {
+                target.writeBytes(EVENT_PREFIX);
+                target.writeCharSequence(event, StandardCharsets.UTF_8);
+                target.writeByte('\n');
+            }
+            target.writeBytes(DATA_PREFIX);
+            JsonCodec.DEFAULT.writer(data == null ? Object.class : data.getClass())
+                    .writeValue((OutputStream) new ByteBufOutputStream(target), data);
+            target.writeBytes(ID_PREFIX);
+            target.writeCharSequence(Long.toString(id), StandardCharsets.US_ASCII);
+            target.writeBytes(EVENT_END);
+            return target;
+        } catch (IOException | RuntimeException e) {
+            if (target != buf) {
+                target.release();
+            } else {
+                // Drop the partially written event
+                target.writerIndex(start);
+            }
+            throw e;
+        }
+    }
+}
@@ -1,7 +1,30 @@
 package io.a2a.server.apps.quarkus;
 
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import jakarta.ws.rs.core.MediaType;
+
+import io.a2a.client.A2AClient;
 import io.a2a.server.apps.common.AbstractA2AServerTest;
+import io.a2a.spec.AgentCard;
+import io.a2a.spec.GetTaskResponse;
+import io.a2a.spec.InvalidRequestError;
+import io.a2a.spec.JSONRPCErrorResponse;
+import io.a2a.spec.MethodNotFoundError;
+import io.a2a.spec.Task;
+import io.a2a.spec.TaskNotFoundError;
+import io.a2a.spec.TaskQueryParams;
+import io.a2a.spec.TaskState;
+import io.a2a.spec.TaskStatus;
 import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Test;
 
 @QuarkusTest
 public class QuarkusA2AJSONRPCTest extends AbstractA2AServerTest {
@@ -9,4 +32,171 @@ public class QuarkusA2AJSONRPCTest extends AbstractA2AServerTest {
     public QuarkusA2AJSONRPCTest() {
         super(8081);
     }
+
+    @Test
+    public void testOversizedRequestIsRejected() {
+        // a2a.jsonrpc.max-body-size is 1M in the test configuration
+        String text = "a".repeat(2 * 1024 * 1024);
+        String request = """
+            {"jsonrpc": "2.0", "method": "message/send", "id": "1", "params": {"message": {"role": "user",
+             "parts": [{"kind": "text", "text": "%s"}], "messageId": "message-1234", "kind": "message"}}}
+            """.formatted(text);
+        given()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(request)
+                .when()
+                .post("/")
+                .then()
+                .statusCode(413);
+    }
+
+    @Test
+    public void testBatchRequest() throws Exception {
+        Task task = new Task.Builder()
+                .id("batch-task-123")
+                .contextId("session-xyz")
+                .status(new TaskStatus(TaskState.WORKING))
+                .build();
+        saveTaskInTaskStore(task);
+        try {
+            A2AClient client = new A2AClient("http://localhost:8081");
+            List<GetTaskResponse> responses = client.getTasks(List.of(
+                    new TaskQueryParams("batch-task-123"), new TaskQueryParams("non-existent-task")));
+
+            assertEquals(2, responses.size());
+            assertNull(responses.get(0).getError());
+            assertEquals("batch-task-123", responses.get(0).getResult().getId());
+            assertEquals(new TaskNotFoundError().getCode(), responses.get(1).getError().getCode());
+        } finally {
+            deleteTaskInTaskStore(task.getId());
+        }
+    }
+
+    @Test
+    public void testEmptyBatchRequest() {
+        JSONRPCErrorResponse response = given()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body("[]")
+                .when()
+                .post("/")
+                .then()
+                .statusCode(200)
+                .extract()
+                .as(JSONRPCErrorResponse.class);
+        assertEquals(new InvalidRequestError().getCode(), response.getError().getCode());
+    }
+
+    @Test
+    public void testOversizedBatchRequestIsRejected() {
+        // a2a.jsonrpc.max-batch-size is 10 in the test configuration. The batch is rejected once its eleventh
+        // entry is reached, before the rest of the body, which is not even valid JSON, is read.
+        String entry = """
+            {"jsonrpc": "2.0", "method": "tasks/get", "id": "1", "params": {"id": "non-existent-task"}},
+            """;
+        String request = "[" + entry.repeat(11) + "{\"jsonrpc\":";
+        JSONRPCErrorResponse response = given()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(request)
+                .when()
+                .post("/")
+                .then()
+                .statusCode(200)
+                .extract()
+                .as(JSONRPCErrorResponse.class);
+        assertEquals(new InvalidRequestError().getCode(), response.getError().getCode());
+    }
+
+    @Test
+    public void testBatchRequestWithInvalidEntries() {
+        String request = """
+            [{"jsonrpc": "2.0", "method": "tasks/resubscribe", "id": "1", "params": {"id": "task-123"}},
+             {"jsonrpc": "2.0", "method": "nonexistent/method", "id": "2", "params": {}},
+             1]
+            """;
+        JSONRPCErrorResponse[] responses = given()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(request)
+                .when()
+                .post("/")
+                .then()
+                .statusCode(200)
+                .extract()
+                .as(JSONRPCErrorResponse[].class);
+        assertEquals(3, responses.length);
+        assertEquals("1", responses[0].getId());
+        assertEquals(new InvalidRequestError().getCode(), responses[0].getError().getCode());
+        assertEquals("2", responses[1].getId());
+        assertEquals(new MethodNotFoundError().getCode(), responses[1].getError().getCode());
+        assertEquals(new InvalidRequestError().getCode(), responses[2].getError().getCode());
+    }
+
+    @Test
+    public void testBatchRequestWithNotifications() {
+        String request = """
+            [{"jsonrpc": "2.0", "method": "tasks/get", "params": {"id": "non-existent-task"}},
+             {"jsonrpc": "2.0", "method": "nonexistent/method", "params": {}},
+             {"jsonrpc": "2.0", "method": "tasks/get", "id": "1", "params": {"id": "non-existent-task"}}]
+            """;
+        JSONRPCErrorResponse[] responses = given()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(request)
+                .when()
+                .post("/")
+                .then()
+                .statusCode(200)
+                .extract()
+                .as(JSONRPCErrorResponse[].class);
+        assertEquals(1, responses.length);
+        assertEquals("1", responses[0].getId());
+        assertEquals(new TaskNotFoundError().getCode(), responses[0].getError().getCode());
+    }
+
+    @Test
+    public void testBatchRequestWithOnlyNotifications() {
+        String request = """
+            [{"jsonrpc": "2.0", "method": "tasks/get", "params": {"id": "non-existent-task"}}]
+            """;
+        String body = given()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(request)
+                .when()
+                .post("/")
+                .then()
+                .statusCode(204)
+                .extract()
+                .asString();
+        assertEquals("", body);
+    }
+
+    @Test
+    public void testAgentCardRevalidation() {
+        Response response = given()
+                .header("Accept-Encoding", "identity")
+                .when()
+                .get("/.well-known/agent-card.json");
+        response.then()
+                .statusCode(200)
+                .header("Cache-Control", "public, max-age=300");
+        String etag = response.getHeader("ETag");
+        assertNotNull(etag);
+        assertEquals("test-card", response.as(AgentCard.class).name());
+
+        given()
+                .header("Accept-Encoding", "identity")
+                .header("If-None-Match", etag)
+                .when()
+                .get("/.well-known/agent-card.json")
+                .then()
+                .statusCode(304);
+
+        Response gzipResponse = given()
+                .header("Accept-Encoding", "gzip")
+                .when()
+                .get("/.well-known/agent-card.json");
+        gzipResponse.then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip");
+        assertNotEquals(etag, gzipResponse.getHeader("ETag"));
+        assertEquals("test-card", gzipResponse.as(AgentCard.class).name());
+    }
 }
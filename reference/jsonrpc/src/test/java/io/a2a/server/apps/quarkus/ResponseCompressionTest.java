@@ -0,0 +1,55 @@
+package io.a2a.server.apps.quarkus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+public class ResponseCompressionTest {
+
+    @Test
+    public void testNegotiate() {
+        assertNull(ResponseCompression.negotiate(null));
+        assertNull(ResponseCompression.negotiate("identity"));
+        assertNull(ResponseCompression.negotiate("gzip;q=0, deflate;q=0"));
+        assertNull(ResponseCompression.negotiate("br"));
+        assertEquals("gzip", ResponseCompression.negotiate("gzip, deflate, br"));
+        assertEquals("gzip", ResponseCompression.negotiate("*"));
+        assertEquals("deflate", ResponseCompression.negotiate("gzip;q=0.5, deflate"));
+        assertEquals("deflate", ResponseCompression.negotiate("gzip;q=0, *"));
+    }
+
+    @Test
+    public void testStreamCompressorFlushesEachWrite() throws IOException {
+        ResponseCompression.StreamCompressor compressor = new ResponseCompression.StreamCompressor("gzip");
+        ByteBuf body = Unpooled.buffer();
+
+        compressor.compress(Unpooled.copiedBuffer("data: 1\n\n", StandardCharsets.UTF_8), body);
+        // Everything written so far can be decompressed before the stream is finished
+        byte[] firstEvent = new byte[9];
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(copy(body)))) {
+            assertEquals(9, in.readNBytes(firstEvent, 0, 9));
+        }
+        assertEquals("data: 1\n\n", new String(firstEvent, StandardCharsets.UTF_8));
+
+        compressor.compress(Unpooled.copiedBuffer("data: 2\n\n", StandardCharsets.UTF_8), body);
+        compressor.finish(body);
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(copy(body)))) {
+            assertEquals("data: 1\n\ndata: 2\n\n", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private static byte[] copy(ByteBuf buf) {
+        byte[] bytes = new byte[buf.readableBytes()];
+        buf.getBytes(buf.readerIndex(), bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,110 @@
+package io.a2a.server.apps.quarkus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.a2a.spec.Message;
+import io.a2a.spec.SendStreamingMessageResponse;
+import io.a2a.spec.TextPart;
+import io.a2a.util.Utils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.quarkus.vertx.web.ReactiveRoutes;
+import org.junit.jupiter.api.Test;
+
+public class SseEventEncoderTest {
+
+    private static final SendStreamingMessageResponse RESPONSE = new SendStreamingMessageResponse("1",
+            new Message.Builder()
+                    .role(Message.Role.AGENT)
+                    .messageId("message-1")
+                    .parts(new TextPart("Héllo, wörld"))
+                    .build());
+
+    private final List<ByteBuf> allocated = new ArrayList<>();
+    private final SseEventEncoder encoder = new SseEventEncoder(new UnpooledByteBufAllocator(false) {
+        @Override
+        protected ByteBuf newHeapBuffer(int initialCapacity, int maxCapacity) {
+            ByteBuf buf = super.newHeapBuffer(initialCapacity, maxCapacity);
+            allocated.add(buf);
+            return buf;
+        }
+    });
+
+    @Test
+    public void testFramingMatchesStringEncoding() throws Exception {
+        String json = Utils.OBJECT_MAPPER.writeValueAsString(RESPONSE);
+
+        assertEquals("data: " + json + "\nid: 3\n\n", encode(RESPONSE, 3));
+        assertEquals("event: mëssage\ndata: " + json + "\nid: 42\n\n", encode(event("mëssage", RESPONSE, 42), 3));
+        assertEquals("data: " + json + "\nid: 3\n\n", encode(event(null, RESPONSE, -1), 3));
+        assertEquals("data: null\nid: 0\n\n", encode(null, 0));
+    }
+
+    @Test
+    public void testEventsAreAppended() throws Exception {
+        ByteBuf buf = encoder.append(null, RESPONSE, 0);
+        assertSame(buf, encoder.append(buf, RESPONSE, 1));
+        String event = "data: " + Utils.OBJECT_MAPPER.writeValueAsString(RESPONSE) + "\nid: ";
+        assertEquals(event + "0\n\n" + event + "1\n\n", buf.toString(StandardCharsets.UTF_8));
+        buf.release();
+    }
+
+    @Test
+    public void testNewBufferIsReleasedOnSerializationFailure() {
+        assertThrows(IOException.class, () -> encoder.append(null, new Unserializable(), 0));
+        assertEquals(1, allocated.size());
+        assertEquals(0, allocated.get(0).refCnt());
+    }
+
+    @Test
+    public void testPartialEventIsDroppedOnSerializationFailure() throws Exception {
+        ByteBuf buf = encoder.append(null, RESPONSE, 0);
+        String first = buf.toString(StandardCharsets.UTF_8);
+
+        assertThrows(IOException.class, () -> encoder.append(buf, new Unserializable(), 1));
+        assertEquals(first, buf.toString(StandardCharsets.UTF_8));
+        assertEquals(1, buf.refCnt());
+        buf.release();
+    }
+
+    private String encode(Object o, long count) throws IOException {
+        ByteBuf buf = encoder.append(null, o, count);
+        try {
+            return buf.toString(StandardCharsets.UTF_8);
+        } finally {
+            buf.release();
+        }
+    }
+
+    private static ReactiveRoutes.ServerSentEvent<Object> event(String name, Object data, long id) {
+        return new ReactiveRoutes.ServerSentEvent<>() {
+            @Override
+            public String event() {
+                return name;
+            }
+
+            @Override
+            public Object data() {
+                return data;
+            }
+
+            @Override
+            public long id() {
+                return id;
+            }
+        };
+    }
+
+    public static class Unserializable {
+        public String getValue() {
+            throw new IllegalStateException("Not serializable");
+        }
+    }
+}
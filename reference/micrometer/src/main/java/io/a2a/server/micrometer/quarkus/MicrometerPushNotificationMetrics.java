@@ -0,0 +1,126 @@
+package io.a2a.server.micrometer.quarkus;
+
+import java.net.URI;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import io.a2a.server.tasks.PushNotificationMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Binds the push notification instrumentation to Micrometer, so that it is exposed on the Quarkus
+ * metrics endpoint once a registry such as {@code quarkus-micrometer-registry-prometheus} is added
+ * to the application.
+ *
+ * Meters are tagged with the host and port of the webhook rather than the full URL, to keep the
+ * number of time series bounded. They are registered once per endpoint, however many webhook URLs
+ * it serves.
+ */
+@ApplicationScoped
+public class MicrometerPushNotificationMetrics implements PushNotificationMetrics {
+
+    private final MeterRegistry registry;
+    private final ConcurrentMap<String, EndpointMeters> endpointMeters = new ConcurrentHashMap<>();
+
+    @Inject
+    public MicrometerPushNotificationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void deliveryStarted(String url) {
+        meters(url).inFlight.incrementAndGet();
+    }
+
+    @Override
+    public void deliveryFinished(String url, Outcome outcome, long latencyNanos) {
+        EndpointMeters meters = meters(url);
+        meters.inFlight.decrementAndGet();
+        meters.deliveries.get(outcome).record(latencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void notificationsRejected(String url, int count) {
+        meters(url).rejected.increment(count);
+    }
+
+    @Override
+    public void notificationAcknowledged(String url, long lagNanos) {
+        meters(url).lag.record(lagNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void backlogChanged(String url, int delta) {
+        meters(url).backlog.addAndGet(delta);
+    }
+
+    private EndpointMeters meters(String url) {
+        return endpointMeters.computeIfAbsent(endpoint(url), EndpointMeters::new);
+    }
+
+    static String endpoint(String url) {
+        try {
+            URI uri = URI.create(url);
+            if (uri.getHost() != null) {
+                return uri.getPort() == -1 ? uri.getHost() : uri.getHost() + ":" + uri.getPort();
+            }
+            // Host names which are not valid, such as those with underscores, are only parsed as an authority
+            String authority = uri.getRawAuthority();
+            if (authority == null) {
+                // Opaque or relative URI
+                return "unknown";
+            }
+            // Keep credentials out of the tags
+            return authority.substring(authority.lastIndexOf('@') + 1);
+        } catch (IllegalArgumentException e) {
+            return "invalid";
+        }
+    }
+
+    private class EndpointMeters {
+        private final Map<Outcome, Timer> deliveries = new EnumMap<>(Outcome.class);
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger backlog = new AtomicInteger();
+        private final Counter rejected;
+        private final Timer lag;
+
+        EndpointMeters(String endpoint) {
+            for (Outcome outcome : Outcome.values()) {
+                deliveries.put(outcome, Timer.builder("a2a.push.delivery")
+                        .description("Latency of push notification POSTs")
+                        .tag("endpoint", endpoint)
+                        .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                        .publishPercentileHistogram()
+                        .register(registry));
+            }
+            Gauge.builder("a2a.push.deliveries.in.flight", inFlight, AtomicInteger::get)
+                    .description("Push notification POSTs currently in progress")
+                    .tag("endpoint", endpoint)
+                    .register(registry);
+            Gauge.builder("a2a.push.backlog", backlog, AtomicInteger::get)
+                    .description("Push notifications waiting to be acknowledged")
+                    .tag("endpoint", endpoint)
+                    .register(registry);
+            rejected = Counter.builder("a2a.push.rejected")
+                    .description("Push notifications that were not delivered")
+                    .tag("endpoint", endpoint)
+                    .register(registry);
+            lag = Timer.builder("a2a.push.acknowledgement.lag")
+                    .description("Time from a task update being produced to the webhook acknowledging it")
+                    .tag("endpoint", endpoint)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.a2a.server.micrometer.quarkus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import io.a2a.server.tasks.PushNotificationMetrics.Outcome;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+public class MicrometerPushNotificationMetricsTest {
+
+    @Test
+    public void testEndpoint() {
+        assertEquals("example.com", MicrometerPushNotificationMetrics.endpoint("https://example.com/notify"));
+        assertEquals("example.com:8443", MicrometerPushNotificationMetrics.endpoint("https://example.com:8443/notify"));
+        // java.net.URI does not parse the host of host names with underscores
+        assertEquals("my_host:8080", MicrometerPushNotificationMetrics.endpoint("http://my_host:8080/notify"));
+        assertEquals("my_host", MicrometerPushNotificationMetrics.endpoint("http://user:secret@my_host/notify"));
+        assertEquals("unknown", MicrometerPushNotificationMetrics.endpoint("mailto:someone@example.com"));
+        assertEquals("unknown", MicrometerPushNotificationMetrics.endpoint("/notify"));
+        assertEquals("invalid", MicrometerPushNotificationMetrics.endpoint("http://exa mple.com"));
+    }
+
+    @Test
+    public void testUrlWithoutHost() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerPushNotificationMetrics metrics = new MicrometerPushNotificationMetrics(registry);
+
+        metrics.deliveryStarted("http://my_host:8080/notify");
+        metrics.deliveryFinished("http://my_host:8080/notify", Outcome.SUCCESS, 1000);
+        metrics.backlogChanged("/notify", 1);
+
+        assertNotNull(registry.find("a2a.push.delivery").tags("endpoint", "my_host:8080", "outcome", "success").timer());
+        assertNotNull(registry.find("a2a.push.backlog").tag("endpoint", "unknown").gauge());
+    }
+}
@@ -1,7 +1,9 @@
 package io.a2a.server;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import io.a2a.server.auth.User;
 
@@ -10,6 +12,8 @@ public class ServerCallContext {
     private final Map<Object, Object> modelConfig = new ConcurrentHashMap<>();
     private final Map<String, Object> state;
     private final User user;
+    private final List<CancelCallback> cancelCallbacks = new CopyOnWriteArrayList<>();
+    private volatile boolean cancelled;
 
     public ServerCallContext(User user, Map<String, Object> state) {
         this.user = user;
@@ -23,4 +27,65 @@ public class ServerCallContext {
     public User getUser() {
         return user;
     }
+
+    /**
+     * @return whether the caller went away before the call completed, for instance by cancelling it or by
+     * letting its deadline expire
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Registers a callback to run when the call is cancelled, or straight away if it already is.
+     *
+     * @param callback the callback
+     * @return the registration of the callback, to remove it once it is no longer needed
+     */
+    public Registration addCancelCallback(Runnable callback) {
+        CancelCallback registration = new CancelCallback(callback);
+        cancelCallbacks.add(registration);
+        if (cancelled && cancelCallbacks.remove(registration)) {
+            callback.run();
+        }
+        return registration;
+    }
+
+    /**
+     * Cancels the call, running the registered callbacks. Called by the transport once the caller went away.
+     */
+    public void cancel() {
+        cancelled = true;
+        for (CancelCallback registration : cancelCallbacks) {
+            // Removing the callback first ensures it only runs once when cancelling concurrently
+            if (cancelCallbacks.remove(registration)) {
+                registration.callback.run();
+            }
+        }
+    }
+
+    /**
+     * The registration of a cancel callback.
+     */
+    public interface Registration {
+
+        /**
+         * Removes the callback, which then no longer runs when the call is cancelled.
+         */
+        void remove();
+    }
+
+    // Compared by identity, so that the same callback can be registered and removed several times
+    private final class CancelCallback implements Registration {
+        private final Runnable callback;
+
+        CancelCallback(Runnable callback) {
+            this.callback = callback;
+        }
+
+        @Override
+        public void remove() {
+            cancelCallbacks.remove(this);
+        }
+    }
 }
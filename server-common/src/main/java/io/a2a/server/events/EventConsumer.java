@@ -1,6 +1,7 @@
 package io.a2a.server.events;
 
 import java.util.concurrent.Flow;
+import java.util.function.Consumer;
 
 import io.a2a.spec.A2AServerException;
 import io.a2a.spec.Event;
@@ -8,12 +9,14 @@ import io.a2a.spec.Message;
 import io.a2a.spec.Task;
 import io.a2a.spec.TaskStatusUpdateEvent;
 import mutiny.zero.BackpressureStrategy;
+import mutiny.zero.Tube;
 import mutiny.zero.TubeConfiguration;
 import mutiny.zero.ZeroPublisher;
 
 public class EventConsumer {
     private final EventQueue queue;
     private Throwable error;
+    private volatile Consumer<Event> undeliveredEventHandler;
 
     private static final String ERROR_MSG = "Agent did not return any response";
     private static final int NO_WAIT = -1;
@@ -31,14 +34,50 @@ public class EventConsumer {
         return event;
     }
 
+    /**
+     * Sets the handler of the events consumed from a main queue once the subscriber of {@link #consumeAll()}
+     * cancelled, for instance because the client disconnected.
+     * <p>
+     * With a handler, the main queue is still drained up to the final event of the task, so that the events
+     * keep being processed and the agent is not blocked by a full queue. The last event sent before the
+     * cancellation is passed to the handler as well, since it may not have reached the subscriber. Without a
+     * handler, consumption stops when the subscriber cancels. A tapped queue is always detached instead.
+     *
+     * @param handler the handler of the undelivered events
+     */
+    public void setUndeliveredEventHandler(Consumer<Event> handler) {
+        this.undeliveredEventHandler = handler;
+    }
+
     public Flow.Publisher<Event> consumeAll() {
         TubeConfiguration conf = new TubeConfiguration()
                 .withBackpressureStrategy(BackpressureStrategy.BUFFER)
                 .withBufferSize(256);
         return ZeroPublisher.create(conf, tube -> {
+            // Events are only dequeued once the subscriber has requested them, so that a slow subscriber leaves
+            // them in the queue, which blocks the agent once it is full
+            Object demandSignal = new Object();
+            tube.whenRequested(n -> {
+                synchronized (demandSignal) {
+                    demandSignal.notifyAll();
+                }
+            });
             boolean completed = false;
+            Event lastSent = null;
             try {
                 while (true) {
+                    if (tube.cancelled()) {
+                        // The subscriber went away, e.g. the client disconnected
+                        completed = true;
+                        Consumer<Event> handler = undeliveredEventHandler;
+                        if (queue instanceof EventQueue.MainQueue && handler != null) {
+                            drainUndelivered(handler, lastSent);
+                        } else {
+                            // Detach a tapped queue so that events are no longer delivered to it
+                            queue.untap();
+                        }
+                        return;
+                    }
                     if (error != null) {
                         completed = true;
                         tube.fail(error);
@@ -53,6 +92,9 @@ public class EventConsumer {
                     // TODO the callback mentioned above seems unused in the Python 0.2.1 tag
                     Event event;
                     try {
+                        if (!awaitDemand(tube, demandSignal)) {
+                            continue;
+                        }
                         event = queue.dequeueEvent(QUEUE_WAIT_MILLISECONDS);
                         if (event == null) {
                             continue;
@@ -61,6 +103,7 @@ public class EventConsumer {
                             tube.fail(thr);
                             return;
                         }
+                        lastSent = event;
                         tube.send(event);
                     } catch (EventQueueClosedException e) {
                         completed = true;
@@ -71,23 +114,7 @@ public class EventConsumer {
                         return;
                     }
 
-                    boolean isFinalEvent = false;
-                    if (event instanceof TaskStatusUpdateEvent tue && tue.isFinal()) {
-                        isFinalEvent = true;
-                    } else if (event instanceof Message) {
-                        isFinalEvent = true;
-                    } else if (event instanceof Task task) {
-                        switch (task.getStatus().state()) {
-                            case COMPLETED:
-                            case CANCELED:
-                            case FAILED:
-                            case REJECTED:
-                            case UNKNOWN:
-                                isFinalEvent = true;
-                        }
-                    }
-
-                    if (isFinalEvent) {
+                    if (isFinalEvent(event)) {
                         queue.close();
                         break;
                     }
@@ -100,6 +127,73 @@ public class EventConsumer {
         });
     }
 
+    /**
+     * Passes the events of the main queue to the handler, without waiting for demand, until the final event
+     * of the task, or the agent fails.
+     */
+    private void drainUndelivered(Consumer<Event> handler, Event lastSent) {
+        if (lastSent != null) {
+            handler.accept(lastSent);
+            if (isFinalEvent(lastSent)) {
+                return;
+            }
+        }
+        try {
+            while (error == null) {
+                Event event = queue.dequeueEvent(QUEUE_WAIT_MILLISECONDS);
+                if (event == null) {
+                    continue;
+                }
+                if (event instanceof Throwable) {
+                    return;
+                }
+                handler.accept(event);
+                if (isFinalEvent(event)) {
+                    queue.close();
+                    return;
+                }
+            }
+        } catch (EventQueueClosedException e) {
+            // Nothing left to consume
+        }
+    }
+
+    private static boolean isFinalEvent(Event event) {
+        if (event instanceof TaskStatusUpdateEvent tue) {
+            return tue.isFinal();
+        } else if (event instanceof Message) {
+            return true;
+        } else if (event instanceof Task task) {
+            switch (task.getStatus().state()) {
+                case COMPLETED:
+                case CANCELED:
+                case FAILED:
+                case REJECTED:
+                case UNKNOWN:
+                    return true;
+                default:
+                    return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Waits until the subscriber has requested an event, up to the queue wait time so that the caller keeps
+     * checking for cancellation and agent errors.
+     *
+     * @return whether an event has been requested
+     */
+    private static boolean awaitDemand(Tube<Event> tube, Object demandSignal) throws InterruptedException {
+        synchronized (demandSignal) {
+            if (tube.outstandingRequests() > 0) {
+                return true;
+            }
+            demandSignal.wait(QUEUE_WAIT_MILLISECONDS);
+            return tube.outstandingRequests() > 0;
+        }
+    }
+
     public EnhancedRunnable.DoneCallback createAgentRunnableDoneCallback() {
         return agentRunnable -> {
             if (agentRunnable.getError() != null) {
@@ -55,6 +55,11 @@ public abstract class EventQueue implements AutoCloseable {
             Thread.currentThread().interrupt();
             throw new RuntimeException("Unable to acquire the semaphore to enqueue the event", e);
         }
+        if (closed) {
+            // Closed while waiting for room in the queue
+            LOGGER.warn("Queue is closed. Event will not be enqueued. {} {}", this, event);
+            return;
+        }
         queue.add(event);
         LOGGER.debug("Enqueued event {} {}", event instanceof Throwable ? event.toString() : event, this);
     }
@@ -100,6 +105,14 @@ public abstract class EventQueue implements AutoCloseable {
 
     public abstract void close();
 
+    /**
+     * Stops this queue receiving events from the queue it was tapped from, and closes it, without closing
+     * the queue it was tapped from. Called once nothing consumes the tap any longer, so that events do not
+     * pile up in it. Does nothing for a queue which is not a tap.
+     */
+    public void untap() {
+    }
+
     public void doClose() {
         synchronized (this) {
             if (closed) {
@@ -108,6 +121,8 @@ public abstract class EventQueue implements AutoCloseable {
             LOGGER.debug("Closing {}", this);
             closed = true;
         }
+        // Unblock producers waiting for room in a full queue, which nothing may consume any longer
+        semaphore.release(queueSize);
         // Although the Python implementation drains the queue on closing,
         // here it makes events go missing
         // TODO do we actually need to drain it? If we do, we need some mechanism to determine that noone is
@@ -191,5 +206,11 @@ public abstract class EventQueue implements AutoCloseable {
         public void close() {
             parent.close();
         }
+
+        @Override
+        public void untap() {
+            parent.children.remove(this);
+            doClose();
+        }
     }
 }
@@ -1,8 +1,21 @@
 package io.a2a.server.requesthandlers;
 
 import io.a2a.server.ServerCallContext;
+import io.grpc.Metadata;
 import io.grpc.stub.StreamObserver;
 
 public interface CallContextFactory {
     <V> ServerCallContext create(StreamObserver<V> responseObserver);
+
+    /**
+     * Creates the context of a gRPC call. Factories needing the headers of the call, for instance to
+     * authenticate the caller, override this method.
+     *
+     * @param responseObserver the observer of the responses of the call
+     * @param metadata the headers of the call, or {@code null} if they are not available
+     * @return the context of the call
+     */
+    default <V> ServerCallContext create(StreamObserver<V> responseObserver, Metadata metadata) {
+        return create(responseObserver);
+    }
 }
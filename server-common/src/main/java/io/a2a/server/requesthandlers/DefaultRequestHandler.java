@@ -166,7 +166,9 @@ public class DefaultRequestHandler implements RequestHandler {
 
         boolean interrupted = false;
 
-        EnhancedRunnable producerRunnable = registerAndExecuteAgentAsync(taskId, mss.requestContext, queue);
+        AgentRunnable producerRunnable = registerAndExecuteAgentAsync(taskId, mss.requestContext, queue);
+        ServerCallContext.Registration cancelRegistration = cancelAgentWithCall(context, mss.requestContext, queue,
+                producerRunnable);
         ResultAggregator.EventTypeAndInterrupt etai = null;
         try {
             EventConsumer consumer = new EventConsumer(queue);
@@ -189,6 +191,10 @@ public class DefaultRequestHandler implements RequestHandler {
             }
 
         } finally {
+            // The agent keeps running in the background once the call returned, for instance when interrupted
+            if (cancelRegistration != null) {
+                cancelRegistration.remove();
+            }
             if (interrupted) {
                 // TODO Make this async
                 cleanupProducer(taskId);
@@ -211,7 +217,8 @@ public class DefaultRequestHandler implements RequestHandler {
         EventQueue queue = queueManager.createOrTap(taskId.get());
         ResultAggregator resultAggregator = new ResultAggregator(mss.taskManager, null);
 
-        EnhancedRunnable producerRunnable = registerAndExecuteAgentAsync(taskId.get(), mss.requestContext, queue);
+        AgentRunnable producerRunnable = registerAndExecuteAgentAsync(taskId.get(), mss.requestContext, queue);
+        cancelAgentWithCall(context, mss.requestContext, queue, producerRunnable);
 
         try {
             EventConsumer consumer = new EventConsumer(queue);
@@ -219,15 +226,11 @@ public class DefaultRequestHandler implements RequestHandler {
             // This callback must be added before we start consuming. Otherwise,
             // any errors thrown by the producerRunnable are not picked up by the consumer
             producerRunnable.addDoneCallback(consumer.createAgentRunnableDoneCallback());
-            Flow.Publisher<Event> results = resultAggregator.consumeAndEmit(consumer);
-
-            Flow.Publisher<Event> eventPublisher =
-                    processor(createTubeConfig(), results, ((errorConsumer, event) -> {
-                if (event instanceof Task createdTask) {
-                    if (!Objects.equals(taskId.get(), createdTask.getId())) {
-                        errorConsumer.accept(new InternalError("Task ID mismatch in agent response"));
-                    }
-
+            // Tasks and push notifications are kept up to date even if the client goes away before the task
+            // is done
+            Flow.Publisher<Event> results = resultAggregator.consumeAndEmit(consumer, event -> {
+                // A task of another id fails the stream below
+                if (event instanceof Task createdTask && Objects.equals(taskId.get(), createdTask.getId())) {
                     // TODO the Python implementation no longer has the following block but removing it causes
                     //  failures here
                     try {
@@ -252,7 +255,13 @@ public class DefaultRequestHandler implements RequestHandler {
                         pushSender.sendNotification(latestTask);
                     }
                 }
+            });
 
+            Flow.Publisher<Event> eventPublisher =
+                    processor(createTubeConfig(), results, ((errorConsumer, event) -> {
+                if (event instanceof Task createdTask && !Objects.equals(taskId.get(), createdTask.getId())) {
+                    errorConsumer.accept(new InternalError("Task ID mismatch in agent response"));
+                }
                 return true;
             }));
 
@@ -278,6 +287,12 @@ public class DefaultRequestHandler implements RequestHandler {
         return params;
     }
 
+    /**
+     * Returns the push notification configuration of the task with the requested id. When no id is requested,
+     * or no configuration has the requested id, the first configuration set for the task is returned, which is
+     * the only one for tasks with a single configuration. Use
+     * {@link #onListTaskPushNotificationConfig} to get all the configurations of a task.
+     */
     @Override
     public TaskPushNotificationConfig onGetTaskPushNotificationConfig(
             GetTaskPushNotificationConfigParams params, ServerCallContext context) throws JSONRPCError {
@@ -289,24 +304,19 @@ public class DefaultRequestHandler implements RequestHandler {
             throw new TaskNotFoundError();
         }
 
-        List<PushNotificationConfig> pushNotificationConfigList = pushConfigStore.getInfo(params.id());
-        if (pushNotificationConfigList == null || pushNotificationConfigList.isEmpty()) {
-            throw new InternalError("No push notification config found");
+        PushNotificationConfig pushNotificationConfig = null;
+        if (params.pushNotificationConfigId() != null) {
+            pushNotificationConfig = pushConfigStore.getInfo(params.id(), params.pushNotificationConfigId());
         }
-
-        return new TaskPushNotificationConfig(params.id(), getPushNotificationConfig(pushNotificationConfigList, params.pushNotificationConfigId()));
-    }
-
-    private PushNotificationConfig getPushNotificationConfig(List<PushNotificationConfig> notificationConfigList,
-                                                             String configId) {
-        if (configId != null) {
-            for (PushNotificationConfig notificationConfig : notificationConfigList) {
-                if (configId.equals(notificationConfig.id())) {
-                    return notificationConfig;
-                }
+        if (pushNotificationConfig == null) {
+            List<PushNotificationConfig> pushNotificationConfigList = pushConfigStore.getInfo(params.id());
+            if (pushNotificationConfigList == null || pushNotificationConfigList.isEmpty()) {
+                throw new InternalError("No push notification config found");
             }
+            pushNotificationConfig = pushNotificationConfigList.get(0);
         }
-        return notificationConfigList.get(0);
+
+        return new TaskPushNotificationConfig(params.id(), pushNotificationConfig);
     }
 
     @Override
@@ -372,22 +382,13 @@ public class DefaultRequestHandler implements RequestHandler {
         return pushConfigStore != null && params.configuration() != null && params.configuration().pushNotification() != null;
     }
 
-    private EnhancedRunnable registerAndExecuteAgentAsync(String taskId, RequestContext requestContext, EventQueue queue) {
-        EnhancedRunnable runnable = new EnhancedRunnable() {
-            @Override
-            public void run() {
-                agentExecutor.execute(requestContext, queue);
-                try {
-                    queueManager.awaitQueuePollerStart(queue);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-            }
-        };
+    private AgentRunnable registerAndExecuteAgentAsync(String taskId, RequestContext requestContext, EventQueue queue) {
+        AgentRunnable runnable = new AgentRunnable(requestContext, queue);
 
         CompletableFuture<Void> cf = CompletableFuture.runAsync(runnable, executor)
                 .whenComplete((v, err) -> {
-                    if (err != null) {
+                    // An agent cancelled with its call may fail once interrupted, which is not an error of the call
+                    if (err != null && !runnable.isCancelled()) {
                         runnable.setError(err);
                     }
                     queue.close();
@@ -397,6 +398,44 @@ public class DefaultRequestHandler implements RequestHandler {
         return runnable;
     }
 
+    /**
+     * Cancels the agent if the caller goes away before the call completes, the same way a {@code tasks/cancel}
+     * request does, so that the agent can move the task to the canceled state. The thread running the agent is
+     * then interrupted, and the agent can check {@link ServerCallContext#isCancelled()} to stop early.
+     *
+     * @return the registration of the cancellation, which is removed once the agent completes, or {@code null}
+     * if there is no call context
+     */
+    private ServerCallContext.Registration cancelAgentWithCall(ServerCallContext context,
+                                                               RequestContext requestContext, EventQueue queue,
+                                                               AgentRunnable agentRunnable) {
+        if (context == null) {
+            return null;
+        }
+        String taskId = requestContext.getTaskId();
+        CompletableFuture<Void> agentFuture = runningAgents.get(taskId);
+        ServerCallContext.Registration registration = context.addCancelCallback(() -> {
+            LOGGER.debug("Call cancelled by the caller, cancelling the agent for task {}", taskId);
+            try {
+                agentExecutor.cancel(
+                        requestContextBuilder.get()
+                                .setTaskId(taskId)
+                                .setContextId(requestContext.getContextId())
+                                .setTask(taskStore.get(taskId))
+                                .setServerCallContext(context)
+                                .build(),
+                        queue);
+            } catch (JSONRPCError e) {
+                LOGGER.debug("The agent did not cancel task {}: {}", taskId, e.getMessage());
+            } finally {
+                agentRunnable.cancel();
+            }
+        });
+        // Streaming calls outlive the request handler, so the cancellation is kept until the agent completes
+        agentFuture.whenComplete((v, t) -> registration.remove());
+        return registration;
+    }
+
     private void cleanupProducer(String taskId) {
         // TODO the Python implementation waits for the producerRunnable
         runningAgents.get(taskId)
@@ -435,4 +474,56 @@ public class DefaultRequestHandler implements RequestHandler {
     }
 
     private record MessageSendSetup(TaskManager taskManager, Task task, RequestContext requestContext) {}
+
+    private class AgentRunnable extends EnhancedRunnable {
+        private final RequestContext requestContext;
+        private final EventQueue queue;
+        private Thread thread;
+        private boolean cancelled;
+
+        AgentRunnable(RequestContext requestContext, EventQueue queue) {
+            this.requestContext = requestContext;
+            this.queue = queue;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                thread = Thread.currentThread();
+            }
+            try {
+                agentExecutor.execute(requestContext, queue);
+                try {
+                    queueManager.awaitQueuePollerStart(queue);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            } finally {
+                synchronized (this) {
+                    thread = null;
+                    if (cancelled) {
+                        // Do not leave the interruption of the agent to the next task of the pooled thread
+                        Thread.interrupted();
+                    }
+                }
+            }
+        }
+
+        /**
+         * Interrupts the agent if it is running, or else keeps it from running.
+         */
+        synchronized void cancel() {
+            cancelled = true;
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+
+        synchronized boolean isCancelled() {
+            return cancelled;
+        }
+    }
 }
@@ -0,0 +1,53 @@
+package io.a2a.server.tasks;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Stores the content of large artifact parts outside of the {@link io.a2a.spec.Task} they belong to.
+ * <p>
+ * A task store configured with a blob store, such as {@link InMemoryTaskStore}, replaces the files sent as bytes
+ * whose size exceeds the {@link #threshold() threshold} with a {@link io.a2a.spec.FileWithUri} referencing the
+ * stored content, which keeps the stored tasks small and cheap to copy. The content is read back when the task
+ * is retrieved. A CDI bean implementing this interface is picked up by {@link InMemoryTaskStore}.
+ *
+ * @see FileSystemArtifactBlobStore
+ */
+public interface ArtifactBlobStore {
+
+    int DEFAULT_THRESHOLD = 64 * 1024;
+
+    /**
+     * @return the size in bytes above which the content of a part is stored in this blob store
+     */
+    default int threshold() {
+        return DEFAULT_THRESHOLD;
+    }
+
+    /**
+     * Stores the remaining bytes of the buffer, without changing its position.
+     *
+     * @param taskId the id of the task the content belongs to
+     * @param content the content
+     * @return the URI referencing the stored content
+     * @throws IOException if the content could not be stored
+     */
+    String store(String taskId, ByteBuffer content) throws IOException;
+
+    /**
+     * @param taskId the id of the task the URI was found in
+     * @param uri a URI returned by {@link #store(String, ByteBuffer)}, or any other URI
+     * @return the stored content, or {@code null} if the URI does not reference content stored for this task in
+     * this blob store
+     * @throws IOException if the content could not be read
+     */
+    ByteBuffer read(String taskId, String uri) throws IOException;
+
+    /**
+     * Deletes the content stored for a task.
+     *
+     * @param taskId the id of the task
+     * @throws IOException if the content could not be deleted
+     */
+    void delete(String taskId) throws IOException;
+}
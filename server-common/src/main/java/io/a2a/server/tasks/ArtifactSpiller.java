@@ -0,0 +1,237 @@
+package io.a2a.server.tasks;
+
+import static io.a2a.util.Assert.checkNotNullParam;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import io.a2a.spec.Artifact;
+import io.a2a.spec.FilePart;
+import io.a2a.spec.FileWithBytes;
+import io.a2a.spec.FileWithUri;
+import io.a2a.spec.Part;
+import io.a2a.spec.Task;
+
+/**
+ * Moves the large files of the artifacts of tasks to an {@link ArtifactBlobStore} and back, for task stores to
+ * keep only references to them.
+ * <p>
+ * Tasks are saved again on every event of their agent, with the parts of their previous version, and read on
+ * every event as well. A part is stored only the first time it is spilled, and a part read back from the blob
+ * store is not stored again. A spilled part is read back once, and the same part is returned for as long as it
+ * is stored.
+ * <p>
+ * Consecutive file parts of an artifact with the same name and MIME type are the chunks of one file, such as
+ * those appended by {@link TaskUpdater#addFileArtifact}. They are all spilled once the file exceeds the
+ * threshold, even if each chunk is below it.
+ */
+public class ArtifactSpiller {
+
+    private final ArtifactBlobStore blobStore;
+    // The spilled versions of the parts already stored or read back, keyed by identity. Entries go away with
+    // the parts, which are only held by the tasks being updated. The spilled versions are only weakly held, so
+    // that they go away with the stored tasks, even though the parts read back are held below.
+    private final ConcurrentMap<PartKey, WeakReference<FilePart>> spilledParts = new ConcurrentHashMap<>();
+    // The parts read back, keyed by the identity of their spilled version, which is held by the stored task
+    private final ConcurrentMap<PartKey, FilePart> resolvedParts = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Part<?>> collectedParts = new ReferenceQueue<>();
+
+    public ArtifactSpiller(ArtifactBlobStore blobStore) {
+        checkNotNullParam("blobStore", blobStore);
+        this.blobStore = blobStore;
+    }
+
+    /**
+     * @param task the task to spill
+     * @return the task with its files larger than the threshold of the blob store replaced with references to
+     * their content, or the task itself if it has no such files
+     * @throws UncheckedIOException if storing a file failed
+     */
+    public Task spill(Task task) {
+        expungeCollectedParts();
+        return replaceParts(task, artifact -> {
+            Set<Part<?>> large = largeFileParts(artifact.parts());
+            return part -> large.contains(part) ? spill(task.getId(), part) : part;
+        });
+    }
+
+    /**
+     * @return the file parts with bytes belonging to a file larger than the threshold, with the consecutive
+     * parts of the same file counted together
+     */
+    private Set<Part<?>> largeFileParts(List<Part<?>> parts) {
+        Set<Part<?>> large = Collections.newSetFromMap(new IdentityHashMap<>());
+        int start = 0;
+        while (start < parts.size()) {
+            FileWithBytes first = fileWithBytes(parts.get(start));
+            if (first == null) {
+                start++;
+                continue;
+            }
+            long size = 0;
+            int end = start;
+            FileWithBytes file;
+            while (end < parts.size() && (file = fileWithBytes(parts.get(end))) != null
+                    && Objects.equals(file.name(), first.name()) && Objects.equals(file.mimeType(), first.mimeType())) {
+                size += file.content() == null ? 0 : file.content().remaining();
+                end++;
+            }
+            if (size > blobStore.threshold()) {
+                large.addAll(parts.subList(start, end));
+            }
+            start = end;
+        }
+        return large;
+    }
+
+    private static FileWithBytes fileWithBytes(Part<?> part) {
+        return part instanceof FilePart filePart && filePart.getFile() instanceof FileWithBytes file ? file : null;
+    }
+
+    private Part<?> spill(String taskId, Part<?> part) {
+        if (!(part instanceof FilePart filePart) || !(filePart.getFile() instanceof FileWithBytes file)) {
+            return part;
+        }
+        WeakReference<FilePart> spilledRef = spilledParts.get(new PartKey(part, null));
+        FilePart spilled = spilledRef != null ? spilledRef.get() : null;
+        if (spilled != null) {
+            return spilled;
+        }
+        if (file.content() == null) {
+            return part;
+        }
+        String uri;
+        try {
+            uri = blobStore.store(taskId, file.content());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        spilled = new FilePart(new FileWithUri(file.mimeType(), file.name(), uri), filePart.getMetadata());
+        spilledParts.put(new PartKey(part, collectedParts), new WeakReference<>(spilled));
+        return spilled;
+    }
+
+    /**
+     * @param task a task returned by {@link #spill(Task)}
+     * @return the task with the references to the content of its files replaced with their content, or the task
+     * itself if it has no such references
+     * @throws UncheckedIOException if reading a file failed
+     */
+    public Task resolve(Task task) {
+        expungeCollectedParts();
+        return task == null ? null : replaceParts(task, artifact -> part -> resolve(task.getId(), part));
+    }
+
+    private Part<?> resolve(String taskId, Part<?> part) {
+        if (!(part instanceof FilePart filePart) || !(filePart.getFile() instanceof FileWithUri file)) {
+            return part;
+        }
+        FilePart resolved = resolvedParts.get(new PartKey(part, null));
+        if (resolved != null) {
+            return resolved;
+        }
+        ByteBuffer content;
+        try {
+            content = blobStore.read(taskId, file.uri());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (content == null) {
+            return part;
+        }
+        resolved = new FilePart(FileWithBytes.of(file.mimeType(), file.name(), content), filePart.getMetadata());
+        spilledParts.put(new PartKey(resolved, collectedParts), new WeakReference<>(filePart));
+        resolvedParts.put(new PartKey(part, collectedParts), resolved);
+        return resolved;
+    }
+
+    private static Task replaceParts(Task task, Function<Artifact, UnaryOperator<Part<?>>> replacements) {
+        if (task.getArtifacts() == null) {
+            return task;
+        }
+        // Copies only the artifacts with replaced parts
+        List<Artifact> artifacts = null;
+        for (int i = 0; i < task.getArtifacts().size(); i++) {
+            Artifact artifact = task.getArtifacts().get(i);
+            UnaryOperator<Part<?>> replacement = replacements.apply(artifact);
+            List<Part<?>> parts = null;
+            for (int j = 0; j < artifact.parts().size(); j++) {
+                Part<?> part = artifact.parts().get(j);
+                Part<?> replaced = replacement.apply(part);
+                if (replaced != part && parts == null) {
+                    parts = new ArrayList<>(artifact.parts());
+                }
+                if (parts != null) {
+                    parts.set(j, replaced);
+                }
+            }
+            if (parts != null) {
+                if (artifacts == null) {
+                    artifacts = new ArrayList<>(task.getArtifacts());
+                }
+                artifacts.set(i, new Artifact.Builder(artifact).parts(parts).build());
+            }
+        }
+        return artifacts == null ? task : new Task.Builder(task).artifacts(artifacts).build();
+    }
+
+    /**
+     * Deletes the files stored for a task.
+     *
+     * @param taskId the id of the task
+     * @throws UncheckedIOException if deleting the files failed
+     */
+    public void delete(String taskId) {
+        try {
+            blobStore.delete(taskId);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void expungeCollectedParts() {
+        PartKey key;
+        while ((key = (PartKey) collectedParts.poll()) != null) {
+            // A collected key is only equal to itself, so it is removed from the map it is in
+            spilledParts.remove(key);
+            resolvedParts.remove(key);
+        }
+    }
+
+    private static final class PartKey extends WeakReference<Part<?>> {
+        private final int hash;
+
+        PartKey(Part<?> part, ReferenceQueue<Part<?>> queue) {
+            super(part, queue);
+            this.hash = System.identityHashCode(part);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            // Keys whose part was collected are only equal to themselves
+            Part<?> part = get();
+            return o instanceof PartKey other && part != null && part == other.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
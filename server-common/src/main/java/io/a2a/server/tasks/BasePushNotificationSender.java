@@ -1,20 +1,28 @@
 package io.a2a.server.tasks;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 
 import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 
 import io.a2a.http.A2AHttpClient;
+import io.a2a.http.A2AHttpResponse;
 import io.a2a.http.JdkA2AHttpClient;
+import io.a2a.spec.PushNotificationAuthenticationInfo;
 import io.a2a.spec.PushNotificationConfig;
 import io.a2a.spec.Task;
-import io.a2a.util.Utils;
+import io.a2a.util.JsonCodec;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,18 +32,101 @@ public class BasePushNotificationSender implements PushNotificationSender {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BasePushNotificationSender.class);
 
+    public static final String NOTIFICATION_TOKEN_HEADER = "X-A2A-Notification-Token";
+
     private final A2AHttpClient httpClient;
     private final PushNotificationConfigStore configStore;
+    private final PushNotificationCircuitBreaker circuitBreaker;
+    private final Function<PushNotificationConfig, PushNotificationBatchSettings> batchSettingsResolver;
+    private final PushNotificationSigner signer;
+    private final PushNotificationMetrics metrics;
+    // Created on first use, so that senders which never batch do not start its scheduler thread
+    private volatile PushNotificationBatcher batcher;
+    // Guarded by this
+    private boolean closed;
 
-    @Inject
     public BasePushNotificationSender(PushNotificationConfigStore configStore) {
-        this.httpClient = new JdkA2AHttpClient();
-        this.configStore = configStore;
+        this(configStore, new JdkA2AHttpClient(), new PushNotificationCircuitBreaker(), pushConfig -> null, null,
+                PushNotificationMetrics.NO_OP);
+    }
+
+    @Inject
+    public BasePushNotificationSender(PushNotificationConfigStore configStore, Instance<PushNotificationMetrics> metrics,
+                                      Instance<PushNotificationBatchSettingsResolver> batchSettingsResolver,
+                                      Instance<PushNotificationSigner> signer) {
+        this(configStore, new JdkA2AHttpClient(), new PushNotificationCircuitBreaker(),
+                batchSettingsResolver.isResolvable() ? batchSettingsResolver.get()::resolve : pushConfig -> null,
+                signer.isResolvable() ? signer.get() : null,
+                metrics.isResolvable() ? metrics.get() : PushNotificationMetrics.NO_OP);
     }
 
     public BasePushNotificationSender(PushNotificationConfigStore configStore, A2AHttpClient httpClient) {
+        this(configStore, httpClient, new PushNotificationCircuitBreaker(), pushConfig -> null, null,
+                PushNotificationMetrics.NO_OP);
+    }
+
+    /**
+     * @param configStore the push notification configuration store
+     * @param httpClient the HTTP client used to deliver notifications
+     * @param circuitBreaker the circuit breaker tracking endpoint health
+     * @param batchSettingsResolver returns the batch settings for a push notification configuration, or
+     *                              {@code null} if notifications for it should be sent one by one
+     * @param signer signs notifications for endpoints that do not supply their own credentials.
+     *               May be {@code null}, in which case notifications are not signed.
+     * @param metrics receives delivery instrumentation events
+     */
+    public BasePushNotificationSender(PushNotificationConfigStore configStore, A2AHttpClient httpClient,
+                                      PushNotificationCircuitBreaker circuitBreaker,
+                                      Function<PushNotificationConfig, PushNotificationBatchSettings> batchSettingsResolver,
+                                      PushNotificationSigner signer, PushNotificationMetrics metrics) {
         this.configStore = configStore;
         this.httpClient = httpClient;
+        this.circuitBreaker = circuitBreaker;
+        this.batchSettingsResolver = batchSettingsResolver;
+        this.signer = signer;
+        this.metrics = metrics;
+    }
+
+    @PreDestroy
+    public void close() {
+        PushNotificationBatcher batcher;
+        synchronized (this) {
+            closed = true;
+            batcher = this.batcher;
+        }
+        if (batcher != null) {
+            batcher.close();
+        }
+    }
+
+    private PushNotificationBatcher batcher() {
+        PushNotificationBatcher batcher = this.batcher;
+        if (batcher == null) {
+            synchronized (this) {
+                batcher = this.batcher;
+                if (batcher == null) {
+                    if (closed) {
+                        throw new IllegalStateException("The push notification sender is closed");
+                    }
+                    batcher = new PushNotificationBatcher(this::post, this::onNotificationRejected, metrics);
+                    this.batcher = batcher;
+                }
+            }
+        }
+        return batcher;
+    }
+
+    // Visible for testing
+    boolean isBatcherStarted() {
+        return batcher != null;
+    }
+
+    /**
+     * Returns the circuit breaker tracking the health of the push notification endpoints.
+     * @return the circuit breaker
+     */
+    public PushNotificationCircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
     }
 
     @Override
@@ -45,10 +136,20 @@ public class BasePushNotificationSender implements PushNotificationSender {
             return;
         }
 
-        List<CompletableFuture<Boolean>> dispatchResults = pushConfigs
-                .stream()
-                .map(pushConfig -> dispatch(task, pushConfig))
-                .toList();
+        long producedAt = System.nanoTime();
+        List<CompletableFuture<Boolean>> dispatchResults = new ArrayList<>(pushConfigs.size());
+        for (PushNotificationConfig pushConfig : pushConfigs) {
+            PushNotificationBatchSettings batchSettings = batchSettingsResolver.apply(pushConfig);
+            if (batchSettings != null) {
+                batcher().add(task, producedAt, pushConfig, batchSettings);
+            } else {
+                dispatchResults.add(dispatch(task, producedAt, pushConfig));
+            }
+        }
+        if (dispatchResults.isEmpty()) {
+            return;
+        }
+
         CompletableFuture<Void> allFutures = CompletableFuture.allOf(dispatchResults.toArray(new CompletableFuture[0]));
         CompletableFuture<Boolean> dispatchResult = allFutures.thenApply(v -> dispatchResults.stream()
                 .allMatch(CompletableFuture::join));
@@ -62,18 +163,22 @@ public class BasePushNotificationSender implements PushNotificationSender {
         }
     }
 
-    private CompletableFuture<Boolean> dispatch(Task task, PushNotificationConfig pushInfo) {
-        return CompletableFuture.supplyAsync(() -> dispatchNotification(task, pushInfo));
+    private CompletableFuture<Boolean> dispatch(Task task, long producedAt, PushNotificationConfig pushInfo) {
+        metrics.backlogChanged(pushInfo.url(), 1);
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return dispatchNotification(task, producedAt, pushInfo);
+            } finally {
+                metrics.backlogChanged(pushInfo.url(), -1);
+            }
+        });
     }
 
-    private boolean dispatchNotification(Task task, PushNotificationConfig pushInfo) {
-        String url = pushInfo.url();
-
-        // TODO auth
-
-        String body;
+    private boolean dispatchNotification(Task task, long producedAt, PushNotificationConfig pushInfo) {
+        // Serialized once, so that the bytes sent are the bytes signed
+        byte[] body;
         try {
-            body = Utils.OBJECT_MAPPER.writeValueAsString(task);
+            body = JsonCodec.DEFAULT.writer(Task.class).writeValueAsBytes(task);
         } catch (JsonProcessingException e) {
             LOGGER.debug("Error writing value as string: {}", e.getMessage(), e);
             return false;
@@ -82,15 +187,86 @@ public class BasePushNotificationSender implements PushNotificationSender {
             return false;
         }
 
+        DeliveryResult result = post(pushInfo, body);
+        if (result == DeliveryResult.SENT) {
+            metrics.notificationAcknowledged(pushInfo.url(), System.nanoTime() - producedAt);
+        } else if (result == DeliveryResult.REJECTED) {
+            metrics.notificationsRejected(pushInfo.url(), 1);
+            onNotificationRejected(task, pushInfo);
+        }
+        return result == DeliveryResult.SENT;
+    }
+
+    private DeliveryResult post(PushNotificationConfig pushInfo, byte[] body) {
+        String url = pushInfo.url();
+        PushNotificationCircuitBreaker.Permit permit = circuitBreaker.tryAcquire(url);
+        if (permit == null) {
+            LOGGER.debug("Circuit open for {}, not sending push notification", url);
+            return DeliveryResult.REJECTED;
+        }
+
+        boolean success = false;
+        PushNotificationMetrics.Outcome outcome = PushNotificationMetrics.Outcome.FAILURE;
+        metrics.deliveryStarted(url);
+        long start = System.nanoTime();
         try {
-            httpClient.createPost()
+            A2AHttpClient.PostBuilder postBuilder = httpClient.createPost()
                     .url(url)
-                    .body(body)
-                    .post();
+                    .body(body);
+            addAuthenticationHeaders(postBuilder, pushInfo, body);
+            A2AHttpResponse response = postBuilder.post();
+            success = response.success();
+            if (success) {
+                outcome = PushNotificationMetrics.Outcome.SUCCESS;
+            } else {
+                LOGGER.debug("Error pushing data to {}: status {}", url, response.status());
+            }
         } catch (IOException | InterruptedException e) {
+            if (e instanceof HttpTimeoutException || e instanceof SocketTimeoutException) {
+                outcome = PushNotificationMetrics.Outcome.TIMEOUT;
+            }
             LOGGER.debug("Error pushing data to " + url + ": {}", e.getMessage(), e);
-            return false;
+        } finally {
+            long latency = System.nanoTime() - start;
+            metrics.deliveryFinished(url, outcome, latency);
+            if (success) {
+                permit.recordSuccess(latency);
+            } else {
+                permit.recordFailure(latency);
+            }
+        }
+        return success ? DeliveryResult.SENT : DeliveryResult.FAILED;
+    }
+
+    private void addAuthenticationHeaders(A2AHttpClient.PostBuilder postBuilder, PushNotificationConfig pushInfo,
+                                          byte[] body) {
+        if (pushInfo.token() != null) {
+            postBuilder.addHeader(NOTIFICATION_TOKEN_HEADER, pushInfo.token());
         }
-        return true;
+        PushNotificationAuthenticationInfo authentication = pushInfo.authentication();
+        if (authentication != null && authentication.credentials() != null && !authentication.schemes().isEmpty()) {
+            // The webhook told us which credentials it expects
+            postBuilder.addHeader("Authorization", authentication.schemes().get(0) + " " + authentication.credentials());
+        } else if (signer != null) {
+            postBuilder.addHeader("Authorization", "Bearer " + signer.sign(body));
+        }
+    }
+
+    /**
+     * Called when a notification is not sent because the circuit for its endpoint is open, or because
+     * all attempts to deliver the batch it was part of failed.
+     * Subclasses may override this to route the notification to an outbox or dead-letter store.
+     *
+     * @param task the task the notification was for
+     * @param pushInfo the push notification configuration whose endpoint is unavailable
+     */
+    protected void onNotificationRejected(Task task, PushNotificationConfig pushInfo) {
+        LOGGER.warn("Dropping push notification for taskId {} to unavailable endpoint {}", task.getId(), pushInfo.url());
+    }
+
+    enum DeliveryResult {
+        SENT,
+        FAILED,
+        REJECTED
     }
 }
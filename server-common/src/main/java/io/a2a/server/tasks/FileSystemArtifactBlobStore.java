@@ -0,0 +1,112 @@
+package io.a2a.server.tasks;
+
+import static io.a2a.util.Assert.checkNotNullParam;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * An {@link ArtifactBlobStore} keeping each blob in a file of a local directory, with a directory per task.
+ * <p>
+ * Blobs are read by mapping their file in memory, so their content is paged in by the operating system as it is
+ * read, rather than copied to the heap. Blobs are referenced by URIs of the {@value #SCHEME} scheme, relative to
+ * the directory.
+ */
+public class FileSystemArtifactBlobStore implements ArtifactBlobStore {
+
+    public static final String SCHEME = "a2a-blob";
+
+    private static final String PREFIX = SCHEME + ":";
+
+    private final Path directory;
+    private final int threshold;
+
+    /**
+     * @param directory the directory to store the blobs in, which is created if it does not exist
+     */
+    public FileSystemArtifactBlobStore(Path directory) {
+        this(directory, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * @param directory the directory to store the blobs in, which is created if it does not exist
+     * @param threshold the size in bytes above which the content of a part is stored in this blob store
+     */
+    public FileSystemArtifactBlobStore(Path directory, int threshold) {
+        checkNotNullParam("directory", directory);
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Invalid threshold: " + threshold);
+        }
+        this.directory = directory.toAbsolutePath().normalize();
+        this.threshold = threshold;
+        try {
+            Files.createDirectories(this.directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public int threshold() {
+        return threshold;
+    }
+
+    @Override
+    public String store(String taskId, ByteBuffer content) throws IOException {
+        String taskDirectory = taskDirectory(taskId);
+        Files.createDirectories(directory.resolve(taskDirectory));
+        String blob = taskDirectory + "/" + UUID.randomUUID();
+        ByteBuffer buffer = content.duplicate();
+        try (FileChannel channel = FileChannel.open(directory.resolve(blob),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        return PREFIX + blob;
+    }
+
+    @Override
+    public ByteBuffer read(String taskId, String uri) throws IOException {
+        if (uri == null || !uri.startsWith(PREFIX)) {
+            return null;
+        }
+        // A task can only reference the blobs stored for it, not those of other tasks
+        Path file = directory.resolve(uri.substring(PREFIX.length())).normalize();
+        if (!file.startsWith(directory.resolve(taskDirectory(taskId)))) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping remains valid once the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    @Override
+    public void delete(String taskId) throws IOException {
+        Path taskDirectory = directory.resolve(taskDirectory(taskId));
+        try (Stream<Path> files = Files.walk(taskDirectory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(file);
+            }
+        } catch (NoSuchFileException e) {
+            // Nothing was stored for the task
+        }
+    }
+
+    // Task ids are chosen by clients, so they are encoded to be safe as file names
+    private static String taskDirectory(String taskId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(taskId.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -3,24 +3,26 @@ package io.a2a.server.tasks;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import io.a2a.spec.PushNotificationConfig;
 
 /**
  * In-memory implementation of the PushNotificationConfigStore interface.
  *
- *     Stores push notification configurations in memory
+ *     Stores push notification configurations in memory. The configurations of a task are held in an
+ *     immutable snapshot which is replaced atomically on every update, so readers on the push path never
+ *     block on writers and never observe a partially updated list.
  */
 @ApplicationScoped
 public class InMemoryPushNotificationConfigStore implements PushNotificationConfigStore {
 
-    private final Map<String, List<PushNotificationConfig>> pushNotificationInfos = Collections.synchronizedMap(new HashMap<>());
+    private final ConcurrentMap<String, TaskConfigs> pushNotificationInfos = new ConcurrentHashMap<>();
 
     @Inject
     public InMemoryPushNotificationConfigStore() {
@@ -28,50 +30,59 @@ public class InMemoryPushNotificationConfigStore implements PushNotificationConf
 
     @Override
     public void setInfo(String taskId, PushNotificationConfig notificationConfig) {
-        List<PushNotificationConfig> notificationConfigList = pushNotificationInfos.getOrDefault(taskId, new ArrayList<>());
         PushNotificationConfig.Builder builder = new PushNotificationConfig.Builder(notificationConfig);
         if (notificationConfig.id() == null) {
             builder.id(taskId);
         }
-        notificationConfig = builder.build();
+        PushNotificationConfig config = builder.build();
 
-        Iterator<PushNotificationConfig> notificationConfigIterator = notificationConfigList.iterator();
-        while (notificationConfigIterator.hasNext()) {
-            PushNotificationConfig config = notificationConfigIterator.next();
-            if (config.id().equals(notificationConfig.id())) {
-                notificationConfigIterator.remove();
-                break;
-            }
-        }
-        notificationConfigList.add(notificationConfig);
-        pushNotificationInfos.put(taskId, notificationConfigList);
+        pushNotificationInfos.compute(taskId, (id, existing) -> {
+            Map<String, PushNotificationConfig> configs = existing == null
+                    ? new LinkedHashMap<>()
+                    : new LinkedHashMap<>(existing.byId());
+            // Remove first so that an updated config moves to the end, as a newly added one would
+            configs.remove(config.id());
+            configs.put(config.id(), config);
+            return new TaskConfigs(configs);
+        });
     }
 
     @Override
     public List<PushNotificationConfig> getInfo(String taskId) {
-        return pushNotificationInfos.get(taskId);
+        TaskConfigs configs = pushNotificationInfos.get(taskId);
+        return configs == null ? null : configs.list();
     }
 
     @Override
-    public void deleteInfo(String taskId, String configId) {
-        if (configId == null) {
-            configId = taskId;
-        }
-        List<PushNotificationConfig> notificationConfigList = pushNotificationInfos.get(taskId);
-        if (notificationConfigList == null || notificationConfigList.isEmpty()) {
-            return;
+    public PushNotificationConfig getInfo(String taskId, String configId) {
+        TaskConfigs configs = pushNotificationInfos.get(taskId);
+        if (configs == null) {
+            return null;
         }
+        return configs.byId().get(configId == null ? taskId : configId);
+    }
 
-        Iterator<PushNotificationConfig> notificationConfigIterator = notificationConfigList.iterator();
-        while (notificationConfigIterator.hasNext()) {
-            PushNotificationConfig config = notificationConfigIterator.next();
-            if (configId.equals(config.id())) {
-                notificationConfigIterator.remove();
-                break;
+    @Override
+    public void deleteInfo(String taskId, String configId) {
+        String id = configId == null ? taskId : configId;
+        pushNotificationInfos.computeIfPresent(taskId, (key, existing) -> {
+            if (!existing.byId().containsKey(id)) {
+                return existing;
             }
-        }
-        if (notificationConfigList.isEmpty()) {
-            pushNotificationInfos.remove(taskId);
+            Map<String, PushNotificationConfig> configs = new LinkedHashMap<>(existing.byId());
+            configs.remove(id);
+            return configs.isEmpty() ? null : new TaskConfigs(configs);
+        });
+    }
+
+    @Override
+    public void deleteInfo(String taskId) {
+        pushNotificationInfos.remove(taskId);
+    }
+
+    private record TaskConfigs(Map<String, PushNotificationConfig> byId, List<PushNotificationConfig> list) {
+        TaskConfigs(Map<String, PushNotificationConfig> configs) {
+            this(Collections.unmodifiableMap(configs), List.copyOf(configs.values()));
         }
     }
 }
@@ -1,12 +1,15 @@
 package io.a2a.server.tasks;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Comparator;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.PriorityBlockingQueue;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
 
 import io.a2a.spec.Task;
 
@@ -14,19 +17,121 @@ import io.a2a.spec.Task;
 public class InMemoryTaskStore implements TaskStore {
 
     private final ConcurrentMap<String, Task> tasks = new ConcurrentHashMap<>();
+    private final PushNotificationConfigStore pushConfigStore;
+    private final ArtifactSpiller artifactSpiller;
+    private final TaskRetentionPolicy retentionPolicy;
+    private final Clock clock;
+    // The finished tasks to evict, soonest first
+    private final PriorityBlockingQueue<Expiry> expiries =
+            new PriorityBlockingQueue<>(11, Comparator.comparingLong(Expiry::deadline));
+
+    public InMemoryTaskStore() {
+        this((PushNotificationConfigStore) null);
+    }
+
+    /**
+     * @param pushConfigStore the push notification configuration store whose entries are removed
+     *                        together with the task they belong to. May be {@code null}.
+     */
+    public InMemoryTaskStore(PushNotificationConfigStore pushConfigStore) {
+        this(pushConfigStore, (ArtifactBlobStore) null);
+    }
+
+    @Inject
+    public InMemoryTaskStore(PushNotificationConfigStore pushConfigStore, Instance<ArtifactBlobStore> blobStore,
+                             Instance<TaskRetentionPolicy> retentionPolicy) {
+        this(pushConfigStore, blobStore.isResolvable() ? blobStore.get() : null,
+                retentionPolicy.isResolvable() ? retentionPolicy.get() : null);
+    }
+
+    /**
+     * @param pushConfigStore the push notification configuration store whose entries are removed
+     *                        together with the task they belong to. May be {@code null}.
+     * @param blobStore the blob store keeping the large files of the artifacts of the tasks, which are then
+     *                  held in memory only while they are read. May be {@code null}, in which case the tasks
+     *                  are stored as they are.
+     */
+    public InMemoryTaskStore(PushNotificationConfigStore pushConfigStore, ArtifactBlobStore blobStore) {
+        this(pushConfigStore, blobStore, null);
+    }
+
+    /**
+     * @param pushConfigStore the push notification configuration store whose entries are removed
+     *                        together with the task they belong to. May be {@code null}.
+     * @param blobStore the blob store keeping the large files of the artifacts of the tasks, which are then
+     *                  held in memory only while they are read. May be {@code null}, in which case the tasks
+     *                  are stored as they are.
+     * @param retentionPolicy decides how long tasks are kept once they reached a final state. May be
+     *                        {@code null}, in which case tasks are kept until they are deleted.
+     */
+    public InMemoryTaskStore(PushNotificationConfigStore pushConfigStore, ArtifactBlobStore blobStore,
+                             TaskRetentionPolicy retentionPolicy) {
+        this(pushConfigStore, blobStore, retentionPolicy, Clock.systemUTC());
+    }
+
+    InMemoryTaskStore(PushNotificationConfigStore pushConfigStore, ArtifactBlobStore blobStore,
+                      TaskRetentionPolicy retentionPolicy, Clock clock) {
+        this.pushConfigStore = pushConfigStore;
+        this.artifactSpiller = blobStore != null ? new ArtifactSpiller(blobStore) : null;
+        this.retentionPolicy = retentionPolicy;
+        this.clock = clock;
+    }
 
     @Override
     public void save(Task task) {
-        tasks.put(task.getId(), task);
+        evictExpired();
+        Task stored = artifactSpiller != null ? artifactSpiller.spill(task) : task;
+        tasks.put(task.getId(), stored);
+        if (retentionPolicy != null && task.getStatus() != null && task.getStatus().state() != null
+                && task.getStatus().state().isFinal()) {
+            Duration retention = retentionPolicy.retention(task);
+            if (retention != null) {
+                expiries.add(new Expiry(task.getId(), stored, clock.millis() + retention.toMillis()));
+            }
+        }
     }
 
     @Override
     public Task get(String taskId) {
-        return tasks.get(taskId);
+        evictExpired();
+        Task task = tasks.get(taskId);
+        return artifactSpiller != null ? artifactSpiller.resolve(task) : task;
     }
 
     @Override
     public void delete(String taskId) {
         tasks.remove(taskId);
+        deleteRelated(taskId);
+    }
+
+    private void evictExpired() {
+        if (expiries.isEmpty()) {
+            return;
+        }
+        long now = clock.millis();
+        Expiry expiry;
+        while ((expiry = expiries.poll()) != null) {
+            if (expiry.deadline() > now) {
+                expiries.add(expiry);
+                return;
+            }
+            // Only the version of the task that was saved when it finished is evicted. A task saved again
+            // since then has an expiry of its own, if it is still finished.
+            if (tasks.remove(expiry.taskId(), expiry.task())) {
+                deleteRelated(expiry.taskId());
+            }
+        }
+    }
+
+    private void deleteRelated(String taskId) {
+        if (pushConfigStore != null) {
+            pushConfigStore.deleteInfo(taskId);
+        }
+        if (artifactSpiller != null) {
+            artifactSpiller.delete(taskId);
+        }
+    }
+
+    private record Expiry(String taskId, Task task, long deadline) {
     }
 }
@@ -0,0 +1,37 @@
+package io.a2a.server.tasks;
+
+import java.time.Duration;
+
+import io.a2a.util.Assert;
+
+/**
+ * Settings for delivering push notifications in batches. Notifications for many tasks destined to the same
+ * endpoint are grouped and sent as a JSON array of tasks in a single POST.
+ *
+ * @param maxBatchSize the maximum number of tasks in a single POST; a batch is sent as soon as it is full
+ * @param maxLinger the maximum time a notification waits for other notifications to join its batch
+ * @param maxAttempts the maximum number of times a batch is posted before it is given up on
+ * @param retryBackoff the delay before the first retry; it doubles with every further retry
+ */
+public record PushNotificationBatchSettings(int maxBatchSize, Duration maxLinger, int maxAttempts, Duration retryBackoff) {
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+    public static final Duration DEFAULT_MAX_LINGER = Duration.ofMillis(200);
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    public static final Duration DEFAULT_RETRY_BACKOFF = Duration.ofMillis(500);
+
+    public PushNotificationBatchSettings {
+        Assert.checkNotNullParam("maxLinger", maxLinger);
+        Assert.checkNotNullParam("retryBackoff", retryBackoff);
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be greater than zero");
+        }
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("maxAttempts must be greater than zero");
+        }
+    }
+
+    public PushNotificationBatchSettings() {
+        this(DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_LINGER, DEFAULT_MAX_ATTEMPTS, DEFAULT_RETRY_BACKOFF);
+    }
+}
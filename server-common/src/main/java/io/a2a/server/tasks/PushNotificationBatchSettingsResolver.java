@@ -0,0 +1,20 @@
+package io.a2a.server.tasks;
+
+import io.a2a.spec.PushNotificationConfig;
+
+/**
+ * Decides which push notification configurations have their notifications delivered in batches.
+ * <p>
+ * A CDI bean implementing this interface is picked up by {@link BasePushNotificationSender}. Without one,
+ * every notification is sent on its own.
+ */
+@FunctionalInterface
+public interface PushNotificationBatchSettingsResolver {
+
+    /**
+     * @param config the push notification configuration a notification is sent for
+     * @return the batch settings for the configuration, or {@code null} if its notifications should be sent
+     * one by one
+     */
+    PushNotificationBatchSettings resolve(PushNotificationConfig config);
+}
@@ -0,0 +1,327 @@
+package io.a2a.server.tasks;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import io.a2a.server.tasks.BasePushNotificationSender.DeliveryResult;
+import io.a2a.spec.PushNotificationAuthenticationInfo;
+import io.a2a.spec.PushNotificationConfig;
+import io.a2a.spec.Task;
+import io.a2a.util.JsonCodec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Groups push notifications destined to the same endpoint and delivers them as a JSON array of tasks.
+ * <p>
+ * A batch is keyed by the URL, token and authentication of the push notification configuration, so that every
+ * notification is sent with the credentials of its own configuration. It is sent once it holds
+ * {@link PushNotificationBatchSettings#maxBatchSize()} tasks, or {@link PushNotificationBatchSettings#maxLinger()}
+ * after its first notification was added, whichever comes first. If a task is notified again while an earlier
+ * notification for it is still waiting, only the latest state is sent. A batch is acknowledged as a whole by a
+ * successful response, and retried as a whole otherwise.
+ * <p>
+ * Deliveries to an endpoint are serialized: a batch is only sent once the previous one was acknowledged, rejected
+ * or given up on, so an older state of a task never arrives after a newer one. A failed batch is retried before
+ * any newer notification, without the tasks that were notified again in the meantime, whose older state is
+ * dropped. On {@link #close()}, the notifications still waiting are sent synchronously, retried without backoff
+ * up to their remaining attempts, and rejected afterwards.
+ */
+class PushNotificationBatcher implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PushNotificationBatcher.class);
+
+    private static final TypeReference<List<Task>> TASK_LIST_TYPE = new TypeReference<>() {};
+
+    private final ConcurrentMap<BatchKey, Batch> batches = new ConcurrentHashMap<>();
+    private final BiFunction<PushNotificationConfig, byte[], DeliveryResult> delivery;
+    private final BiConsumer<Task, PushNotificationConfig> rejectedConsumer;
+    private final PushNotificationMetrics metrics;
+    private final ScheduledExecutorService scheduler;
+    private volatile boolean closed;
+
+    PushNotificationBatcher(BiFunction<PushNotificationConfig, byte[], DeliveryResult> delivery,
+                            BiConsumer<Task, PushNotificationConfig> rejectedConsumer,
+                            PushNotificationMetrics metrics) {
+        this.delivery = delivery;
+        this.rejectedConsumer = rejectedConsumer;
+        this.metrics = metrics;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "a2a-push-notification-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    void add(Task task, long producedAt, PushNotificationConfig config, PushNotificationBatchSettings settings) {
+        BatchKey key = new BatchKey(config.url(), config.token(), config.authentication());
+        while (true) {
+            if (closed) {
+                metrics.backlogChanged(config.url(), 1);
+                reject(config, List.of(new PendingNotification(task, producedAt, 0)));
+                return;
+            }
+            Batch batch = batches.computeIfAbsent(key, k -> new Batch(k, config, settings));
+            if (batch.add(task, producedAt)) {
+                return;
+            }
+            // The batch was retired concurrently, try again with a fresh one
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        scheduler.shutdownNow();
+        for (Batch batch : batches.values()) {
+            batch.close();
+        }
+    }
+
+    private byte[] serialize(PushNotificationConfig config, List<PendingNotification> tasks) {
+        try {
+            return JsonCodec.DEFAULT.writer(TASK_LIST_TYPE).writeValueAsBytes(
+                    tasks.stream().map(PendingNotification::task).toList());
+        } catch (Throwable throwable) {
+            LOGGER.debug("Error writing value as string: {}", throwable.getMessage(), throwable);
+            metrics.backlogChanged(config.url(), -tasks.size());
+            return null;
+        }
+    }
+
+    private void acknowledge(PushNotificationConfig config, List<PendingNotification> tasks) {
+        LOGGER.debug("Sent batch of {} push notifications to {}", tasks.size(), config.url());
+        long now = System.nanoTime();
+        for (PendingNotification notification : tasks) {
+            metrics.notificationAcknowledged(config.url(), now - notification.producedAt());
+        }
+        metrics.backlogChanged(config.url(), -tasks.size());
+    }
+
+    private void reject(PushNotificationConfig config, List<PendingNotification> tasks) {
+        metrics.notificationsRejected(config.url(), tasks.size());
+        metrics.backlogChanged(config.url(), -tasks.size());
+        tasks.forEach(notification -> rejectedConsumer.accept(notification.task(), config));
+    }
+
+    private record PendingNotification(Task task, long producedAt, int attempts) {
+    }
+
+    private record BatchKey(String url, String token, PushNotificationAuthenticationInfo authentication) {
+    }
+
+    private class Batch {
+        private final BatchKey key;
+        private final PushNotificationConfig config;
+        private final PushNotificationBatchSettings settings;
+        // Keyed by task id so that repeated notifications for a task collapse into the latest one
+        private final Map<String, PendingNotification> pending = new LinkedHashMap<>();
+        private ScheduledFuture<?> scheduledFlush;
+        // Completed once the batch being sent was acknowledged, rejected or given up on
+        private CompletableFuture<Void> inFlight;
+        private boolean backingOff;
+        private int failures;
+        private boolean retired;
+
+        Batch(BatchKey key, PushNotificationConfig config, PushNotificationBatchSettings settings) {
+            this.key = key;
+            this.config = config;
+            this.settings = settings;
+        }
+
+        boolean add(Task task, long producedAt) {
+            List<PendingNotification> tasks;
+            synchronized (this) {
+                if (retired) {
+                    return false;
+                }
+                PendingNotification previous = pending.get(task.getId());
+                if (previous == null) {
+                    metrics.backlogChanged(key.url(), 1);
+                } else {
+                    // Measure the lag from the oldest update that has not been delivered yet
+                    producedAt = previous.producedAt();
+                }
+                pending.put(task.getId(), new PendingNotification(task, producedAt, 0));
+                tasks = pending.size() >= settings.maxBatchSize() ? startDelivery() : null;
+                if (tasks == null) {
+                    scheduleFlush(settings.maxLinger().toNanos());
+                }
+            }
+            if (tasks != null) {
+                CompletableFuture.runAsync(() -> deliver(tasks));
+            }
+            return true;
+        }
+
+        private void flush() {
+            List<PendingNotification> tasks;
+            synchronized (this) {
+                scheduledFlush = null;
+                backingOff = false;
+                tasks = startDelivery();
+            }
+            if (tasks != null) {
+                CompletableFuture.runAsync(() -> deliver(tasks));
+            }
+        }
+
+        // Called with the lock held
+        private List<PendingNotification> startDelivery() {
+            if (inFlight != null || backingOff || closed || pending.isEmpty()) {
+                return null;
+            }
+            if (scheduledFlush != null) {
+                scheduledFlush.cancel(false);
+                scheduledFlush = null;
+            }
+            return take();
+        }
+
+        // Called with the lock held
+        private List<PendingNotification> take() {
+            List<PendingNotification> tasks = new ArrayList<>();
+            Iterator<PendingNotification> iterator = pending.values().iterator();
+            while (iterator.hasNext() && tasks.size() < settings.maxBatchSize()) {
+                tasks.add(iterator.next());
+                iterator.remove();
+            }
+            inFlight = new CompletableFuture<>();
+            return tasks;
+        }
+
+        // Called with the lock held
+        private void scheduleFlush(long delayNanos) {
+            if (scheduledFlush != null || inFlight != null || closed || pending.isEmpty()) {
+                return;
+            }
+            try {
+                scheduledFlush = scheduler.schedule(this::flush, delayNanos, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                // The batcher is being closed, which sends the pending notifications itself
+            }
+        }
+
+        private void deliver(List<PendingNotification> tasks) {
+            byte[] body = serialize(config, tasks);
+            DeliveryResult result = body == null ? null : delivery.apply(config, body);
+            completed(tasks, result);
+        }
+
+        private void completed(List<PendingNotification> tasks, DeliveryResult result) {
+            List<PendingNotification> rejected = new ArrayList<>();
+            List<PendingNotification> next = null;
+            CompletableFuture<Void> done;
+            synchronized (this) {
+                done = inFlight;
+                inFlight = null;
+                if (result == DeliveryResult.SENT) {
+                    acknowledge(config, tasks);
+                } else if (result == DeliveryResult.REJECTED) {
+                    rejected.addAll(tasks);
+                }
+                boolean retrying = result == DeliveryResult.FAILED && requeue(tasks, rejected);
+                failures = retrying ? failures + 1 : 0;
+                if (pending.isEmpty()) {
+                    if (scheduledFlush == null) {
+                        // Retire the batch so that idle endpoints do not accumulate
+                        retired = true;
+                        batches.remove(key, this);
+                    }
+                } else if (retrying) {
+                    long delay = settings.retryBackoff().toNanos() << Math.min(failures - 1, 16);
+                    LOGGER.debug("Retrying batch of {} push notifications to {} in {} ms",
+                            pending.size(), config.url(), TimeUnit.NANOSECONDS.toMillis(delay));
+                    backingOff = true;
+                    scheduleFlush(delay);
+                } else if (pending.size() >= settings.maxBatchSize()) {
+                    next = startDelivery();
+                } else {
+                    scheduleFlush(settings.maxLinger().toNanos());
+                }
+            }
+            done.complete(null);
+            if (!rejected.isEmpty()) {
+                reject(config, rejected);
+            }
+            if (next != null) {
+                List<PendingNotification> nextTasks = next;
+                CompletableFuture.runAsync(() -> deliver(nextTasks));
+            }
+        }
+
+        // Called with the lock held. Puts the failed notifications back ahead of the newer ones, unless a newer
+        // state of the same task is waiting, collects those that ran out of attempts, and tells whether any
+        // notification is retried.
+        private boolean requeue(List<PendingNotification> tasks, List<PendingNotification> rejected) {
+            Map<String, PendingNotification> retried = new LinkedHashMap<>();
+            for (PendingNotification notification : tasks) {
+                String taskId = notification.task().getId();
+                if (pending.containsKey(taskId)) {
+                    // Superseded, the newer state is counted in the backlog on its own
+                    metrics.backlogChanged(key.url(), -1);
+                } else if (notification.attempts() + 1 >= settings.maxAttempts()) {
+                    rejected.add(notification);
+                } else {
+                    retried.put(taskId, new PendingNotification(notification.task(), notification.producedAt(),
+                            notification.attempts() + 1));
+                }
+            }
+            if (!rejected.isEmpty()) {
+                LOGGER.warn("Giving up on {} push notifications to {} after {} attempts",
+                        rejected.size(), config.url(), settings.maxAttempts());
+            }
+            if (retried.isEmpty()) {
+                return false;
+            }
+            retried.putAll(pending);
+            pending.clear();
+            pending.putAll(retried);
+            return true;
+        }
+
+        void close() {
+            CompletableFuture<Void> current;
+            synchronized (this) {
+                if (scheduledFlush != null) {
+                    scheduledFlush.cancel(false);
+                    scheduledFlush = null;
+                }
+                backingOff = false;
+                current = inFlight;
+            }
+            if (current != null) {
+                // Let the batch being sent finish first so the endpoint still sees the states in order
+                current.join();
+            }
+            while (true) {
+                List<PendingNotification> tasks;
+                synchronized (this) {
+                    if (pending.isEmpty()) {
+                        retired = true;
+                        batches.remove(key, this);
+                        return;
+                    }
+                    tasks = take();
+                }
+                deliver(tasks);
+            }
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package io.a2a.server.tasks;
+
+import static io.a2a.util.Assert.checkNotNullParam;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tracks the health of push notification endpoints and trips a circuit per webhook URL.
+ * <p>
+ * Each URL keeps a sliding window of the most recent delivery outcomes. Once the window holds at least
+ * {@code minimumCalls} outcomes and the failure rate reaches {@code failureRateThreshold}, the circuit opens
+ * and deliveries to that URL are rejected without a connection attempt. Deliveries slower than
+ * {@code slowCallThreshold} count as failures, since a hanging endpoint ties up delivery capacity just like
+ * a dead one. After {@code openDuration} a single probe is let through (half-open); its outcome either closes
+ * the circuit again or re-opens it for another {@code openDuration}.
+ * <p>
+ * Outcomes are recorded through the {@link Permit} of each delivery. Deliveries which started before the circuit
+ * last changed state, such as slow deliveries finishing while the probe is in flight, do not count towards the
+ * new state, so that only the probe decides whether a half-open circuit closes.
+ * <p>
+ * Since webhook URLs are supplied by clients, endpoints with a closed circuit and no delivery for
+ * {@code idleTimeout} are forgotten, as are those whose open circuit has been due for a probe for as long. They
+ * are looked for at most once per {@code idleTimeout}, when a delivery is attempted.
+ */
+public class PushNotificationCircuitBreaker {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PushNotificationCircuitBreaker.class);
+
+    public static final int DEFAULT_WINDOW_SIZE = 20;
+    public static final int DEFAULT_MINIMUM_CALLS = 5;
+    public static final double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5;
+    public static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+    public static final Duration DEFAULT_SLOW_CALL_THRESHOLD = Duration.ofSeconds(10);
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /**
+     * A point-in-time view of the health of a single push notification endpoint.
+     *
+     * @param url the webhook URL
+     * @param state the circuit state
+     * @param calls the number of outcomes currently in the sliding window
+     * @param failureRate the failure rate over the sliding window, between 0 and 1
+     * @param averageLatency the exponentially weighted moving average of the delivery latency
+     */
+    public record EndpointHealth(String url, State state, int calls, double failureRate, Duration averageLatency) {
+    }
+
+    private final ConcurrentMap<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final long slowCallThresholdNanos;
+    private final long idleTimeoutNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong lastExpiry;
+
+    public PushNotificationCircuitBreaker() {
+        this(DEFAULT_WINDOW_SIZE, DEFAULT_MINIMUM_CALLS, DEFAULT_FAILURE_RATE_THRESHOLD,
+                DEFAULT_OPEN_DURATION, DEFAULT_SLOW_CALL_THRESHOLD);
+    }
+
+    public PushNotificationCircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold,
+                                          Duration openDuration, Duration slowCallThreshold) {
+        this(windowSize, minimumCalls, failureRateThreshold, openDuration, slowCallThreshold, DEFAULT_IDLE_TIMEOUT);
+    }
+
+    public PushNotificationCircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold,
+                                          Duration openDuration, Duration slowCallThreshold, Duration idleTimeout) {
+        this(windowSize, minimumCalls, failureRateThreshold, openDuration, slowCallThreshold, idleTimeout,
+                System::nanoTime);
+    }
+
+    PushNotificationCircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold,
+                                   Duration openDuration, Duration slowCallThreshold, Duration idleTimeout,
+                                   LongSupplier nanoClock) {
+        checkNotNullParam("openDuration", openDuration);
+        checkNotNullParam("slowCallThreshold", slowCallThreshold);
+        checkNotNullParam("idleTimeout", idleTimeout);
+        checkNotNullParam("nanoClock", nanoClock);
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize must be greater than zero");
+        }
+        if (minimumCalls <= 0 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException("minimumCalls must be between 1 and windowSize");
+        }
+        if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+            throw new IllegalArgumentException("failureRateThreshold must be in the range (0, 1]");
+        }
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.slowCallThresholdNanos = slowCallThreshold.toNanos();
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.nanoClock = nanoClock;
+        this.lastExpiry = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * Checks whether a delivery to the given URL may be attempted. When it may, the caller must report the
+     * outcome of the delivery with the returned permit.
+     *
+     * @param url the webhook URL
+     * @return the permit of the delivery, or {@code null} if the circuit is open
+     */
+    public Permit tryAcquire(String url) {
+        long now = nanoClock.getAsLong();
+        expireIdleEndpoints(now);
+        return endpoint(url).tryAcquire(now);
+    }
+
+    /**
+     * The permission to attempt a single delivery, through which its outcome is recorded.
+     */
+    public final class Permit {
+        private final Endpoint endpoint;
+        private final long generation;
+        private final boolean probe;
+
+        private Permit(Endpoint endpoint, long generation, boolean probe) {
+            this.endpoint = endpoint;
+            this.generation = generation;
+            this.probe = probe;
+        }
+
+        /**
+         * Records a successful delivery.
+         *
+         * @param latencyNanos the time the delivery took
+         */
+        public void recordSuccess(long latencyNanos) {
+            endpoint.record(this, latencyNanos < slowCallThresholdNanos, latencyNanos, nanoClock.getAsLong());
+        }
+
+        /**
+         * Records a failed delivery.
+         *
+         * @param latencyNanos the time the delivery took before failing
+         */
+        public void recordFailure(long latencyNanos) {
+            endpoint.record(this, false, latencyNanos, nanoClock.getAsLong());
+        }
+    }
+
+    /**
+     * Returns the health of the given endpoint.
+     *
+     * @param url the webhook URL
+     * @return the endpoint health, or {@code null} if no delivery has been attempted to the URL
+     */
+    public EndpointHealth getHealth(String url) {
+        Endpoint endpoint = endpoints.get(url);
+        return endpoint == null ? null : endpoint.snapshot(nanoClock.getAsLong());
+    }
+
+    /**
+     * Forgets all state tracked for the given endpoint, closing its circuit.
+     *
+     * @param url the webhook URL
+     */
+    public void reset(String url) {
+        endpoints.remove(url);
+    }
+
+    private Endpoint endpoint(String url) {
+        return endpoints.computeIfAbsent(url, Endpoint::new);
+    }
+
+    private void expireIdleEndpoints(long now) {
+        long last = lastExpiry.get();
+        if (now - last < idleTimeoutNanos || !lastExpiry.compareAndSet(last, now)) {
+            return;
+        }
+        for (Endpoint endpoint : endpoints.values()) {
+            if (endpoint.isExpired(now)) {
+                // A delivery racing with the removal only loses its outcome
+                endpoints.remove(endpoint.url, endpoint);
+            }
+        }
+    }
+
+    private class Endpoint {
+        private final String url;
+        // Ring buffer of outcomes; true means failure
+        private final boolean[] outcomes = new boolean[windowSize];
+        private int position;
+        private int calls;
+        private int failures;
+        private State state = State.CLOSED;
+        // Incremented on every change of state, so that the outcomes of deliveries started before are told apart
+        private long generation;
+        private long openedAt;
+        private boolean probeInFlight;
+        private long averageLatencyNanos = -1;
+        private long lastActivity;
+
+        Endpoint(String url) {
+            this.url = url;
+            this.lastActivity = nanoClock.getAsLong();
+        }
+
+        synchronized Permit tryAcquire(long now) {
+            lastActivity = now;
+            switch (state) {
+                case CLOSED:
+                    return new Permit(this, generation, false);
+                case OPEN:
+                    if (now - openedAt < openDurationNanos) {
+                        return null;
+                    }
+                    LOGGER.debug("Circuit for push notification endpoint {} is half-open, sending probe", url);
+                    transition(State.HALF_OPEN);
+                    probeInFlight = true;
+                    return new Permit(this, generation, true);
+                case HALF_OPEN:
+                default:
+                    if (probeInFlight) {
+                        return null;
+                    }
+                    probeInFlight = true;
+                    return new Permit(this, generation, true);
+            }
+        }
+
+        synchronized void record(Permit permit, boolean success, long latencyNanos, long now) {
+            lastActivity = now;
+            averageLatencyNanos = averageLatencyNanos < 0
+                    ? latencyNanos
+                    : (averageLatencyNanos * 7 + latencyNanos) / 8;
+
+            if (permit.generation != generation) {
+                // A delivery that started before the circuit last changed state; it does not change the decision
+                return;
+            }
+            if (state == State.HALF_OPEN) {
+                if (!permit.probe) {
+                    return;
+                }
+                probeInFlight = false;
+                if (success) {
+                    LOGGER.info("Push notification endpoint {} recovered, closing circuit", url);
+                    transition(State.CLOSED);
+                    clearWindow();
+                } else {
+                    open(now);
+                }
+                return;
+            }
+
+            if (calls == windowSize) {
+                if (outcomes[position]) {
+                    failures--;
+                }
+            } else {
+                calls++;
+            }
+            outcomes[position] = !success;
+            if (!success) {
+                failures++;
+            }
+            position = (position + 1) % windowSize;
+
+            if (calls >= minimumCalls && failureRate() >= failureRateThreshold) {
+                open(now);
+            }
+        }
+
+        synchronized EndpointHealth snapshot(long now) {
+            State current = state == State.OPEN && now - openedAt >= openDurationNanos ? State.HALF_OPEN : state;
+            return new EndpointHealth(url, current, calls, failureRate(),
+                    Duration.ofNanos(Math.max(averageLatencyNanos, 0)));
+        }
+
+        synchronized boolean isExpired(long now) {
+            if (now - lastActivity < idleTimeoutNanos) {
+                return false;
+            }
+            return state == State.CLOSED
+                    || state == State.OPEN && now - openedAt >= openDurationNanos + idleTimeoutNanos;
+        }
+
+        private double failureRate() {
+            return calls == 0 ? 0 : (double) failures / calls;
+        }
+
+        private void open(long now) {
+            LOGGER.warn("Opening circuit for push notification endpoint {} (failure rate {})", url, failureRate());
+            transition(State.OPEN);
+            openedAt = now;
+        }
+
+        private void transition(State newState) {
+            state = newState;
+            generation++;
+        }
+
+        private void clearWindow() {
+            Arrays.fill(outcomes, false);
+            position = 0;
+            calls = 0;
+            failures = 0;
+        }
+    }
+}
@@ -23,6 +23,27 @@ public interface PushNotificationConfigStore {
      */
     List<PushNotificationConfig> getInfo(String taskId);
 
+    /**
+     * Retrieves a single push notification configuration for a task.
+     * @param taskId the task ID
+     * @param configId the push notification configuration ID, or {@code null} for the default configuration
+     *                 whose ID is the task ID
+     * @return the push notification configuration, or {@code null} if there is none with the given ID
+     */
+    default PushNotificationConfig getInfo(String taskId, String configId) {
+        List<PushNotificationConfig> configs = getInfo(taskId);
+        if (configs == null) {
+            return null;
+        }
+        String id = configId == null ? taskId : configId;
+        for (PushNotificationConfig config : configs) {
+            if (id.equals(config.id())) {
+                return config;
+            }
+        }
+        return null;
+    }
+
     /**
      * Deletes the push notification configuration for a task.
      * @param taskId the task ID
@@ -30,4 +51,18 @@ public interface PushNotificationConfigStore {
      */
     void deleteInfo(String taskId, String configId);
 
+    /**
+     * Deletes all push notification configurations for a task, e.g. when the task is evicted.
+     * @param taskId the task ID
+     */
+    default void deleteInfo(String taskId) {
+        List<PushNotificationConfig> configs = getInfo(taskId);
+        if (configs == null) {
+            return;
+        }
+        for (PushNotificationConfig config : List.copyOf(configs)) {
+            deleteInfo(taskId, config.id());
+        }
+    }
+
 }
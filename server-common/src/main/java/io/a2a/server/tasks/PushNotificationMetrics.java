@@ -0,0 +1,62 @@
+package io.a2a.server.tasks;
+
+/**
+ * Receives instrumentation events from the push notification path.
+ * <p>
+ * Implementations typically bind these events to a metrics library. A CDI bean implementing this
+ * interface is picked up by {@link BasePushNotificationSender}; all methods default to doing nothing,
+ * so implementations only override what they are interested in. Methods are called on the delivery
+ * threads and must not block.
+ */
+public interface PushNotificationMetrics {
+
+    PushNotificationMetrics NO_OP = new PushNotificationMetrics() {
+    };
+
+    enum Outcome {
+        SUCCESS,
+        FAILURE,
+        TIMEOUT
+    }
+
+    /**
+     * Called when a POST to a push notification endpoint starts.
+     * @param url the webhook URL
+     */
+    default void deliveryStarted(String url) {
+    }
+
+    /**
+     * Called when a POST to a push notification endpoint completes, whether it succeeded or not.
+     * @param url the webhook URL
+     * @param outcome the outcome of the POST
+     * @param latencyNanos the time the POST took
+     */
+    default void deliveryFinished(String url, Outcome outcome, long latencyNanos) {
+    }
+
+    /**
+     * Called when notifications are not delivered, because the circuit for their endpoint is open or
+     * because all delivery attempts failed.
+     * @param url the webhook URL
+     * @param count the number of notifications
+     */
+    default void notificationsRejected(String url, int count) {
+    }
+
+    /**
+     * Called when a webhook acknowledged a notification.
+     * @param url the webhook URL
+     * @param lagNanos the time between the task update being produced and the webhook acknowledging it
+     */
+    default void notificationAcknowledged(String url, long lagNanos) {
+    }
+
+    /**
+     * Called when the number of notifications waiting to be delivered changes.
+     * @param url the webhook URL
+     * @param delta the change in the number of waiting notifications
+     */
+    default void backlogChanged(String url, int delta) {
+    }
+}
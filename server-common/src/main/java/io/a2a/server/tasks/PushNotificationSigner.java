@@ -0,0 +1,188 @@
+package io.a2a.server.tasks;
+
+import static io.a2a.util.Assert.checkNotNullParam;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import io.a2a.util.Utils;
+
+/**
+ * Signs push notification bodies so that webhooks can verify that a notification was sent by this agent
+ * and was not tampered with.
+ * <p>
+ * A signature is a compact JWS (a JWT) whose claims carry the issue time and the SHA-256 digest of the
+ * serialized request body ({@code request_body_sha256}). Webhooks verify it against the JWK set returned by
+ * {@link #getJwkSet()}, which agents typically publish at {@code /.well-known/jwks.json}.
+ * <p>
+ * Everything that does not depend on the body is done once: the key is loaded and the encoded JWS header and
+ * JWK set are computed when the signer is created, and initialized {@link Signature} and {@link MessageDigest}
+ * instances are reused per thread. Signing a notification therefore costs one digest and one signature
+ * operation over the already-serialized body bytes.
+ * <p>
+ * RSA keys sign with {@code RS256} and P-256 EC keys with {@code ES256}.
+ */
+public class PushNotificationSigner {
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final String keyId;
+    private final String algorithm;
+    private final String encodedHeader;
+    private final String jwkSet;
+    private final Clock clock;
+    private final ThreadLocal<Signature> signatures;
+    private final ThreadLocal<MessageDigest> digests;
+
+    public PushNotificationSigner(KeyPair keyPair, String keyId) {
+        this(keyPair, keyId, Clock.systemUTC());
+    }
+
+    PushNotificationSigner(KeyPair keyPair, String keyId, Clock clock) {
+        checkNotNullParam("keyPair", keyPair);
+        checkNotNullParam("keyId", keyId);
+        checkNotNullParam("clock", clock);
+        this.keyId = keyId;
+        this.clock = clock;
+
+        PublicKey publicKey = keyPair.getPublic();
+        PrivateKey privateKey = keyPair.getPrivate();
+        Map<String, String> jwk = new LinkedHashMap<>();
+        String signatureAlgorithm;
+        if (publicKey instanceof RSAPublicKey rsaPublicKey) {
+            algorithm = "RS256";
+            signatureAlgorithm = "SHA256withRSA";
+            jwk.put("kty", "RSA");
+            jwk.put("n", encodeUnsigned(rsaPublicKey.getModulus(), 0));
+            jwk.put("e", encodeUnsigned(rsaPublicKey.getPublicExponent(), 0));
+        } else if (publicKey instanceof ECPublicKey ecPublicKey && ecPublicKey.getParams().getCurve().getField().getFieldSize() == 256) {
+            algorithm = "ES256";
+            // JWS requires the raw R || S encoding rather than DER
+            signatureAlgorithm = "SHA256withECDSAinP1363Format";
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("x", encodeUnsigned(ecPublicKey.getW().getAffineX(), 32));
+            jwk.put("y", encodeUnsigned(ecPublicKey.getW().getAffineY(), 32));
+        } else {
+            throw new IllegalArgumentException("Only RSA and P-256 EC keys are supported");
+        }
+        jwk.put("kid", keyId);
+        jwk.put("use", "sig");
+        jwk.put("alg", algorithm);
+
+        Map<String, String> header = new LinkedHashMap<>();
+        header.put("alg", algorithm);
+        header.put("typ", "JWT");
+        header.put("kid", keyId);
+        try {
+            this.encodedHeader = BASE64_URL.encodeToString(Utils.OBJECT_MAPPER.writeValueAsBytes(header));
+            this.jwkSet = Utils.OBJECT_MAPPER.writeValueAsString(Map.of("keys", List.of(jwk)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+
+        // Fail fast on an unusable key rather than on the first notification
+        createSignature(signatureAlgorithm, privateKey);
+        this.signatures = ThreadLocal.withInitial(() -> createSignature(signatureAlgorithm, privateKey));
+        this.digests = ThreadLocal.withInitial(() -> {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    /**
+     * Creates a signer with a freshly generated P-256 key pair.
+     * @param keyId the key ID to advertise in the JWS header and JWK set
+     * @return the signer
+     */
+    public static PushNotificationSigner generate(String keyId) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            return new PushNotificationSigner(generator.generateKeyPair(), keyId);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Signs a serialized push notification body.
+     * @param body the exact bytes that will be sent
+     * @return the compact JWS to send as a bearer token
+     */
+    public String sign(byte[] body) {
+        MessageDigest digest = digests.get();
+        String bodyHash = HEX.formatHex(digest.digest(body));
+        String claims = "{\"iat\":" + clock.instant().getEpochSecond()
+                + ",\"request_body_sha256\":\"" + bodyHash + "\"}";
+        String signingInput = encodedHeader + "." + BASE64_URL.encodeToString(claims.getBytes(StandardCharsets.UTF_8));
+
+        Signature signature = signatures.get();
+        try {
+            signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+            return signingInput + "." + BASE64_URL.encodeToString(signature.sign());
+        } catch (GeneralSecurityException e) {
+            // Discard the instance in case it was left in an inconsistent state
+            signatures.remove();
+            throw new IllegalStateException("Error signing push notification", e);
+        }
+    }
+
+    /**
+     * Returns the JWK set containing the public key webhooks use to verify signatures.
+     * @return the JWK set as JSON
+     */
+    public String getJwkSet() {
+        return jwkSet;
+    }
+
+    public String getKeyId() {
+        return keyId;
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    private static Signature createSignature(String signatureAlgorithm, PrivateKey privateKey) {
+        try {
+            Signature signature = Signature.getInstance(signatureAlgorithm);
+            signature.initSign(privateKey);
+            return signature;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("Unable to sign with the given key", e);
+        }
+    }
+
+    private static String encodeUnsigned(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        int start = bytes.length > 1 && bytes[0] == 0 ? 1 : 0;
+        int size = Math.max(bytes.length - start, length);
+        byte[] unsigned = new byte[size];
+        System.arraycopy(bytes, start, unsigned, size - (bytes.length - start), bytes.length - start);
+        return BASE64_URL.encodeToString(unsigned);
+    }
+}
@@ -8,6 +8,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import io.a2a.server.events.EventConsumer;
 import io.a2a.spec.A2AServerException;
@@ -23,6 +24,7 @@ import io.a2a.util.Utils;
 public class ResultAggregator {
     private final TaskManager taskManager;
     private volatile Message message;
+    private Event lastProcessed;
 
     public ResultAggregator(TaskManager taskManager, Message message) {
         this.taskManager = taskManager;
@@ -37,14 +39,43 @@ public class ResultAggregator {
     }
 
     public Flow.Publisher<Event> consumeAndEmit(EventConsumer consumer) {
+        return consumeAndEmit(consumer, event -> {});
+    }
+
+    /**
+     * Consumes the events, processing them with the task manager, and emits them.
+     * <p>
+     * The events consumed from a main queue are still processed once the subscriber cancelled, up to the
+     * final event of the task, so that the stored task reaches its final state.
+     *
+     * @param consumer the consumer of the events
+     * @param processed called with each event once the task manager processed it, whether or not the event is
+     *                  emitted
+     * @return the events
+     */
+    public Flow.Publisher<Event> consumeAndEmit(EventConsumer consumer, Consumer<Event> processed) {
+        consumer.setUndeliveredEventHandler(event -> processOnce(event, processed));
         Flow.Publisher<Event> all = consumer.consumeAll();
 
         return processor(createTubeConfig(), all, ((errorConsumer, event) -> {
-            callTaskManagerProcess(event);
+            processOnce(event, processed);
             return true;
         }));
     }
 
+    /**
+     * Processes an event, unless it is the event processed last, which the consumer passes again when it is
+     * not known whether it was emitted before the subscriber cancelled.
+     */
+    private synchronized void processOnce(Event event, Consumer<Event> processed) {
+        if (event == lastProcessed) {
+            return;
+        }
+        lastProcessed = event;
+        callTaskManagerProcess(event);
+        processed.accept(event);
+    }
+
     public EventKind consumeAll(EventConsumer consumer) {
         AtomicReference<EventKind> returnedEvent = new AtomicReference<>();
         Flow.Publisher<Event> all = consumer.consumeAll();
@@ -0,0 +1,22 @@
+package io.a2a.server.tasks;
+
+import java.time.Duration;
+
+import io.a2a.spec.Task;
+
+/**
+ * Decides how long tasks are kept once they reached a final state, after which they are removed from the task
+ * store along with their push notification configurations and artifact blobs.
+ * <p>
+ * A CDI bean implementing this interface is picked up by {@link InMemoryTaskStore}. Without one, tasks are kept
+ * until they are deleted.
+ */
+@FunctionalInterface
+public interface TaskRetentionPolicy {
+
+    /**
+     * @param task a task in a final state
+     * @return how long to keep the task, or {@code null} to keep it until it is deleted
+     */
+    Duration retention(Task task);
+}
@@ -1,5 +1,7 @@
 package io.a2a.server.tasks;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -7,6 +9,8 @@ import java.util.UUID;
 import io.a2a.server.agentexecution.RequestContext;
 import io.a2a.server.events.EventQueue;
 import io.a2a.spec.Artifact;
+import io.a2a.spec.FilePart;
+import io.a2a.spec.FileWithBytes;
 import io.a2a.spec.Message;
 import io.a2a.spec.Part;
 import io.a2a.spec.TaskArtifactUpdateEvent;
@@ -40,6 +44,21 @@ public class TaskUpdater {
     }
 
     public void addArtifact(List<Part<?>> parts, String artifactId, String name, Map<String, Object> metadata) {
+        addArtifact(parts, artifactId, name, metadata, null, null);
+    }
+
+    /**
+     * Adds an artifact, or a chunk of one.
+     *
+     * @param parts the parts of the artifact, or those of the chunk
+     * @param artifactId the id of the artifact, generated if {@code null}
+     * @param name the name of the artifact
+     * @param metadata the metadata of the artifact
+     * @param append whether the parts are appended to those of the artifact sent previously with the same id
+     * @param lastChunk whether this is the last chunk of the artifact
+     */
+    public void addArtifact(List<Part<?>> parts, String artifactId, String name, Map<String, Object> metadata,
+                            Boolean append, Boolean lastChunk) {
         if (artifactId == null) {
             artifactId = UUID.randomUUID().toString();
         }
@@ -54,10 +73,59 @@ public class TaskUpdater {
                                 .metadata(metadata)
                                 .build()
                 )
+                .append(append)
+                .lastChunk(lastChunk)
                 .build();
         eventQueue.enqueueEvent(event);
     }
 
+    /**
+     * Adds an artifact holding a file read from a stream, sent as a sequence of chunks holding a file part of at
+     * most {@code chunkSize} bytes each, so that the file is never held in memory as a whole. The first chunk
+     * creates the artifact, and the following ones are appended to it.
+     * <p>
+     * Since the event queue is bounded, this blocks while the queue is full, for instance while a client reads
+     * the previous chunks from a slow connection.
+     * <p>
+     * The task store still aggregates the chunks into the artifact of the stored task, one file part per chunk.
+     * An {@link InMemoryTaskStore} configured with an {@link ArtifactBlobStore} keeps the chunks out of line once
+     * the file exceeds the threshold of the blob store; without one, the stored task holds the whole file in
+     * memory. Since appending a chunk copies the list of parts of the artifact, the cost of each chunk grows with
+     * the number of chunks before it, so the chunk size should keep that number in the thousands at most.
+     *
+     * @param content the content of the file, read until its end but not closed
+     * @param mimeType the MIME type of the file
+     * @param fileName the name of the file
+     * @param artifactId the id of the artifact, generated if {@code null}
+     * @param name the name of the artifact
+     * @param chunkSize the maximum number of bytes of the file in each chunk
+     * @return the id of the artifact
+     * @throws IOException if reading the content fails, in which case the artifact is incomplete
+     */
+    public String addFileArtifact(InputStream content, String mimeType, String fileName, String artifactId,
+                                  String name, int chunkSize) throws IOException {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Invalid chunk size: " + chunkSize);
+        }
+        if (artifactId == null) {
+            artifactId = UUID.randomUUID().toString();
+        }
+        byte[] chunk = content.readNBytes(chunkSize);
+        boolean append = false;
+        while (true) {
+            // Reading ahead tells whether the current chunk is the last one
+            byte[] next = chunk.length < chunkSize ? new byte[0] : content.readNBytes(chunkSize);
+            boolean lastChunk = next.length == 0;
+            List<Part<?>> parts = List.of(new FilePart(FileWithBytes.of(mimeType, fileName, chunk)));
+            addArtifact(parts, artifactId, name, null, append, lastChunk);
+            if (lastChunk) {
+                return artifactId;
+            }
+            chunk = next;
+            append = true;
+        }
+    }
+
     public void complete() {
         complete(null);
     }
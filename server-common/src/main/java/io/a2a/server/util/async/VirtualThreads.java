@@ -0,0 +1,43 @@
+package io.a2a.server.util.async;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates executors running each task on its own virtual thread, for transports whose streaming subscriptions
+ * block a thread while waiting for events.
+ * <p>
+ * The SDK targets Java 17, so the executor is looked up reflectively and is only available on Java 21 or later.
+ * On earlier versions, {@link #newExecutor()} logs a warning and returns {@code null}, and callers fall back to
+ * the executor they would use without virtual threads.
+ */
+public final class VirtualThreads {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreads.class);
+
+    private static final String FACTORY_METHOD = "newVirtualThreadPerTaskExecutor";
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * @return an executor starting a new virtual thread for each task, or {@code null} if the JVM does not
+     * support virtual threads
+     */
+    public static ExecutorService newExecutor() {
+        return newExecutor(FACTORY_METHOD);
+    }
+
+    // The factory method can be replaced by tests, to check the fallback on JVMs supporting virtual threads
+    static ExecutorService newExecutor(String factoryMethod) {
+        try {
+            return (ExecutorService) Executors.class.getMethod(factoryMethod).invoke(null);
+        } catch (ReflectiveOperationException e) {
+            LOGGER.warn("Virtual threads are not supported by Java {}", Runtime.version().feature());
+            return null;
+        }
+    }
+}
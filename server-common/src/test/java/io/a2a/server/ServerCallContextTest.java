@@ -0,0 +1,43 @@
+package io.a2a.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.a2a.server.auth.UnauthenticatedUser;
+import org.junit.jupiter.api.Test;
+
+public class ServerCallContextTest {
+
+    @Test
+    public void testCancelRunsCallbacksOnce() {
+        ServerCallContext context = new ServerCallContext(UnauthenticatedUser.INSTANCE, new HashMap<>());
+        AtomicInteger runs = new AtomicInteger();
+        context.addCancelCallback(runs::incrementAndGet);
+
+        context.cancel();
+        context.cancel();
+        assertTrue(context.isCancelled());
+        assertEquals(1, runs.get());
+
+        // Callbacks registered once the call is cancelled run straight away
+        context.addCancelCallback(runs::incrementAndGet);
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    public void testRemovedCallbacksDoNotRun() {
+        ServerCallContext context = new ServerCallContext(UnauthenticatedUser.INSTANCE, new HashMap<>());
+        AtomicInteger runs = new AtomicInteger();
+        Runnable callback = runs::incrementAndGet;
+        ServerCallContext.Registration removed = context.addCancelCallback(callback);
+        context.addCancelCallback(callback);
+
+        // Only the removed registration of the callback is removed
+        removed.remove();
+        context.cancel();
+        assertEquals(1, runs.get());
+    }
+}
@@ -256,6 +256,69 @@ public class EventConsumerTest {
         assertSame(message, receivedEvents.get(0));
     }
 
+    @Test
+    public void testMainQueueIsDrainedAfterSubscriberCancels() throws Exception {
+        List<Event> events = List.of(
+                new TaskStatusUpdateEvent.Builder()
+                        .taskId("task-123")
+                        .contextId("session-xyz")
+                        .status(new TaskStatus(TaskState.WORKING))
+                        .build(),
+                new TaskArtifactUpdateEvent.Builder()
+                        .taskId("task-123")
+                        .contextId("session-xyz")
+                        .artifact(new Artifact.Builder()
+                                .artifactId("11")
+                                .parts(new TextPart("text"))
+                                .build())
+                        .build(),
+                new TaskStatusUpdateEvent.Builder()
+                        .taskId("task-123")
+                        .contextId("session-xyz")
+                        .status(new TaskStatus(TaskState.COMPLETED))
+                        .isFinal(true)
+                        .build());
+
+        for (Event event : events) {
+            eventQueue.enqueueEvent(event);
+        }
+
+        List<Event> undeliveredEvents = new ArrayList<>();
+        eventConsumer.setUndeliveredEventHandler(undeliveredEvents::add);
+        final List<Event> receivedEvents = new ArrayList<>();
+
+        eventConsumer.consumeAll().subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(Event item) {
+                // The client disconnects after the first event
+                receivedEvents.add(item);
+                subscription.cancel();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        assertEquals(List.of(events.get(0)), receivedEvents);
+        // The event sent when the subscriber cancelled is passed again, since it may not have been delivered
+        assertEquals(events, undeliveredEvents);
+        // The queue is closed once the final event is consumed, rather than left for the agent to fill up
+        assertThrows(EventQueueClosedException.class, () -> eventQueue.dequeueEvent(-1));
+    }
+
     private void enqueueAndConsumeOneEvent(Event event) throws Exception {
         eventQueue.enqueueEvent(event);
         Event result = eventConsumer.consumeOne();
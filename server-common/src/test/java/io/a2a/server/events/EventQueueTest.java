@@ -1,9 +1,14 @@
 package io.a2a.server.events;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import io.a2a.spec.Artifact;
 import io.a2a.spec.Event;
@@ -113,4 +118,45 @@ public class EventQueueTest {
             assertSame(event, dequeuedEvent);
         }
     }
+
+    @Test
+    public void testUntap() throws Exception {
+        EventQueue tap = eventQueue.tap();
+        Event event = Utils.unmarshalFrom(MINIMAL_TASK, Task.TYPE_REFERENCE);
+        eventQueue.enqueueEvent(event);
+        assertSame(event, tap.dequeueEvent(-1));
+
+        tap.untap();
+        eventQueue.enqueueEvent(event);
+
+        assertThrows(EventQueueClosedException.class, () -> tap.dequeueEvent(-1));
+        // The queue it was tapped from is still open
+        assertSame(event, eventQueue.dequeueEvent(-1));
+        assertSame(event, eventQueue.dequeueEvent(-1));
+    }
+
+    @Test
+    public void testCloseReleasesBlockedProducer() throws Exception {
+        Event event = Utils.unmarshalFrom(MINIMAL_TASK, Task.TYPE_REFERENCE);
+        for (int i = 0; i < 1000; i++) {
+            eventQueue.enqueueEvent(event);
+        }
+        CountDownLatch enqueued = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            eventQueue.enqueueEvent(event);
+            enqueued.countDown();
+        });
+        producer.start();
+        // The queue is full, and nothing consumes it
+        assertFalse(enqueued.await(100, TimeUnit.MILLISECONDS));
+
+        eventQueue.close();
+
+        assertTrue(enqueued.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 1000; i++) {
+            assertSame(event, eventQueue.dequeueEvent(-1));
+        }
+        // The event enqueued once closed was dropped
+        assertThrows(EventQueueClosedException.class, () -> eventQueue.dequeueEvent(-1));
+    }
 }
@@ -0,0 +1,341 @@
+package io.a2a.server.tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.a2a.http.A2AHttpClient;
+import io.a2a.http.A2AHttpResponse;
+import io.a2a.spec.PushNotificationAuthenticationInfo;
+import io.a2a.spec.PushNotificationConfig;
+import io.a2a.spec.Task;
+import io.a2a.spec.TaskState;
+import io.a2a.spec.TaskStatus;
+import io.a2a.util.Utils;
+import org.junit.jupiter.api.Test;
+
+public class BasePushNotificationSenderTest {
+
+    private static final String URL = "http://example.com/notify";
+
+    @Test
+    public void testSendsSingleNotification() throws Exception {
+        CapturingHttpClient httpClient = new CapturingHttpClient(1);
+        PushNotificationConfigStore configStore = new InMemoryPushNotificationConfigStore();
+        configStore.setInfo("task-1", config());
+        BasePushNotificationSender sender = new BasePushNotificationSender(configStore, httpClient);
+
+        sender.sendNotification(task("task-1", TaskState.WORKING));
+
+        assertTrue(httpClient.latch.await(5, TimeUnit.SECONDS));
+        Task sent = Utils.OBJECT_MAPPER.readValue(httpClient.bodies.get(0), Task.TYPE_REFERENCE);
+        assertEquals("task-1", sent.getId());
+    }
+
+    @Test
+    public void testBatchesNotificationsForSameEndpoint() throws Exception {
+        CapturingHttpClient httpClient = new CapturingHttpClient(1);
+        PushNotificationConfigStore configStore = new InMemoryPushNotificationConfigStore();
+        configStore.setInfo("task-1", config());
+        configStore.setInfo("task-2", config());
+        BasePushNotificationSender sender = new BasePushNotificationSender(configStore, httpClient,
+                new PushNotificationCircuitBreaker(),
+                pushConfig -> new PushNotificationBatchSettings(10, Duration.ofMillis(100), 1, Duration.ofMillis(10)), null,
+                PushNotificationMetrics.NO_OP);
+
+        sender.sendNotification(task("task-1", TaskState.SUBMITTED));
+        sender.sendNotification(task("task-2", TaskState.WORKING));
+        // Supersedes the first notification for task-1
+        sender.sendNotification(task("task-1", TaskState.COMPLETED));
+
+        assertTrue(httpClient.latch.await(5, TimeUnit.SECONDS));
+        assertEquals(1, httpClient.bodies.size());
+        List<Task> sent = Utils.OBJECT_MAPPER.readValue(httpClient.bodies.get(0), new TypeReference<List<Task>>() {});
+        assertEquals(2, sent.size());
+        assertEquals("task-1", sent.get(0).getId());
+        assertEquals(TaskState.COMPLETED, sent.get(0).getStatus().state());
+        assertEquals("task-2", sent.get(1).getId());
+        sender.close();
+    }
+
+    @Test
+    public void testFullBatchIsSentImmediately() throws Exception {
+        CapturingHttpClient httpClient = new CapturingHttpClient(1);
+        PushNotificationConfigStore configStore = new InMemoryPushNotificationConfigStore();
+        configStore.setInfo("task-1", config());
+        configStore.setInfo("task-2", config());
+        BasePushNotificationSender sender = new BasePushNotificationSender(configStore, httpClient,
+                new PushNotificationCircuitBreaker(),
+                pushConfig -> new PushNotificationBatchSettings(2, Duration.ofMinutes(1), 1, Duration.ofMillis(10)), null,
+                PushNotificationMetrics.NO_OP);
+
+        sender.sendNotification(task("task-1", TaskState.WORKING));
+        sender.sendNotification(task("task-2", TaskState.WORKING));
+
+        assertTrue(httpClient.latch.await(5, TimeUnit.SECONDS));
+        sender.close();
+    }
+
+    @Test
+    public void testRetriesFailedBatch() throws Exception {
+        CapturingHttpClient httpClient = new CapturingHttpClient(2);
+        httpClient.failuresRemaining = 1;
+        PushNotificationConfigStore configStore = new InMemoryPushNotificationConfigStore();
+        configStore.setInfo("task-1", config());
+        BasePushNotificationSender sender = new BasePushNotificationSender(configStore, httpClient,
+                new PushNotificationCircuitBreaker(),
+                pushConfig -> new PushNotificationBatchSettings(10, Duration.ofMillis(10), 3, Duration.ofMillis(10)), null,
+                PushNotificationMetrics.NO_OP);
+
+        sender.sendNotification(task("task-1", TaskState.WORKING));
+
+        assertTrue(httpClient.latch.await(5, TimeUnit.SECONDS));
+        assertEquals(httpClient.bodies.get(0), httpClient.bodies.get(1));
+        sender.close();
+    }
+
+    @Test
+    public void testOlderStateIsNotDeliveredAfterNewerOne() throws Exception {
+        CapturingHttpClient httpClient = new CapturingHttpClient(2);
+        httpClient.failuresRemaining = 1;
+        PushNotificationConfigStore configStore = new InMemoryPushNotificationConfigStore();
+        configStore.setInfo("task-1", config());
+        BasePushNotificationSender sender = new BasePushNotificationSender(configStore, httpClient,
+                new PushNotificationCircuitBreaker(),
+                pushConfig -> new PushNotificationBatchSettings(1, Duration.ofMillis(10), 3, Duration.ofMillis(200)), null,
+                PushNotificationMetrics.NO_OP);
+
+        sender.sendNotification(task("task-1", TaskState.WORKING));
+        while (httpClient.bodies.isEmpty()) {
+            Thread.sleep(5);
+        }
+        // Notified while the failed batch waits for its retry
+        sender.sendNotification(task("task-1", TaskState.COMPLETED));
+
+        assertTrue(httpClient.latch.await(5, TimeUnit.SECONDS));
+        // Leave time for a stale retry of the first state to show up
+        Thread.sleep(500);
+        sender.close();
+        assertEquals(2, httpClient.bodies.size());
+        List<Task> sent = Utils.OBJECT_MAPPER.readValue(httpClient.bodies.get(1), new TypeReference<List<Task>>() {});
+        assertEquals(1, sent.size());
+        assertEquals(TaskState.COMPLETED, sent.get(0).getStatus().state());
+    }
+
+    @Test
+    public void testBatcherIsStartedOnlyWhenBatching() throws Exception {
+        CapturingHttpClient httpClient = new CapturingHttpClient(1);
+        PushNotificationConfigStore configStore = new InMemoryPushNotificationConfigStore();
+        configStore.setInfo("task-1", config());
+        BasePushNotificationSender sender = new BasePushNotificationSender(configStore, httpClient);
+
+        sender.sendNotification(task("task-1", TaskState.WORKING));
+        assertTrue(httpClient.latch.await(5, TimeUnit.SECONDS));
+        assertFalse(sender.isBatcherStarted());
+        sender.close();
+    }
+
+    @Test
+    public void testBatchesAreKeyedByAuthentication() throws Exception {
+        CapturingHttpClient httpClient = new CapturingHttpClient(2);
+        PushNotificationConfigStore configStore = new InMemoryPushNotificationConfigStore();
+        configStore.setInfo("task-1", new PushNotificationConfig.Builder()
+                .url(URL)
+                .authenticationInfo(new PushNotificationAuthenticationInfo(List.of("Basic"), "dXNlcjE6cGFzcw=="))
+                .build());
+        configStore.setInfo("task-2", new PushNotificationConfig.Builder()
+                .url(URL)
+                .authenticationInfo(new PushNotificationAuthenticationInfo(List.of("Basic"), "dXNlcjI6cGFzcw=="))
+                .build());
+        BasePushNotificationSender sender = new BasePushNotificationSender(configStore, httpClient,
+                new PushNotificationCircuitBreaker(),
+                pushConfig -> new PushNotificationBatchSettings(10, Duration.ofMillis(10), 1, Duration.ofMillis(10)), null,
+                PushNotificationMetrics.NO_OP);
+
+        sender.sendNotification(task("task-1", TaskState.WORKING));
+        sender.sendNotification(task("task-2", TaskState.WORKING));
+
+        assertTrue(httpClient.latch.await(5, TimeUnit.SECONDS));
+        assertTrue(sender.isBatcherStarted());
+        for (int i = 0; i < 2; i++) {
+            List<Task> sent = Utils.OBJECT_MAPPER.readValue(httpClient.bodies.get(i), new TypeReference<List<Task>>() {});
+            assertEquals(1, sent.size());
+            String expected = "task-1".equals(sent.get(0).getId()) ? "Basic dXNlcjE6cGFzcw==" : "Basic dXNlcjI6cGFzcw==";
+            assertEquals(expected, httpClient.headers.get(i).get("Authorization"));
+        }
+        sender.close();
+    }
+
+    @Test
+    public void testAuthenticationHeaders() throws Exception {
+        PushNotificationSigner signer = PushNotificationSigner.generate("key");
+        PushNotificationConfigStore configStore = new InMemoryPushNotificationConfigStore();
+        configStore.setInfo("task-1", new PushNotificationConfig.Builder()
+                .url(URL)
+                .token("secret-token")
+                .build());
+        configStore.setInfo("task-2", new PushNotificationConfig.Builder()
+                .url(URL)
+                .authenticationInfo(new PushNotificationAuthenticationInfo(List.of("Basic"), "dXNlcjpwYXNz"))
+                .build());
+
+        CapturingHttpClient httpClient = new CapturingHttpClient(1);
+        BasePushNotificationSender sender = new BasePushNotificationSender(configStore, httpClient,
+                new PushNotificationCircuitBreaker(), pushConfig -> null, signer, PushNotificationMetrics.NO_OP);
+        sender.sendNotification(task("task-1", TaskState.WORKING));
+        assertTrue(httpClient.latch.await(5, TimeUnit.SECONDS));
+        assertEquals("secret-token", httpClient.headers.get(0).get(BasePushNotificationSender.NOTIFICATION_TOKEN_HEADER));
+        String authorization = httpClient.headers.get(0).get("Authorization");
+        assertTrue(authorization.startsWith("Bearer "));
+        // The signature covers the exact bytes that were sent
+        String claims = new String(Base64.getUrlDecoder().decode(authorization.split("\\.")[1]), StandardCharsets.UTF_8);
+        String bodyHash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                .digest(httpClient.bodies.get(0).getBytes(StandardCharsets.UTF_8)));
+        assertTrue(claims.contains("\"request_body_sha256\":\"" + bodyHash + "\""));
+
+        httpClient = new CapturingHttpClient(1);
+        sender = new BasePushNotificationSender(configStore, httpClient,
+                new PushNotificationCircuitBreaker(), pushConfig -> null, signer, PushNotificationMetrics.NO_OP);
+        sender.sendNotification(task("task-2", TaskState.WORKING));
+        assertTrue(httpClient.latch.await(5, TimeUnit.SECONDS));
+        assertEquals("Basic dXNlcjpwYXNz", httpClient.headers.get(0).get("Authorization"));
+    }
+
+    @Test
+    public void testMetrics() throws Exception {
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        PushNotificationMetrics metrics = new PushNotificationMetrics() {
+            @Override
+            public void deliveryStarted(String url) {
+                events.add("started");
+            }
+
+            @Override
+            public void deliveryFinished(String url, Outcome outcome, long latencyNanos) {
+                events.add("finished " + outcome);
+            }
+
+            @Override
+            public void notificationAcknowledged(String url, long lagNanos) {
+                events.add("acknowledged");
+            }
+
+            @Override
+            public void backlogChanged(String url, int delta) {
+                events.add("backlog " + delta);
+            }
+        };
+        CapturingHttpClient httpClient = new CapturingHttpClient(1);
+        PushNotificationConfigStore configStore = new InMemoryPushNotificationConfigStore();
+        configStore.setInfo("task-1", config());
+        BasePushNotificationSender sender = new BasePushNotificationSender(configStore, httpClient,
+                new PushNotificationCircuitBreaker(), pushConfig -> null, null, metrics);
+
+        // sendNotification() waits for unbatched deliveries to complete
+        sender.sendNotification(task("task-1", TaskState.WORKING));
+
+        assertEquals(List.of("backlog 1", "started", "finished SUCCESS", "acknowledged", "backlog -1"), events);
+    }
+
+    private static PushNotificationConfig config() {
+        return new PushNotificationConfig.Builder()
+                .url(URL)
+                .build();
+    }
+
+    private static Task task(String id, TaskState state) {
+        return new Task.Builder()
+                .id(id)
+                .contextId("session-xyz")
+                .status(new TaskStatus(state))
+                .build();
+    }
+
+    private static class CapturingHttpClient implements A2AHttpClient {
+        final List<String> bodies = Collections.synchronizedList(new ArrayList<>());
+        final List<Map<String, String>> headers = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch latch;
+        volatile int failuresRemaining;
+
+        CapturingHttpClient(int expectedPosts) {
+            this.latch = new CountDownLatch(expectedPosts);
+        }
+
+        @Override
+        public GetBuilder createGet() {
+            return null;
+        }
+
+        @Override
+        public PostBuilder createPost() {
+            return new PostBuilder() {
+                private String body;
+                private final Map<String, String> requestHeaders = new HashMap<>();
+
+                @Override
+                public PostBuilder body(String body) {
+                    this.body = body;
+                    return this;
+                }
+
+                @Override
+                public A2AHttpResponse post() throws IOException, InterruptedException {
+                    bodies.add(body);
+                    headers.add(requestHeaders);
+                    boolean success = failuresRemaining-- <= 0;
+                    latch.countDown();
+                    return new A2AHttpResponse() {
+                        @Override
+                        public int status() {
+                            return success ? 200 : 503;
+                        }
+
+                        @Override
+                        public boolean success() {
+                            return success;
+                        }
+
+                        @Override
+                        public String body() {
+                            return "";
+                        }
+                    };
+                }
+
+                @Override
+                public CompletableFuture<Void> postAsyncSSE(Consumer<String> messageConsumer,
+                        Consumer<Throwable> errorConsumer, Runnable completeRunnable) {
+                    return null;
+                }
+
+                @Override
+                public PostBuilder url(String s) {
+                    return this;
+                }
+
+                @Override
+                public PostBuilder addHeader(String name, String value) {
+                    requestHeaders.put(name, value);
+                    return this;
+                }
+            };
+        }
+    }
+}
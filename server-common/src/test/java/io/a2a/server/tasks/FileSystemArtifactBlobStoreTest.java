@@ -0,0 +1,63 @@
+package io.a2a.server.tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileSystemArtifactBlobStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testStoreAndRead() throws Exception {
+        FileSystemArtifactBlobStore blobStore = new FileSystemArtifactBlobStore(directory);
+        ByteBuffer content = ByteBuffer.wrap("hello world".getBytes(StandardCharsets.UTF_8));
+        content.position(6);
+
+        String uri = blobStore.store("task/../1", content);
+        assertTrue(uri.startsWith(FileSystemArtifactBlobStore.SCHEME + ":"));
+        assertEquals(6, content.position());
+
+        ByteBuffer read = blobStore.read("task/../1", uri);
+        assertEquals(ByteBuffer.wrap("world".getBytes(StandardCharsets.UTF_8)), read);
+        assertTrue(read.isReadOnly());
+    }
+
+    @Test
+    public void testReadOtherUris() throws Exception {
+        FileSystemArtifactBlobStore blobStore = new FileSystemArtifactBlobStore(directory);
+        assertNull(blobStore.read("task-1", "https://example.com/file.txt"));
+        assertNull(blobStore.read("task-1", FileSystemArtifactBlobStore.SCHEME + ":../file.txt"));
+    }
+
+    @Test
+    public void testReadBlobOfOtherTask() throws Exception {
+        FileSystemArtifactBlobStore blobStore = new FileSystemArtifactBlobStore(directory);
+        String uri = blobStore.store("task-1", ByteBuffer.wrap(new byte[10]));
+        assertNull(blobStore.read("task-2", uri));
+        assertNotNull(blobStore.read("task-1", uri));
+    }
+
+    @Test
+    public void testDelete() throws Exception {
+        FileSystemArtifactBlobStore blobStore = new FileSystemArtifactBlobStore(directory);
+        String uri = blobStore.store("task-1", ByteBuffer.wrap(new byte[10]));
+        String otherUri = blobStore.store("task-2", ByteBuffer.wrap(new byte[10]));
+
+        blobStore.delete("task-1");
+        assertThrows(NoSuchFileException.class, () -> blobStore.read("task-1", uri));
+        assertNotNull(blobStore.read("task-2", otherUri));
+        blobStore.delete("task-3");
+    }
+}
@@ -0,0 +1,87 @@
+package io.a2a.server.tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import io.a2a.spec.PushNotificationConfig;
+import org.junit.jupiter.api.Test;
+
+public class InMemoryPushNotificationConfigStoreTest {
+
+    private static final String TASK_ID = "task-abc";
+
+    @Test
+    public void testSetAndGet() {
+        InMemoryPushNotificationConfigStore store = new InMemoryPushNotificationConfigStore();
+        store.setInfo(TASK_ID, config("http://a.example.com", null));
+        store.setInfo(TASK_ID, config("http://b.example.com", "b"));
+
+        List<PushNotificationConfig> configs = store.getInfo(TASK_ID);
+        assertEquals(2, configs.size());
+        assertEquals(TASK_ID, configs.get(0).id());
+        assertEquals("b", configs.get(1).id());
+
+        assertEquals("http://a.example.com", store.getInfo(TASK_ID, null).url());
+        assertEquals("http://b.example.com", store.getInfo(TASK_ID, "b").url());
+        assertNull(store.getInfo(TASK_ID, "c"));
+        assertNull(store.getInfo("other-task"));
+        assertNull(store.getInfo("other-task", "b"));
+    }
+
+    @Test
+    public void testReplaceExistingConfig() {
+        InMemoryPushNotificationConfigStore store = new InMemoryPushNotificationConfigStore();
+        store.setInfo(TASK_ID, config("http://a.example.com", "a"));
+        store.setInfo(TASK_ID, config("http://b.example.com", "b"));
+        store.setInfo(TASK_ID, config("http://a2.example.com", "a"));
+
+        List<PushNotificationConfig> configs = store.getInfo(TASK_ID);
+        assertEquals(2, configs.size());
+        assertEquals("b", configs.get(0).id());
+        assertEquals("http://a2.example.com", configs.get(1).url());
+    }
+
+    @Test
+    public void testReturnedListIsSnapshot() {
+        InMemoryPushNotificationConfigStore store = new InMemoryPushNotificationConfigStore();
+        store.setInfo(TASK_ID, config("http://a.example.com", "a"));
+        List<PushNotificationConfig> configs = store.getInfo(TASK_ID);
+
+        store.setInfo(TASK_ID, config("http://b.example.com", "b"));
+        assertEquals(1, configs.size());
+        assertThrows(UnsupportedOperationException.class, () -> configs.remove(0));
+    }
+
+    @Test
+    public void testDelete() {
+        InMemoryPushNotificationConfigStore store = new InMemoryPushNotificationConfigStore();
+        store.setInfo(TASK_ID, config("http://a.example.com", null));
+        store.setInfo(TASK_ID, config("http://b.example.com", "b"));
+
+        store.deleteInfo(TASK_ID, "b");
+        assertEquals(1, store.getInfo(TASK_ID).size());
+        store.deleteInfo(TASK_ID, "non-existent");
+        assertEquals(1, store.getInfo(TASK_ID).size());
+        store.deleteInfo(TASK_ID, null);
+        assertNull(store.getInfo(TASK_ID));
+    }
+
+    @Test
+    public void testDeleteAllForTask() {
+        InMemoryPushNotificationConfigStore store = new InMemoryPushNotificationConfigStore();
+        store.setInfo(TASK_ID, config("http://a.example.com", "a"));
+        store.setInfo(TASK_ID, config("http://b.example.com", "b"));
+        store.deleteInfo(TASK_ID);
+        assertNull(store.getInfo(TASK_ID));
+    }
+
+    private static PushNotificationConfig config(String url, String id) {
+        return new PushNotificationConfig.Builder()
+                .url(url)
+                .id(id)
+                .build();
+    }
+}
@@ -1,13 +1,44 @@
 package io.a2a.server.tasks;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import io.a2a.spec.Artifact;
+import io.a2a.spec.FilePart;
+import io.a2a.spec.FileWithBytes;
+import io.a2a.spec.FileWithUri;
+import io.a2a.spec.Part;
+import io.a2a.spec.PushNotificationConfig;
 import io.a2a.spec.Task;
+import io.a2a.spec.TaskState;
+import io.a2a.spec.TaskStatus;
+import io.a2a.spec.TextPart;
 import io.a2a.util.Utils;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class InMemoryTaskStoreTest {
+
+    @TempDir
+    Path blobDirectory;
+
     private static final String TASK_JSON = """
             {
                 "id": "task-abc",
@@ -42,9 +73,247 @@ public class InMemoryTaskStoreTest {
         assertNull(retrieved);
     }
 
+    @Test
+    public void testDeleteRemovesPushNotificationConfigs() throws Exception {
+        PushNotificationConfigStore pushConfigStore = new InMemoryPushNotificationConfigStore();
+        InMemoryTaskStore store = new InMemoryTaskStore(pushConfigStore);
+        Task task = Utils.unmarshalFrom(TASK_JSON, Task.TYPE_REFERENCE);
+        store.save(task);
+        pushConfigStore.setInfo(task.getId(), new PushNotificationConfig.Builder()
+                .url("http://example.com")
+                .build());
+        store.delete(task.getId());
+        assertNull(pushConfigStore.getInfo(task.getId()));
+    }
+
     @Test
     public void testDeleteNonExistent() throws Exception {
         InMemoryTaskStore store = new InMemoryTaskStore();
         store.delete("non-existent");
     }
+
+    @Test
+    public void testSpillLargeFiles() throws Exception {
+        InMemoryTaskStore store = new InMemoryTaskStore(null, new FileSystemArtifactBlobStore(blobDirectory, 16));
+        byte[] large = new byte[100];
+        new Random(42).nextBytes(large);
+        Part<?> largePart = new FilePart(FileWithBytes.of("application/octet-stream", "large.bin", large));
+        Part<?> smallPart = new FilePart(FileWithBytes.of("text/plain", "small.txt", new byte[8]));
+        Task task = new Task.Builder(Utils.unmarshalFrom(TASK_JSON, Task.TYPE_REFERENCE))
+                .artifacts(List.of(new Artifact.Builder()
+                        .artifactId("artifact-1")
+                        .parts(new TextPart("text"), smallPart, largePart)
+                        .build()))
+                .build();
+
+        store.save(task);
+        assertEquals(1, blobCount());
+
+        Task retrieved = store.get(task.getId());
+        List<Part<?>> parts = retrieved.getArtifacts().get(0).parts();
+        assertSame(smallPart, parts.get(1));
+        FileWithBytes file = (FileWithBytes) ((FilePart) parts.get(2)).getFile();
+        assertEquals("application/octet-stream", file.mimeType());
+        assertEquals("large.bin", file.name());
+        assertEquals(ByteBuffer.wrap(large), file.content());
+
+        // Neither the saved parts nor the retrieved ones are stored again
+        store.save(new Task.Builder(task).status(new TaskStatus(TaskState.WORKING)).build());
+        store.save(new Task.Builder(retrieved).status(new TaskStatus(TaskState.COMPLETED)).build());
+        assertEquals(1, blobCount());
+        assertEquals(TaskState.COMPLETED, store.get(task.getId()).getStatus().state());
+
+        store.delete(task.getId());
+        assertEquals(0, blobCount());
+    }
+
+    @Test
+    public void testSpillChunkedFiles() throws Exception {
+        InMemoryTaskStore store = new InMemoryTaskStore(null, new FileSystemArtifactBlobStore(blobDirectory, 16));
+        Task task = Utils.unmarshalFrom(TASK_JSON, Task.TYPE_REFERENCE);
+        store.save(task);
+
+        // Each chunk is below the threshold, but the file they make up is not
+        for (int i = 0; i < 4; i++) {
+            Task stored = store.get(task.getId());
+            List<Part<?>> parts = stored.getArtifacts() == null
+                    ? new ArrayList<>() : new ArrayList<>(stored.getArtifacts().get(0).parts());
+            byte[] chunk = new byte[8];
+            Arrays.fill(chunk, (byte) i);
+            parts.add(new FilePart(FileWithBytes.of("application/octet-stream", "large.bin", chunk)));
+            store.save(new Task.Builder(stored)
+                    .artifacts(List.of(new Artifact.Builder().artifactId("artifact-1").parts(parts).build()))
+                    .build());
+        }
+        // The first three chunks are spilled along with the third one, and each chunk is stored once
+        assertEquals(4, blobCount());
+
+        List<Part<?>> parts = store.get(task.getId()).getArtifacts().get(0).parts();
+        assertEquals(4, parts.size());
+        for (int i = 0; i < 4; i++) {
+            byte[] chunk = new byte[8];
+            Arrays.fill(chunk, (byte) i);
+            assertEquals(ByteBuffer.wrap(chunk), ((FileWithBytes) ((FilePart) parts.get(i)).getFile()).content());
+        }
+    }
+
+    @Test
+    public void testSpilledFilesAreReadBackOnce() throws Exception {
+        AtomicInteger reads = new AtomicInteger();
+        InMemoryTaskStore store = new InMemoryTaskStore(null, new FileSystemArtifactBlobStore(blobDirectory, 16) {
+            @Override
+            public ByteBuffer read(String taskId, String uri) throws IOException {
+                reads.incrementAndGet();
+                return super.read(taskId, uri);
+            }
+        });
+        Task task = new Task.Builder(Utils.unmarshalFrom(TASK_JSON, Task.TYPE_REFERENCE))
+                .artifacts(List.of(new Artifact.Builder()
+                        .artifactId("artifact-1")
+                        .parts(new FilePart(FileWithBytes.of("application/octet-stream", "large.bin", new byte[100])))
+                        .build()))
+                .build();
+        store.save(task);
+
+        // Tasks are read on every event of their agent, which must not read and rebuild their files each time
+        Part<?> part = store.get(task.getId()).getArtifacts().get(0).parts().get(0);
+        assertSame(part, store.get(task.getId()).getArtifacts().get(0).parts().get(0));
+        store.save(new Task.Builder(task).status(new TaskStatus(TaskState.WORKING)).build());
+        assertSame(part, store.get(task.getId()).getArtifacts().get(0).parts().get(0));
+        assertEquals(1, reads.get());
+    }
+
+    @Test
+    public void testEvictFinishedTasksAfterRetention() throws Exception {
+        PushNotificationConfigStore pushConfigStore = new InMemoryPushNotificationConfigStore();
+        MutableClock clock = new MutableClock();
+        InMemoryTaskStore store = new InMemoryTaskStore(pushConfigStore, null, task -> Duration.ofMinutes(5), clock);
+        Task task = Utils.unmarshalFrom(TASK_JSON, Task.TYPE_REFERENCE);
+        store.save(task);
+        pushConfigStore.setInfo(task.getId(), new PushNotificationConfig.Builder()
+                .url("http://example.com")
+                .build());
+
+        // Unfinished tasks are kept
+        clock.advance(Duration.ofHours(1));
+        assertSame(task, store.get(task.getId()));
+
+        Task completed = new Task.Builder(task).status(new TaskStatus(TaskState.COMPLETED)).build();
+        store.save(completed);
+        clock.advance(Duration.ofMinutes(4));
+        assertSame(completed, store.get(task.getId()));
+
+        clock.advance(Duration.ofMinutes(1));
+        assertNull(store.get(task.getId()));
+        assertNull(pushConfigStore.getInfo(task.getId()));
+    }
+
+    @Test
+    public void testTaskSavedAgainIsNotEvictedEarly() throws Exception {
+        MutableClock clock = new MutableClock();
+        InMemoryTaskStore store = new InMemoryTaskStore(null, null, task -> Duration.ofMinutes(5), clock);
+        Task task = new Task.Builder(Utils.unmarshalFrom(TASK_JSON, Task.TYPE_REFERENCE))
+                .status(new TaskStatus(TaskState.COMPLETED))
+                .build();
+        store.save(task);
+        clock.advance(Duration.ofMinutes(3));
+        Task savedAgain = new Task.Builder(task).build();
+        store.save(savedAgain);
+
+        // The expiry of the first save is ignored, the task is evicted five minutes after it was saved again
+        clock.advance(Duration.ofMinutes(3));
+        assertSame(savedAgain, store.get(task.getId()));
+        clock.advance(Duration.ofMinutes(2));
+        assertNull(store.get(task.getId()));
+    }
+
+    @Test
+    public void testNoRetention() throws Exception {
+        MutableClock clock = new MutableClock();
+        InMemoryTaskStore store = new InMemoryTaskStore(null, null, task -> null, clock);
+        Task task = new Task.Builder(Utils.unmarshalFrom(TASK_JSON, Task.TYPE_REFERENCE))
+                .status(new TaskStatus(TaskState.FAILED))
+                .build();
+        store.save(task);
+        clock.advance(Duration.ofDays(365));
+        assertSame(task, store.get(task.getId()));
+    }
+
+    @Test
+    public void testEvictionDeletesBlobs() throws Exception {
+        MutableClock clock = new MutableClock();
+        InMemoryTaskStore store = new InMemoryTaskStore(null, new FileSystemArtifactBlobStore(blobDirectory, 16),
+                task -> Duration.ofMinutes(5), clock);
+        Task task = new Task.Builder(Utils.unmarshalFrom(TASK_JSON, Task.TYPE_REFERENCE))
+                .status(new TaskStatus(TaskState.COMPLETED))
+                .artifacts(List.of(new Artifact.Builder()
+                        .artifactId("artifact-1")
+                        .parts(new FilePart(FileWithBytes.of("application/octet-stream", "large.bin", new byte[100])))
+                        .build()))
+                .build();
+        store.save(task);
+        assertEquals(1, blobCount());
+
+        clock.advance(Duration.ofMinutes(5));
+        assertNull(store.get(task.getId()));
+        assertEquals(0, blobCount());
+    }
+
+    @Test
+    public void testBlobsOfOtherTasksAreNotResolved() throws Exception {
+        InMemoryTaskStore store = new InMemoryTaskStore(null, new FileSystemArtifactBlobStore(blobDirectory, 16));
+        Task task = new Task.Builder(Utils.unmarshalFrom(TASK_JSON, Task.TYPE_REFERENCE))
+                .artifacts(List.of(new Artifact.Builder()
+                        .artifactId("artifact-1")
+                        .parts(new FilePart(FileWithBytes.of("application/octet-stream", "large.bin", new byte[100])))
+                        .build()))
+                .build();
+        store.save(task);
+        Path blob;
+        try (Stream<Path> files = Files.walk(blobDirectory)) {
+            blob = files.filter(Files::isRegularFile).findFirst().orElseThrow();
+        }
+        String uri = FileSystemArtifactBlobStore.SCHEME + ":" + blobDirectory.relativize(blob).toString().replace('\\', '/');
+
+        // Another task referencing the blob gets the reference as it is
+        FilePart reference = new FilePart(new FileWithUri("application/octet-stream", "large.bin", uri));
+        Task other = new Task.Builder(task)
+                .id("task-other")
+                .artifacts(List.of(new Artifact.Builder()
+                        .artifactId("artifact-1")
+                        .parts(reference)
+                        .build()))
+                .build();
+        store.save(other);
+        assertSame(reference, store.get("task-other").getArtifacts().get(0).parts().get(0));
+    }
+
+    private long blobCount() throws Exception {
+        try (Stream<Path> files = Files.walk(blobDirectory)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant = Instant.EPOCH;
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
 }
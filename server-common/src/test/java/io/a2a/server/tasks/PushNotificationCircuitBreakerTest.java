@@ -0,0 +1,156 @@
+package io.a2a.server.tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+public class PushNotificationCircuitBreakerTest {
+
+    private static final String URL = "http://localhost:1234/notify";
+    private static final long FAST = Duration.ofMillis(5).toNanos();
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private PushNotificationCircuitBreaker createCircuitBreaker() {
+        return new PushNotificationCircuitBreaker(4, 2, 0.5,
+                Duration.ofSeconds(30), Duration.ofSeconds(1), PushNotificationCircuitBreaker.DEFAULT_IDLE_TIMEOUT,
+                clock::get);
+    }
+
+    @Test
+    public void testClosedCircuitAllowsDeliveries() {
+        PushNotificationCircuitBreaker circuitBreaker = createCircuitBreaker();
+        assertNull(circuitBreaker.getHealth(URL));
+        for (int i = 0; i < 10; i++) {
+            acquire(circuitBreaker).recordSuccess(FAST);
+        }
+        PushNotificationCircuitBreaker.EndpointHealth health = circuitBreaker.getHealth(URL);
+        assertEquals(PushNotificationCircuitBreaker.State.CLOSED, health.state());
+        assertEquals(4, health.calls());
+        assertEquals(0.0, health.failureRate(), 0.0);
+    }
+
+    @Test
+    public void testOpensOnFailureRate() {
+        PushNotificationCircuitBreaker circuitBreaker = createCircuitBreaker();
+        acquire(circuitBreaker).recordSuccess(FAST);
+        acquire(circuitBreaker).recordFailure(FAST);
+
+        assertNull(circuitBreaker.tryAcquire(URL));
+        assertEquals(PushNotificationCircuitBreaker.State.OPEN, circuitBreaker.getHealth(URL).state());
+
+        // Other endpoints are unaffected
+        assertNotNull(circuitBreaker.tryAcquire("http://localhost:4321/notify"));
+    }
+
+    @Test
+    public void testSlowDeliveriesCountAsFailures() {
+        PushNotificationCircuitBreaker circuitBreaker = createCircuitBreaker();
+        long slow = Duration.ofSeconds(2).toNanos();
+        acquire(circuitBreaker).recordSuccess(slow);
+        acquire(circuitBreaker).recordSuccess(slow);
+
+        assertNull(circuitBreaker.tryAcquire(URL));
+    }
+
+    @Test
+    public void testHalfOpenProbeClosesCircuit() {
+        PushNotificationCircuitBreaker circuitBreaker = createCircuitBreaker();
+        tripCircuit(circuitBreaker);
+
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+        assertEquals(PushNotificationCircuitBreaker.State.HALF_OPEN, circuitBreaker.getHealth(URL).state());
+        PushNotificationCircuitBreaker.Permit probe = acquire(circuitBreaker);
+        // Only a single probe is allowed while half-open
+        assertNull(circuitBreaker.tryAcquire(URL));
+
+        probe.recordSuccess(FAST);
+        assertEquals(PushNotificationCircuitBreaker.State.CLOSED, circuitBreaker.getHealth(URL).state());
+        assertNotNull(circuitBreaker.tryAcquire(URL));
+    }
+
+    @Test
+    public void testHalfOpenProbeFailureReopensCircuit() {
+        PushNotificationCircuitBreaker circuitBreaker = createCircuitBreaker();
+        tripCircuit(circuitBreaker);
+
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+        acquire(circuitBreaker).recordFailure(FAST);
+
+        assertNull(circuitBreaker.tryAcquire(URL));
+        assertEquals(PushNotificationCircuitBreaker.State.OPEN, circuitBreaker.getHealth(URL).state());
+    }
+
+    @Test
+    public void testOnlyProbeDecidesHalfOpenCircuit() {
+        PushNotificationCircuitBreaker circuitBreaker = createCircuitBreaker();
+        PushNotificationCircuitBreaker.Permit slowSuccess = acquire(circuitBreaker);
+        PushNotificationCircuitBreaker.Permit slowFailure = acquire(circuitBreaker);
+        tripCircuit(circuitBreaker);
+
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+        PushNotificationCircuitBreaker.Permit probe = acquire(circuitBreaker);
+
+        // Deliveries started before the circuit opened finish while the probe is in flight
+        slowSuccess.recordSuccess(FAST);
+        assertEquals(PushNotificationCircuitBreaker.State.HALF_OPEN, circuitBreaker.getHealth(URL).state());
+        slowFailure.recordFailure(FAST);
+        assertEquals(PushNotificationCircuitBreaker.State.HALF_OPEN, circuitBreaker.getHealth(URL).state());
+        assertNull(circuitBreaker.tryAcquire(URL));
+
+        probe.recordSuccess(FAST);
+        assertEquals(PushNotificationCircuitBreaker.State.CLOSED, circuitBreaker.getHealth(URL).state());
+        assertEquals(0, circuitBreaker.getHealth(URL).calls());
+    }
+
+    @Test
+    public void testReset() {
+        PushNotificationCircuitBreaker circuitBreaker = createCircuitBreaker();
+        tripCircuit(circuitBreaker);
+        circuitBreaker.reset(URL);
+        assertNotNull(circuitBreaker.tryAcquire(URL));
+    }
+
+    @Test
+    public void testIdleEndpointsAreForgotten() {
+        PushNotificationCircuitBreaker circuitBreaker = new PushNotificationCircuitBreaker(4, 2, 0.5,
+                Duration.ofSeconds(30), Duration.ofSeconds(1), Duration.ofSeconds(10), clock::get);
+        String other = "http://localhost:5678/notify";
+        tripCircuit(circuitBreaker);
+        acquire(circuitBreaker, other).recordSuccess(FAST);
+
+        // Both are idle, but the circuit of URL is still open
+        clock.addAndGet(Duration.ofSeconds(15).toNanos());
+        acquire(circuitBreaker, "http://localhost:9999/notify").recordSuccess(FAST);
+        assertEquals(PushNotificationCircuitBreaker.State.OPEN, circuitBreaker.getHealth(URL).state());
+        assertNull(circuitBreaker.getHealth(other));
+
+        // Due for a probe for longer than the idle timeout
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        acquire(circuitBreaker, other).recordSuccess(FAST);
+        assertNull(circuitBreaker.getHealth(URL));
+    }
+
+    private void tripCircuit(PushNotificationCircuitBreaker circuitBreaker) {
+        for (int i = 0; i < 2; i++) {
+            acquire(circuitBreaker).recordFailure(FAST);
+        }
+        assertNull(circuitBreaker.tryAcquire(URL));
+    }
+
+    private static PushNotificationCircuitBreaker.Permit acquire(PushNotificationCircuitBreaker circuitBreaker) {
+        return acquire(circuitBreaker, URL);
+    }
+
+    private static PushNotificationCircuitBreaker.Permit acquire(PushNotificationCircuitBreaker circuitBreaker,
+                                                                 String url) {
+        PushNotificationCircuitBreaker.Permit permit = circuitBreaker.tryAcquire(url);
+        assertNotNull(permit);
+        return permit;
+    }
+}
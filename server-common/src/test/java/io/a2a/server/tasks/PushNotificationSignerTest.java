@@ -0,0 +1,103 @@
+package io.a2a.server.tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.a2a.util.Utils;
+import org.junit.jupiter.api.Test;
+
+public class PushNotificationSignerTest {
+
+    private static final byte[] BODY = "{\"id\":\"task-123\",\"kind\":\"task\"}".getBytes(StandardCharsets.UTF_8);
+    private static final Clock CLOCK = Clock.fixed(Instant.ofEpochSecond(1_700_000_000L), ZoneOffset.UTC);
+
+    @Test
+    public void testSignWithEcKey() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair keyPair = generator.generateKeyPair();
+        PushNotificationSigner signer = new PushNotificationSigner(keyPair, "ec-key", CLOCK);
+
+        assertEquals("ES256", signer.getAlgorithm());
+        verify(signer.sign(BODY), keyPair.getPublic(), "SHA256withECDSAinP1363Format", "ES256", "ec-key");
+
+        Map<String, List<Map<String, String>>> jwkSet =
+                Utils.OBJECT_MAPPER.readValue(signer.getJwkSet(), new TypeReference<>() {});
+        Map<String, String> jwk = jwkSet.get("keys").get(0);
+        assertEquals("EC", jwk.get("kty"));
+        assertEquals("P-256", jwk.get("crv"));
+        assertEquals("ec-key", jwk.get("kid"));
+        assertEquals(32, Base64.getUrlDecoder().decode(jwk.get("x")).length);
+        assertEquals(32, Base64.getUrlDecoder().decode(jwk.get("y")).length);
+    }
+
+    @Test
+    public void testSignWithRsaKey() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        PushNotificationSigner signer = new PushNotificationSigner(keyPair, "rsa-key", CLOCK);
+
+        assertEquals("RS256", signer.getAlgorithm());
+        // Sign more than once to make sure the cached Signature instance is reusable
+        verify(signer.sign(BODY), keyPair.getPublic(), "SHA256withRSA", "RS256", "rsa-key");
+        verify(signer.sign(BODY), keyPair.getPublic(), "SHA256withRSA", "RS256", "rsa-key");
+        assertTrue(signer.getJwkSet().contains("\"kty\":\"RSA\""));
+    }
+
+    @Test
+    public void testSignatureCoversBody() throws Exception {
+        PushNotificationSigner signer = PushNotificationSigner.generate("key");
+        String jws = signer.sign(BODY);
+        String other = signer.sign("{}".getBytes(StandardCharsets.UTF_8));
+        assertFalse(jws.split("\\.")[1].equals(other.split("\\.")[1]));
+    }
+
+    @Test
+    public void testUnsupportedKey() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp384r1"));
+        KeyPair keyPair = generator.generateKeyPair();
+        assertThrows(IllegalArgumentException.class, () -> new PushNotificationSigner(keyPair, "key"));
+    }
+
+    private static void verify(String jws, PublicKey publicKey, String signatureAlgorithm,
+                               String algorithm, String keyId) throws Exception {
+        String[] parts = jws.split("\\.");
+        assertEquals(3, parts.length);
+
+        Map<String, Object> header = Utils.OBJECT_MAPPER.readValue(
+                Base64.getUrlDecoder().decode(parts[0]), new TypeReference<>() {});
+        assertEquals(algorithm, header.get("alg"));
+        assertEquals(keyId, header.get("kid"));
+
+        Map<String, Object> claims = Utils.OBJECT_MAPPER.readValue(
+                Base64.getUrlDecoder().decode(parts[1]), new TypeReference<>() {});
+        assertEquals(1_700_000_000, ((Number) claims.get("iat")).intValue());
+        String expectedHash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(BODY));
+        assertEquals(expectedHash, claims.get("request_body_sha256"));
+
+        Signature signature = Signature.getInstance(signatureAlgorithm);
+        signature.initVerify(publicKey);
+        signature.update((parts[0] + "." + parts[1]).getBytes(StandardCharsets.US_ASCII));
+        assertTrue(signature.verify(Base64.getUrlDecoder().decode(parts[2])));
+    }
+}
@@ -1,18 +1,24 @@
 package io.a2a.server.tasks;
 
 import static io.a2a.spec.Message.Role.AGENT;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 
 import io.a2a.server.agentexecution.RequestContext;
 import io.a2a.server.events.EventQueue;
 import io.a2a.spec.Event;
+import io.a2a.spec.FilePart;
+import io.a2a.spec.FileWithBytes;
 import io.a2a.spec.Message;
 import io.a2a.spec.Part;
 import io.a2a.spec.TaskArtifactUpdateEvent;
@@ -68,6 +74,45 @@ public class TaskUpdaterTest {
         assertNull(eventQueue.dequeueEvent(0));
     }
 
+    @Test
+    public void testAddFileArtifactInChunks() throws Exception {
+        byte[] file = new byte[25];
+        for (int i = 0; i < file.length; i++) {
+            file[i] = (byte) i;
+        }
+        String artifactId = taskUpdater.addFileArtifact(new ByteArrayInputStream(file), "application/octet-stream",
+                "file.bin", null, "File", 10);
+        assertNotNull(artifactId);
+
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        for (int i = 0; i < 3; i++) {
+            TaskArtifactUpdateEvent taue = (TaskArtifactUpdateEvent) eventQueue.dequeueEvent(0);
+            assertEquals(artifactId, taue.getArtifact().artifactId());
+            assertEquals("File", taue.getArtifact().name());
+            assertEquals(i > 0, taue.isAppend());
+            assertEquals(i == 2, taue.isLastChunk());
+            assertEquals(1, taue.getArtifact().parts().size());
+            FileWithBytes chunk = (FileWithBytes) ((FilePart) taue.getArtifact().parts().get(0)).getFile();
+            assertEquals("application/octet-stream", chunk.mimeType());
+            assertEquals("file.bin", chunk.name());
+            received.write(Base64.getDecoder().decode(chunk.bytes()));
+        }
+        assertNull(eventQueue.dequeueEvent(0));
+        assertArrayEquals(file, received.toByteArray());
+    }
+
+    @Test
+    public void testAddEmptyFileArtifact() throws Exception {
+        taskUpdater.addFileArtifact(new ByteArrayInputStream(new byte[0]), "text/plain", "empty.txt",
+                "empty-artifact", null, 10);
+
+        TaskArtifactUpdateEvent taue = (TaskArtifactUpdateEvent) eventQueue.dequeueEvent(0);
+        assertEquals("empty-artifact", taue.getArtifact().artifactId());
+        assertEquals(false, taue.isAppend());
+        assertEquals(true, taue.isLastChunk());
+        assertNull(eventQueue.dequeueEvent(0));
+    }
+
     @Test
     public void testCompleteWithoutMessage() throws Exception {
         taskUpdater.complete();
@@ -0,0 +1,36 @@
+package io.a2a.server.util.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class VirtualThreadsTest {
+
+    @Test
+    public void testNewExecutor() throws Exception {
+        ExecutorService executor = VirtualThreads.newExecutor();
+        if (Runtime.version().feature() < 21) {
+            assertNull(executor);
+            return;
+        }
+        assertNotNull(executor);
+        try {
+            Thread thread = executor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+            assertEquals(true, Thread.class.getMethod("isVirtual").invoke(thread));
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testFallbackWhenUnsupported() {
+        assertNull(VirtualThreads.newExecutor("newUnsupportedThreadPerTaskExecutor"));
+    }
+}
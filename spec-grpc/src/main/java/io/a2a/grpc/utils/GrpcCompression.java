@@ -0,0 +1,105 @@
+package io.a2a.grpc.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import io.grpc.Codec;
+import io.grpc.CompressorRegistry;
+import io.grpc.DecompressorRegistry;
+
+/**
+ * Codecs for compressing gRPC messages, and the registries making them available to channels and servers.
+ * <p>
+ * gRPC supports {@value #GZIP} out of the box. Other codecs, such as the faster {@link #gzip(int) gzip} at a
+ * lower level, or a codec for an algorithm like Snappy or Zstandard, must be registered with both ends of a
+ * call: on a channel with {@code ManagedChannelBuilder.compressorRegistry(compressorRegistry(codec))} and
+ * {@code decompressorRegistry(decompressorRegistry(codec))}, and likewise on a server.
+ */
+public final class GrpcCompression {
+
+    /**
+     * The encoding of messages compressed with gzip.
+     */
+    public static final String GZIP = "gzip";
+
+    /**
+     * The encoding of messages which are not compressed.
+     */
+    public static final String IDENTITY = Codec.Identity.NONE.getMessageEncoding();
+
+    private GrpcCompression() {
+    }
+
+    /**
+     * Creates a gzip codec compressing at the given level. Its messages are decompressed by any gzip codec, so
+     * only the sending end needs it registered.
+     *
+     * @param level the compression level, from {@link Deflater#BEST_SPEED} to {@link Deflater#BEST_COMPRESSION},
+     *              or {@link Deflater#DEFAULT_COMPRESSION}
+     * @return the codec
+     */
+    public static Codec gzip(int level) {
+        if ((level < Deflater.BEST_SPEED || level > Deflater.BEST_COMPRESSION) && level != Deflater.DEFAULT_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid gzip compression level: " + level);
+        }
+        return new GzipCodec(level);
+    }
+
+    /**
+     * @param codecs the codecs to compress with, in addition to gzip, replacing it if one of them is a gzip codec
+     * @return a new registry of the compressors
+     */
+    public static CompressorRegistry compressorRegistry(Codec... codecs) {
+        CompressorRegistry registry = CompressorRegistry.newEmptyInstance();
+        registry.register(new Codec.Gzip());
+        registry.register(Codec.Identity.NONE);
+        for (Codec codec : codecs) {
+            registry.register(codec);
+        }
+        return registry;
+    }
+
+    /**
+     * @param codecs the codecs to decompress with, in addition to gzip, advertised to the other end of calls
+     * @return a registry of the decompressors
+     */
+    public static DecompressorRegistry decompressorRegistry(Codec... codecs) {
+        DecompressorRegistry registry = DecompressorRegistry.getDefaultInstance();
+        for (Codec codec : codecs) {
+            registry = registry.with(codec, true);
+        }
+        return registry;
+    }
+
+    private static final class GzipCodec implements Codec {
+
+        private final int level;
+
+        GzipCodec(int level) {
+            this.level = level;
+        }
+
+        @Override
+        public String getMessageEncoding() {
+            return GZIP;
+        }
+
+        @Override
+        public OutputStream compress(OutputStream os) throws IOException {
+            return new GZIPOutputStream(os) {
+                {
+                    def.setLevel(level);
+                }
+            };
+        }
+
+        @Override
+        public InputStream decompress(InputStream is) throws IOException {
+            return new GZIPInputStream(is);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package io.a2a.grpc.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.a2a.grpc.A2AServiceGrpc;
+import io.grpc.MethodDescriptor;
+
+/**
+ * The compression and maximum message sizes of the calls to the methods of the A2A gRPC service, which can be
+ * set for all methods and overridden for some of them. Methods are identified by their name in the service
+ * definition, such as {@code SendStreamingMessage}.
+ * <p>
+ * Large tasks, such as those with a long history or files sent as bytes, compress well, whereas small messages
+ * are often not worth compressing. A typical configuration compresses the methods returning tasks and the
+ * streams of events.
+ */
+public final class GrpcMethodOptions {
+
+    /**
+     * The options gRPC applies by default, without compression and with its default maximum message sizes.
+     */
+    public static final GrpcMethodOptions DEFAULT = new Builder().build();
+
+    private final MethodOptions defaults;
+    private final Map<String, MethodOptions> methods;
+
+    private GrpcMethodOptions(MethodOptions defaults, Map<String, MethodOptions> methods) {
+        this.defaults = defaults;
+        this.methods = methods;
+    }
+
+    /**
+     * @param method the method called
+     * @return the encoding to compress the messages of the call with, or {@code null} not to compress them
+     */
+    public String compression(MethodDescriptor<?, ?> method) {
+        MethodOptions options = methods.get(method.getBareMethodName());
+        return options != null && options.compression() != null ? options.compression() : defaults.compression();
+    }
+
+    /**
+     * @param method the method called
+     * @return the maximum size of the messages received by the call, or {@code null} for gRPC's default
+     */
+    public Integer maxInboundMessageSize(MethodDescriptor<?, ?> method) {
+        MethodOptions options = methods.get(method.getBareMethodName());
+        return options != null && options.maxInboundMessageSize() != null ? options.maxInboundMessageSize()
+                : defaults.maxInboundMessageSize();
+    }
+
+    /**
+     * @param method the method called
+     * @return the maximum size of the messages sent by the call, or {@code null} for gRPC's default
+     */
+    public Integer maxOutboundMessageSize(MethodDescriptor<?, ?> method) {
+        MethodOptions options = methods.get(method.getBareMethodName());
+        return options != null && options.maxOutboundMessageSize() != null ? options.maxOutboundMessageSize()
+                : defaults.maxOutboundMessageSize();
+    }
+
+    private record MethodOptions(String compression, Integer maxInboundMessageSize, Integer maxOutboundMessageSize) {
+        static final MethodOptions NONE = new MethodOptions(null, null, null);
+    }
+
+    public static class Builder {
+        private MethodOptions defaults = MethodOptions.NONE;
+        private final Map<String, MethodOptions> methods = new HashMap<>();
+
+        /**
+         * @param compression the encoding to compress the messages of all methods with, such as
+         *                    {@link GrpcCompression#GZIP}, or {@code null} not to compress them
+         */
+        public Builder compression(String compression) {
+            defaults = new MethodOptions(compression, defaults.maxInboundMessageSize(), defaults.maxOutboundMessageSize());
+            return this;
+        }
+
+        /**
+         * @param method the name of the method
+         * @param compression the encoding to compress the messages of the method with, or
+         *                    {@link GrpcCompression#IDENTITY} not to compress them
+         */
+        public Builder compression(String method, String compression) {
+            MethodOptions options = method(method);
+            methods.put(method, new MethodOptions(compression, options.maxInboundMessageSize(), options.maxOutboundMessageSize()));
+            return this;
+        }
+
+        public Builder maxInboundMessageSize(int maxInboundMessageSize) {
+            defaults = new MethodOptions(defaults.compression(), checkSize(maxInboundMessageSize), defaults.maxOutboundMessageSize());
+            return this;
+        }
+
+        public Builder maxInboundMessageSize(String method, int maxInboundMessageSize) {
+            MethodOptions options = method(method);
+            methods.put(method, new MethodOptions(options.compression(), checkSize(maxInboundMessageSize), options.maxOutboundMessageSize()));
+            return this;
+        }
+
+        public Builder maxOutboundMessageSize(int maxOutboundMessageSize) {
+            defaults = new MethodOptions(defaults.compression(), defaults.maxInboundMessageSize(), checkSize(maxOutboundMessageSize));
+            return this;
+        }
+
+        public Builder maxOutboundMessageSize(String method, int maxOutboundMessageSize) {
+            MethodOptions options = method(method);
+            methods.put(method, new MethodOptions(options.compression(), options.maxInboundMessageSize(), checkSize(maxOutboundMessageSize)));
+            return this;
+        }
+
+        private MethodOptions method(String method) {
+            String fullMethodName = MethodDescriptor.generateFullMethodName(A2AServiceGrpc.SERVICE_NAME, method);
+            boolean exists = A2AServiceGrpc.getServiceDescriptor().getMethods().stream()
+                    .anyMatch(descriptor -> descriptor.getFullMethodName().equals(fullMethodName));
+            if (!exists) {
+                throw new IllegalArgumentException("Unknown method of " + A2AServiceGrpc.SERVICE_NAME + ": " + method);
+            }
+            return methods.getOrDefault(method, MethodOptions.NONE);
+        }
+
+        private static int checkSize(int size) {
+            if (size < 0) {
+                throw new IllegalArgumentException("Invalid maximum message size: " + size);
+            }
+            return size;
+        }
+
+        public GrpcMethodOptions build() {
+            return new GrpcMethodOptions(defaults, Map.copyOf(methods));
+        }
+    }
+}
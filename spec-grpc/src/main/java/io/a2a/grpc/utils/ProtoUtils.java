@@ -1,17 +1,18 @@
 package io.a2a.grpc.utils;
 
 
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
-import com.google.protobuf.ByteString;
 import com.google.protobuf.Struct;
+import com.google.protobuf.UnsafeByteOperations;
 import com.google.protobuf.Value;
 
 import io.a2a.grpc.StreamResponse;
@@ -87,7 +88,9 @@ public class ProtoUtils {
                 builder.setPreferredTransport(agentCard.preferredTransport());
             }
             if (agentCard.additionalInterfaces() != null) {
-                builder.addAllAdditionalInterfaces(agentCard.additionalInterfaces().stream().map(item -> agentInterface(item)).collect(Collectors.toList()));
+                for (AgentInterface agentInterface : agentCard.additionalInterfaces()) {
+                    builder.addAdditionalInterfaces(agentInterface(agentInterface));
+                }
             }
             if (agentCard.provider() != null) {
                 builder.setProvider(agentProvider(agentCard.provider()));
@@ -102,21 +105,14 @@ public class ProtoUtils {
                 builder.setCapabilities(agentCapabilities(agentCard.capabilities()));
             }
             if (agentCard.securitySchemes() != null) {
-                builder.putAllSecuritySchemes(
-                        agentCard.securitySchemes().entrySet().stream()
-                                .collect(Collectors.toMap(Map.Entry::getKey, e -> securityScheme(e.getValue())))
-                );
+                for (Map.Entry<String, SecurityScheme> entry : agentCard.securitySchemes().entrySet()) {
+                    builder.putSecuritySchemes(entry.getKey(), securityScheme(entry.getValue()));
+                }
             }
             if (agentCard.security() != null) {
-                builder.addAllSecurity(agentCard.security().stream().map(s -> {
-                    io.a2a.grpc.Security.Builder securityBuilder = io.a2a.grpc.Security.newBuilder();
-                    s.forEach((key, value) -> {
-                        io.a2a.grpc.StringList.Builder stringListBuilder = io.a2a.grpc.StringList.newBuilder();
-                        stringListBuilder.addAllList(value);
-                        securityBuilder.putSchemes(key, stringListBuilder.build());
-                    });
-                    return securityBuilder.build();
-                }).collect(Collectors.toList()));
+                for (Map<String, List<String>> security : agentCard.security()) {
+                    builder.addSecurity(security(security));
+                }
             }
             if (agentCard.defaultInputModes() != null) {
                 builder.addAllDefaultInputModes(agentCard.defaultInputModes());
@@ -125,11 +121,15 @@ public class ProtoUtils {
                 builder.addAllDefaultOutputModes(agentCard.defaultOutputModes());
             }
             if (agentCard.skills() != null) {
-                builder.addAllSkills(agentCard.skills().stream().map(ToProto::agentSkill).collect(Collectors.toList()));
+                for (AgentSkill skill : agentCard.skills()) {
+                    builder.addSkills(agentSkill(skill));
+                }
             }
             builder.setSupportsAuthenticatedExtendedCard(agentCard.supportsAuthenticatedExtendedCard());
             if (agentCard.signatures() != null) {
-                builder.addAllSignatures(agentCard.signatures().stream().map(ToProto::agentCardSignature).collect(Collectors.toList()));
+                for (AgentCardSignature signature : agentCard.signatures()) {
+                    builder.addSignatures(agentCardSignature(signature));
+                }
             }
             return builder.build();
         }
@@ -140,10 +140,14 @@ public class ProtoUtils {
             builder.setContextId(task.getContextId());
             builder.setStatus(taskStatus(task.getStatus()));
             if (task.getArtifacts() != null) {
-                builder.addAllArtifacts(task.getArtifacts().stream().map(ToProto::artifact).collect(Collectors.toList()));
+                for (Artifact artifact : task.getArtifacts()) {
+                    builder.addArtifacts(artifact(artifact));
+                }
             }
             if (task.getHistory() != null) {
-                builder.addAllHistory(task.getHistory().stream().map(ToProto::message).collect(Collectors.toList()));
+                for (Message message : task.getHistory()) {
+                    builder.addHistory(message(message));
+                }
             }
             builder.setMetadata(struct(task.getMetadata()));
             return builder.build();
@@ -160,7 +164,9 @@ public class ProtoUtils {
             }
             builder.setRole(role(message.getRole()));
             if (message.getParts() != null) {
-                builder.addAllContent(message.getParts().stream().map(ToProto::part).collect(Collectors.toList()));
+                for (Part<?> part : message.getParts()) {
+                    builder.addContent(part(part));
+                }
             }
             builder.setMetadata(struct(message.getMetadata()));
             return builder.build();
@@ -231,7 +237,9 @@ public class ProtoUtils {
                 builder.setDescription(artifact.description());
             }
             if (artifact.parts() != null) {
-                builder.addAllParts(artifact.parts().stream().map(ToProto::part).collect(Collectors.toList()));
+                for (Part<?> part : artifact.parts()) {
+                    builder.addParts(part(part));
+                }
             }
             if (artifact.metadata() != null) {
                 builder.setMetadata(struct(artifact.metadata()));
@@ -254,8 +262,16 @@ public class ProtoUtils {
         private static io.a2a.grpc.FilePart filePart(FilePart filePart) {
             io.a2a.grpc.FilePart.Builder builder = io.a2a.grpc.FilePart.newBuilder();
             FileContent fileContent = filePart.getFile();
+            if (fileContent.mimeType() != null) {
+                builder.setMimeType(fileContent.mimeType());
+            }
             if (fileContent instanceof FileWithBytes) {
-                builder.setFileWithBytes(ByteString.copyFrom(((FileWithBytes) fileContent).bytes(), StandardCharsets.UTF_8));
+                // The field carries the base64 encoding, as other A2A implementations expect, which is wrapped
+                // rather than copied
+                ByteBuffer content = ((FileWithBytes) fileContent).content();
+                if (content != null) {
+                    builder.setFileWithBytes(UnsafeByteOperations.unsafeWrap(Base64.getEncoder().encode(content)));
+                }
             } else if (fileContent instanceof FileWithUri) {
                 builder.setFileWithUri(((FileWithUri) fileContent).uri());
             }
@@ -359,7 +375,9 @@ public class ProtoUtils {
             builder.setStreaming(agentCapabilities.streaming());
             builder.setPushNotifications(agentCapabilities.pushNotifications());
             if (agentCapabilities.extensions() != null) {
-                builder.addAllExtensions(agentCapabilities.extensions().stream().map(ToProto::agentExtension).collect(Collectors.toList()));
+                for (AgentExtension extension : agentCapabilities.extensions()) {
+                    builder.addExtensions(agentExtension(extension));
+                }
             }
             return builder.build();
         }
@@ -403,15 +421,17 @@ public class ProtoUtils {
                 builder.addAllOutputModes(agentSkill.outputModes());
             }
             if (agentSkill.security() != null) {
-                builder.addAllSecurity(agentSkill.security().stream().map(s -> {
-                    io.a2a.grpc.Security.Builder securityBuilder = io.a2a.grpc.Security.newBuilder();
-                    s.forEach((key, value) -> {
-                        io.a2a.grpc.StringList.Builder stringListBuilder = io.a2a.grpc.StringList.newBuilder();
-                        stringListBuilder.addAllList(value);
-                        securityBuilder.putSchemes(key, stringListBuilder.build());
-                    });
-                    return securityBuilder.build();
-                }).collect(Collectors.toList()));
+                for (Map<String, List<String>> security : agentSkill.security()) {
+                    builder.addSecurity(security(security));
+                }
+            }
+            return builder.build();
+        }
+
+        private static io.a2a.grpc.Security security(Map<String, List<String>> security) {
+            io.a2a.grpc.Security.Builder builder = io.a2a.grpc.Security.newBuilder();
+            for (Map.Entry<String, List<String>> entry : security.entrySet()) {
+                builder.putSchemes(entry.getKey(), io.a2a.grpc.StringList.newBuilder().addAllList(entry.getValue()).build());
             }
             return builder.build();
         }
@@ -593,7 +613,9 @@ public class ProtoUtils {
         public static Struct struct(Map<String, Object> map) {
             Struct.Builder structBuilder = Struct.newBuilder();
             if (map != null) {
-                map.forEach((k, v) -> structBuilder.putFields(k, value(v)));
+                for (Map.Entry<String, Object> entry : map.entrySet()) {
+                    structBuilder.putFields(entry.getKey(), value(entry.getValue()));
+                }
             }
             return structBuilder.build();
         }
@@ -617,7 +639,9 @@ public class ProtoUtils {
         private static com.google.protobuf.ListValue listValue(List<Object> list) {
             com.google.protobuf.ListValue.Builder listValueBuilder = com.google.protobuf.ListValue.newBuilder();
             if (list != null) {
-                list.forEach(o -> listValueBuilder.addValues(value(o)));
+                for (Object o : list) {
+                    listValueBuilder.addValues(value(o));
+                }
             }
             return listValueBuilder.build();
         }
@@ -691,26 +715,14 @@ public class ProtoUtils {
         }
 
         public static TaskPushNotificationConfig taskPushNotificationConfig(io.a2a.grpc.TaskPushNotificationConfig config) {
-            String name = config.getName(); // "tasks/{id}/pushNotificationConfigs/{push_id}"
-            String[] parts = name.split("/");
-            if (parts.length < 4) {
-                throw new IllegalArgumentException("Invalid name format for TaskPushNotificationConfig: " + name);
-            }
-            String taskId = parts[1];
-            String configId = parts[3];
-            PushNotificationConfig pnc = pushNotification(config.getPushNotificationConfig(), configId);
-            return new TaskPushNotificationConfig(taskId, pnc);
+            PushNotificationConfigName name = PushNotificationConfigName.parse(config.getName(), "TaskPushNotificationConfig");
+            PushNotificationConfig pnc = pushNotification(config.getPushNotificationConfig(), name.configId());
+            return new TaskPushNotificationConfig(name.taskId(), pnc);
         }
 
         public static GetTaskPushNotificationConfigParams getTaskPushNotificationConfigParams(io.a2a.grpc.GetTaskPushNotificationConfigRequest request) {
-            String name = request.getName(); // "tasks/{id}/pushNotificationConfigs/{push_id}"
-            String[] parts = name.split("/");
-            if (parts.length < 4) {
-                throw new IllegalArgumentException("Invalid name format for GetTaskPushNotificationConfigRequest: " + name);
-            }
-            String taskId = parts[1];
-            String configId = parts[3];
-            return new GetTaskPushNotificationConfigParams(taskId, configId);
+            PushNotificationConfigName name = PushNotificationConfigName.parse(request.getName(), "GetTaskPushNotificationConfigRequest");
+            return new GetTaskPushNotificationConfigParams(name.taskId(), name.configId());
         }
 
         public static TaskIdParams taskIdParams(io.a2a.grpc.TaskSubscriptionRequest request) {
@@ -726,19 +738,36 @@ public class ProtoUtils {
         }
 
         public static DeleteTaskPushNotificationConfigParams deleteTaskPushNotificationConfigParams(io.a2a.grpc.DeleteTaskPushNotificationConfigRequest request) {
-            String name = request.getName(); // "tasks/{id}/pushNotificationConfigs/{push_id}"
-            String[] parts = name.split("/");
-            if (parts.length < 4) {
-                throw new IllegalArgumentException("Invalid name format for DeleteTaskPushNotificationConfigRequest: " + name);
+            PushNotificationConfigName name = PushNotificationConfigName.parse(request.getName(), "DeleteTaskPushNotificationConfigRequest");
+            return new DeleteTaskPushNotificationConfigParams(name.taskId(), name.configId());
+        }
+
+        /**
+         * The ids in the name of a push notification config, {@code tasks/{id}/pushNotificationConfigs/{push_id}}.
+         */
+        private record PushNotificationConfigName(String taskId, String configId) {
+
+            static PushNotificationConfigName parse(String name, String type) {
+                // Locates the separators rather than splitting, to only allocate the ids
+                int taskIdStart = name.indexOf('/') + 1;
+                int taskIdEnd = taskIdStart == 0 ? -1 : name.indexOf('/', taskIdStart);
+                int configIdStart = taskIdEnd < 0 ? -1 : name.indexOf('/', taskIdEnd + 1) + 1;
+                if (configIdStart <= 0 || configIdStart == name.length()) {
+                    throw new IllegalArgumentException("Invalid name format for " + type + ": " + name);
+                }
+                int configIdEnd = name.indexOf('/', configIdStart);
+                return new PushNotificationConfigName(name.substring(taskIdStart, taskIdEnd),
+                        name.substring(configIdStart, configIdEnd < 0 ? name.length() : configIdEnd));
             }
-            String taskId = parts[1];
-            String configId = parts[3];
-            return new DeleteTaskPushNotificationConfigParams(taskId, configId);
         }
 
         private static AgentCapabilities agentCapabilities(io.a2a.grpc.AgentCapabilities agentCapabilities) {
+            List<AgentExtension> extensions = new ArrayList<>(agentCapabilities.getExtensionsCount());
+            for (io.a2a.grpc.AgentExtension extension : agentCapabilities.getExtensionsList()) {
+                extensions.add(agentExtension(extension));
+            }
             return new AgentCapabilities(agentCapabilities.getStreaming(), agentCapabilities.getPushNotifications(), false,
-                    agentCapabilities.getExtensionsList().stream().map(item -> agentExtension(item)).collect(Collectors.toList())
+                    extensions
             );
         }
 
@@ -781,12 +810,20 @@ public class ProtoUtils {
         }
 
         public static Task task(io.a2a.grpc.Task task) {
+            List<Artifact> artifacts = new ArrayList<>(task.getArtifactsCount());
+            for (io.a2a.grpc.Artifact artifact : task.getArtifactsList()) {
+                artifacts.add(artifact(artifact));
+            }
+            List<Message> history = new ArrayList<>(task.getHistoryCount());
+            for (io.a2a.grpc.Message message : task.getHistoryList()) {
+                history.add(message(message));
+            }
             return new Task(
                     task.getId(),
                     task.getContextId(),
                     taskStatus(task.getStatus()),
-                    task.getArtifactsList().stream().map(item -> artifact(item)).collect(Collectors.toList()),
-                    task.getHistoryList().stream().map(item -> message(item)).collect(Collectors.toList()),
+                    artifacts,
+                    history,
                     struct(task.getMetadata())
             );
         }
@@ -797,7 +834,7 @@ public class ProtoUtils {
             }
             return new Message(
                     role(message.getRole()),
-                    message.getContentList().stream().map(item -> part(item)).collect(Collectors.toList()),
+                    parts(message.getContentList()),
                     message.getMessageId().isEmpty() ? null :  message.getMessageId(),
                     message.getContextId().isEmpty() ? null :  message.getContextId(),
                     message.getTaskId().isEmpty() ? null :  message.getTaskId(),
@@ -832,11 +869,19 @@ public class ProtoUtils {
                     artifact.getArtifactId(),
                     artifact.getName(),
                     artifact.getDescription(),
-                    artifact.getPartsList().stream().map(item -> part(item)).collect(Collectors.toList()),
+                    parts(artifact.getPartsList()),
                     struct(artifact.getMetadata())
             );
         }
 
+        private static List<Part<?>> parts(List<io.a2a.grpc.Part> parts) {
+            List<Part<?>> result = new ArrayList<>(parts.size());
+            for (io.a2a.grpc.Part part : parts) {
+                result.add(part(part));
+            }
+            return result;
+        }
+
         private static Part<?> part(io.a2a.grpc.Part part) {
             if (part.hasText()) {
                 return textPart(part.getText());
@@ -854,7 +899,9 @@ public class ProtoUtils {
 
         private static FilePart filePart(io.a2a.grpc.FilePart filePart) {
             if (filePart.hasFileWithBytes()) {
-                return new FilePart(new FileWithBytes(filePart.getMimeType(), null, filePart.getFileWithBytes().toStringUtf8()));
+                // Decodes the base64 text straight from the received bytes
+                return new FilePart(FileWithBytes.of(filePart.getMimeType(), null,
+                        Base64.getDecoder().decode(filePart.getFileWithBytes().asReadOnlyByteBuffer())));
             } else if (filePart.hasFileWithUri()) {
                 return new FilePart(new FileWithUri(filePart.getMimeType(), null, filePart.getFileWithUri()));
             }
@@ -919,8 +966,13 @@ public class ProtoUtils {
             if (struct == null || struct.getFieldsCount() == 0) {
                 return null;
             }
-            return struct.getFieldsMap().entrySet().stream()
-                    .collect(Collectors.toMap(Map.Entry::getKey, e -> value(e.getValue())));
+            Map<String, Value> fields = struct.getFieldsMap();
+            // Sized so that the map is not resized when filled
+            Map<String, Object> map = new HashMap<>((int) (fields.size() / 0.75f) + 1);
+            for (Map.Entry<String, Value> entry : fields.entrySet()) {
+                map.put(entry.getKey(), value(entry.getValue()));
+            }
+            return map;
         }
 
         private static Object value(Value value) {
@@ -928,9 +980,12 @@ public class ProtoUtils {
                 case STRUCT_VALUE:
                     return struct(value.getStructValue());
                 case LIST_VALUE:
-                    return value.getListValue().getValuesList().stream()
-                            .map(FromProto::value)
-                            .collect(Collectors.toList());
+                    List<Value> values = value.getListValue().getValuesList();
+                    List<Object> list = new ArrayList<>(values.size());
+                    for (Value item : values) {
+                        list.add(value(item));
+                    }
+                    return list;
                 case BOOL_VALUE:
                     return value.getBoolValue();
                 case NUMBER_VALUE:
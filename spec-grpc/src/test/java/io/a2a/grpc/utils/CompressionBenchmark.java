@@ -0,0 +1,143 @@
+package io.a2a.grpc.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+
+import io.a2a.spec.Artifact;
+import io.a2a.spec.FilePart;
+import io.a2a.spec.FileWithBytes;
+import io.a2a.spec.Message;
+import io.a2a.spec.Part;
+import io.a2a.spec.Task;
+import io.a2a.spec.TaskState;
+import io.a2a.spec.TaskStatus;
+import io.a2a.spec.TextPart;
+import io.grpc.Codec;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the CPU time and the bytes on the wire of sending a task with each codec. {@code history} is the
+ * number of messages in the task's history, and the task has an artifact holding a file of {@code fileSize}
+ * random bytes, which do not compress.
+ * <p>
+ * Run with {@code mvn -pl spec-grpc test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=io.a2a.grpc.utils.CompressionBenchmark}, or from the IDE. The {@code wireBytes} secondary
+ * result reports the size of the compressed task.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompressionBenchmark {
+
+    @Param({"identity", "gzip", "gzip-fast"})
+    public String codec;
+
+    @Param({"10", "1000"})
+    public int history;
+
+    @Param({"0", "262144"})
+    public int fileSize;
+
+    private Codec compressor;
+    private byte[] task;
+    private byte[] compressedTask;
+
+    @Setup
+    public void setup() throws IOException {
+        compressor = switch (codec) {
+            case "identity" -> Codec.Identity.NONE;
+            case "gzip" -> new Codec.Gzip();
+            case "gzip-fast" -> GrpcCompression.gzip(Deflater.BEST_SPEED);
+            default -> throw new IllegalArgumentException(codec);
+        };
+
+        List<Message> messages = new ArrayList<>(history);
+        for (int i = 0; i < history; i++) {
+            messages.add(new Message.Builder()
+                    .role(i % 2 == 0 ? Message.Role.USER : Message.Role.AGENT)
+                    .parts(new TextPart("Message " + i + " of a conversation between the user and the agent"))
+                    .messageId("message-" + i)
+                    .contextId("context-1234")
+                    .taskId("task-1234")
+                    .metadata(Map.of("index", i))
+                    .build());
+        }
+        List<Part<?>> parts = new ArrayList<>();
+        parts.add(new TextPart("The result of the task"));
+        if (fileSize > 0) {
+            byte[] file = new byte[fileSize];
+            new Random(42).nextBytes(file);
+            parts.add(new FilePart(FileWithBytes.of("application/octet-stream", "file.bin", file)));
+        }
+        Task spec = new Task.Builder()
+                .id("task-1234")
+                .contextId("context-1234")
+                .status(new TaskStatus(TaskState.COMPLETED))
+                .history(messages)
+                .artifacts(List.of(new Artifact.Builder().artifactId("artifact-1").parts(parts).build()))
+                .build();
+        task = ProtoUtils.ToProto.task(spec).toByteArray();
+        compressedTask = compress().toByteArray();
+    }
+
+    private ByteArrayOutputStream compress() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(task.length);
+        try (OutputStream out = compressor.compress(bytes)) {
+            out.write(task);
+        }
+        return bytes;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WireBytes {
+        public long wireBytes;
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream compress(WireBytes counters) throws IOException {
+        ByteArrayOutputStream bytes = compress();
+        counters.wireBytes = bytes.size();
+        return bytes;
+    }
+
+    @Benchmark
+    public byte[] decompress() throws IOException {
+        try (InputStream in = compressor.decompress(new ByteArrayInputStream(compressedTask))) {
+            return in.readAllBytes();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(CompressionBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
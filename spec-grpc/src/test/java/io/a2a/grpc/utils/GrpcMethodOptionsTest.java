@@ -0,0 +1,75 @@
+package io.a2a.grpc.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+
+import io.a2a.grpc.A2AServiceGrpc;
+import io.grpc.Codec;
+import org.junit.jupiter.api.Test;
+
+public class GrpcMethodOptionsTest {
+
+    @Test
+    public void testDefaults() {
+        GrpcMethodOptions options = GrpcMethodOptions.DEFAULT;
+        assertNull(options.compression(A2AServiceGrpc.getSendMessageMethod()));
+        assertNull(options.maxInboundMessageSize(A2AServiceGrpc.getSendMessageMethod()));
+        assertNull(options.maxOutboundMessageSize(A2AServiceGrpc.getSendMessageMethod()));
+    }
+
+    @Test
+    public void testMethodOverridesDefaults() {
+        GrpcMethodOptions options = new GrpcMethodOptions.Builder()
+                .compression(GrpcCompression.GZIP)
+                .compression("GetAgentCard", GrpcCompression.IDENTITY)
+                .maxInboundMessageSize(4 * 1024 * 1024)
+                .maxInboundMessageSize("GetTask", 64 * 1024 * 1024)
+                .maxOutboundMessageSize("SendMessage", 1024)
+                .build();
+
+        assertEquals(GrpcCompression.GZIP, options.compression(A2AServiceGrpc.getGetTaskMethod()));
+        assertEquals(GrpcCompression.IDENTITY, options.compression(A2AServiceGrpc.getGetAgentCardMethod()));
+        assertEquals(64 * 1024 * 1024, options.maxInboundMessageSize(A2AServiceGrpc.getGetTaskMethod()));
+        // Overriding another option of a method keeps the default of this one
+        assertEquals(4 * 1024 * 1024, options.maxInboundMessageSize(A2AServiceGrpc.getSendMessageMethod()));
+        assertEquals(1024, options.maxOutboundMessageSize(A2AServiceGrpc.getSendMessageMethod()));
+        assertNull(options.maxOutboundMessageSize(A2AServiceGrpc.getGetTaskMethod()));
+    }
+
+    @Test
+    public void testInvalidOptions() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new GrpcMethodOptions.Builder().compression("SendMesage", GrpcCompression.GZIP));
+        assertThrows(IllegalArgumentException.class,
+                () -> new GrpcMethodOptions.Builder().maxInboundMessageSize(-1));
+    }
+
+    @Test
+    public void testGzipLevel() throws Exception {
+        byte[] message = "A task history which compresses well. ".repeat(1000).getBytes(StandardCharsets.UTF_8);
+        Codec fast = GrpcCompression.gzip(Deflater.BEST_SPEED);
+        assertEquals(GrpcCompression.GZIP, fast.getMessageEncoding());
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream out = fast.compress(compressed)) {
+            out.write(message);
+        }
+        assertTrue(compressed.size() < message.length / 10);
+
+        // Decompressed by the standard gzip codec
+        try (InputStream in = new Codec.Gzip().decompress(new ByteArrayInputStream(compressed.toByteArray()))) {
+            assertArrayEquals(message, in.readAllBytes());
+        }
+        assertThrows(IllegalArgumentException.class, () -> GrpcCompression.gzip(10));
+    }
+}
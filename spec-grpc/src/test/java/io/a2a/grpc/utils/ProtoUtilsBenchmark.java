@@ -0,0 +1,128 @@
+package io.a2a.grpc.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.a2a.spec.Artifact;
+import io.a2a.spec.DataPart;
+import io.a2a.spec.Message;
+import io.a2a.spec.Part;
+import io.a2a.spec.Task;
+import io.a2a.spec.TaskPushNotificationConfig;
+import io.a2a.spec.TaskState;
+import io.a2a.spec.TaskStatus;
+import io.a2a.spec.TextPart;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures converting tasks between the spec and gRPC representations. A task has {@code size} messages in its
+ * history and {@code size} artifacts, each with a text part and a data part holding nested metadata, so that
+ * {@code 10} stands for a typical task and {@code 1000} for a large one.
+ * <p>
+ * Run with {@code mvn -pl spec-grpc test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=io.a2a.grpc.utils.ProtoUtilsBenchmark}, or from the IDE. The GC profiler is enabled
+ * so that {@code gc.alloc.rate.norm} reports the bytes allocated per conversion. See the module's {@code README.md}
+ * for the target numbers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProtoUtilsBenchmark {
+
+    @Param({"10", "1000"})
+    public int size;
+
+    private Task task;
+    private io.a2a.grpc.Task protoTask;
+    private io.a2a.grpc.TaskPushNotificationConfig protoConfig;
+
+    @Setup
+    public void setup() {
+        List<Message> history = new ArrayList<>(size);
+        List<Artifact> artifacts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            history.add(message(i));
+            artifacts.add(new Artifact.Builder()
+                    .artifactId("artifact-" + i)
+                    .name("Artifact " + i)
+                    .parts(parts(i))
+                    .metadata(metadata(i))
+                    .build());
+        }
+        task = new Task.Builder()
+                .id("task-1234")
+                .contextId("context-1234")
+                .status(new TaskStatus(TaskState.WORKING, message(size), null))
+                .history(history)
+                .artifacts(artifacts)
+                .metadata(metadata(size))
+                .build();
+        protoTask = ProtoUtils.ToProto.task(task);
+        protoConfig = io.a2a.grpc.TaskPushNotificationConfig.newBuilder()
+                .setName("tasks/task-1234/pushNotificationConfigs/config-1234")
+                .setPushNotificationConfig(io.a2a.grpc.PushNotificationConfig.newBuilder()
+                        .setUrl("http://example.com/callback"))
+                .build();
+    }
+
+    private static Message message(int i) {
+        return new Message.Builder()
+                .role(i % 2 == 0 ? Message.Role.USER : Message.Role.AGENT)
+                .parts(parts(i))
+                .messageId("message-" + i)
+                .contextId("context-1234")
+                .taskId("task-1234")
+                .metadata(metadata(i))
+                .build();
+    }
+
+    private static List<Part<?>> parts(int i) {
+        return List.of(new TextPart("Part " + i + " of a task exchanged with the agent"),
+                new DataPart(Map.of("index", i, "tags", List.of("a", "b", "c"))));
+    }
+
+    private static Map<String, Object> metadata(int i) {
+        return Map.of("source", "benchmark", "index", i, "nested", Map.of("enabled", true, "weights", List.of(0.5, 1.5)));
+    }
+
+    @Benchmark
+    public io.a2a.grpc.Task toProtoTask() {
+        return ProtoUtils.ToProto.task(task);
+    }
+
+    @Benchmark
+    public Task fromProtoTask() {
+        return ProtoUtils.FromProto.task(protoTask);
+    }
+
+    @Benchmark
+    public TaskPushNotificationConfig fromProtoTaskPushNotificationConfig() {
+        return ProtoUtils.FromProto.taskPushNotificationConfig(protoConfig);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(ProtoUtilsBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}
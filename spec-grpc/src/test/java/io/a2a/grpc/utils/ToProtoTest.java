@@ -4,12 +4,17 @@ import static io.a2a.grpc.Role.ROLE_AGENT;
 import static io.a2a.grpc.Role.ROLE_USER;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.google.protobuf.ByteString;
 import io.a2a.grpc.SendMessageConfiguration;
 import io.a2a.spec.AgentCapabilities;
 import io.a2a.spec.AgentCard;
 import io.a2a.spec.AgentSkill;
 import io.a2a.spec.Artifact;
+import io.a2a.spec.FilePart;
+import io.a2a.spec.FileWithBytes;
+import io.a2a.spec.GetTaskPushNotificationConfigParams;
 import io.a2a.spec.HTTPAuthSecurityScheme;
 import io.a2a.spec.Message;
 import io.a2a.spec.MessageSendConfiguration;
@@ -22,6 +27,8 @@ import io.a2a.spec.TaskState;
 import io.a2a.spec.TaskStatus;
 import io.a2a.spec.TaskStatusUpdateEvent;
 import io.a2a.spec.TextPart;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -225,6 +232,32 @@ public class ToProtoTest {
         assertEquals("jwt", result.getPushNotificationConfig().getAuthentication().getSchemes(0));
     }
 
+    @Test
+    public void convertTaskPushNotificationConfigName() {
+        TaskPushNotificationConfig taskPushConfig = new TaskPushNotificationConfig("push-task-123",
+                new PushNotificationConfig.Builder()
+                        .url("http://example.com")
+                        .id("xyz")
+                        .build());
+        TaskPushNotificationConfig result = ProtoUtils.FromProto.taskPushNotificationConfig(
+                ProtoUtils.ToProto.taskPushNotificationConfig(taskPushConfig));
+        assertEquals("push-task-123", result.taskId());
+        assertEquals("xyz", result.pushNotificationConfig().id());
+
+        GetTaskPushNotificationConfigParams params = ProtoUtils.FromProto.getTaskPushNotificationConfigParams(
+                io.a2a.grpc.GetTaskPushNotificationConfigRequest.newBuilder()
+                        .setName("tasks/push-task-123/pushNotificationConfigs/xyz")
+                        .build());
+        assertEquals("push-task-123", params.id());
+        assertEquals("xyz", params.pushNotificationConfigId());
+
+        for (String name : List.of("", "tasks", "tasks/push-task-123", "tasks/push-task-123/pushNotificationConfigs",
+                "tasks/push-task-123/pushNotificationConfigs/")) {
+            assertThrows(IllegalArgumentException.class, () -> ProtoUtils.FromProto.deleteTaskPushNotificationConfigParams(
+                    io.a2a.grpc.DeleteTaskPushNotificationConfigRequest.newBuilder().setName(name).build()), name);
+        }
+    }
+
     @Test
     public void convertTaskArtifactUpdateEvent() {
         TaskArtifactUpdateEvent task = new TaskArtifactUpdateEvent.Builder()
@@ -269,4 +302,22 @@ public class ToProtoTest {
         assertEquals(1, result.getAcceptedOutputModesCount());
         assertEquals("text", result.getAcceptedOutputModesBytes(0).toStringUtf8());
     }
+
+    @Test
+    public void convertFileWithBytes() {
+        byte[] content = "hello".getBytes(StandardCharsets.UTF_8);
+        Message message = new Message.Builder(SIMPLE_MESSAGE)
+                .parts(new FilePart(FileWithBytes.of("text/plain", "hello.txt", content)),
+                        new FilePart(new FileWithBytes("text/plain", "hello.txt", "aGVsbG8=")))
+                .build();
+        io.a2a.grpc.Message result = ProtoUtils.ToProto.message(message);
+        // The content is sent as its base64 encoding, as other A2A implementations expect
+        assertEquals(ByteString.copyFromUtf8("aGVsbG8="), result.getContent(0).getFile().getFileWithBytes());
+        assertEquals(ByteString.copyFromUtf8("aGVsbG8="), result.getContent(1).getFile().getFileWithBytes());
+        assertEquals("text/plain", result.getContent(0).getFile().getMimeType());
+
+        FileWithBytes file = (FileWithBytes) ((FilePart) ProtoUtils.FromProto.message(result).getParts().get(0)).getFile();
+        assertEquals(ByteBuffer.wrap(content), file.content());
+        assertEquals("aGVsbG8=", file.bytes());
+    }
 }
@@ -42,6 +42,10 @@ public final class CancelTaskRequest extends NonStreamingJSONRPCRequest<TaskIdPa
         this(null, id, METHOD, params);
     }
 
+    CancelTaskRequest(String jsonrpc, Object id, LazyParams<TaskIdParams> params) {
+        initLazy(jsonrpc, id, METHOD, params);
+    }
+
     public static class Builder {
         private String jsonrpc;
         private Object id;
@@ -41,6 +41,10 @@ public final class DeleteTaskPushNotificationConfigRequest extends NonStreamingJ
         this(null, id, METHOD, params);
     }
 
+    DeleteTaskPushNotificationConfigRequest(String jsonrpc, Object id, LazyParams<DeleteTaskPushNotificationConfigParams> params) {
+        initLazy(jsonrpc, id, METHOD, params);
+    }
+
     public static class Builder {
         private String jsonrpc;
         private Object id;
@@ -5,6 +5,7 @@ import java.io.IOException;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 
@@ -26,8 +27,12 @@ public class FileContentDeserializer extends StdDeserializer<FileContent> {
         JsonNode name = node.get("name");
         JsonNode bytes = node.get("bytes");
         if (bytes != null) {
-            return new FileWithBytes(mimeType != null ? mimeType.asText() : null,
-                    name != null ? name.asText() : null, bytes.asText());
+            try {
+                return new FileWithBytes(mimeType != null ? mimeType.asText() : null,
+                        name != null ? name.asText() : null, bytes.isNull() ? null : bytes.asText());
+            } catch (IllegalArgumentException e) {
+                throw new JsonMappingException(jsonParser, "Invalid file format: 'bytes' is not valid base64", e);
+            }
         } else if (node.has("uri")) {
             return new FileWithUri(mimeType != null ? mimeType.asText() : null,
                     name != null ? name.asText() : null, node.get("uri").asText());
@@ -1,12 +1,100 @@
 package io.a2a.spec;
 
+import static io.a2a.util.Assert.checkNotNullParam;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 /**
- * Represents a file with its content provided directly as a base64-encoded string.
+ * Represents a file with its content provided directly, as a base64-encoded string in JSON and gRPC.
+ * <p>
+ * The content is held as the bytes themselves, which take less memory than their encoding. The bytes can be in
+ * any {@link ByteBuffer}, including a direct buffer or a file mapped in memory, which keeps large files off the
+ * heap. They are only encoded when the file is written to JSON or converted to protobuf.
  */
 @JsonInclude(JsonInclude.Include.NON_ABSENT)
 @JsonIgnoreProperties(ignoreUnknown = true)
-public record FileWithBytes(String mimeType, String name, String bytes) implements FileContent {
+@JsonSerialize(using = FileWithBytesSerializer.class)
+public record FileWithBytes(String mimeType, String name, ByteBuffer content) implements FileContent {
+
+    /**
+     * @param mimeType the media type of the file
+     * @param name the name of the file
+     * @param content the content of the file, which is not copied and must not be modified afterwards
+     */
+    public FileWithBytes {
+        content = content == null ? null : content.slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * @param mimeType the media type of the file
+     * @param name the name of the file
+     * @param bytes the content of the file, encoded in base64, which is decoded once
+     * @throws IllegalArgumentException if {@code bytes} is not valid base64
+     */
+    @JsonCreator
+    public FileWithBytes(@JsonProperty("mimeType") String mimeType, @JsonProperty("name") String name,
+                         @JsonProperty("bytes") String bytes) {
+        this(mimeType, name, bytes == null ? null : ByteBuffer.wrap(Base64.getDecoder().decode(bytes)));
+    }
+
+    /**
+     * Creates a file holding the given bytes, which are not copied and must not be modified afterwards.
+     *
+     * @param mimeType the media type of the file
+     * @param name the name of the file
+     * @param content the content of the file
+     * @return the file
+     */
+    public static FileWithBytes of(String mimeType, String name, byte[] content) {
+        checkNotNullParam("content", content);
+        return new FileWithBytes(mimeType, name, ByteBuffer.wrap(content));
+    }
+
+    /**
+     * Creates a file holding the remaining bytes of the given buffer, which are not copied and must not be
+     * modified afterwards. The position of the buffer is left unchanged.
+     *
+     * @param mimeType the media type of the file
+     * @param name the name of the file
+     * @param content the content of the file, such as a direct buffer or a file mapped in memory
+     * @return the file
+     */
+    public static FileWithBytes of(String mimeType, String name, ByteBuffer content) {
+        checkNotNullParam("content", content);
+        return new FileWithBytes(mimeType, name, content);
+    }
+
+    /**
+     * @return a read-only buffer of the content of the file, or {@code null} if it has no content
+     */
+    @Override
+    public ByteBuffer content() {
+        return content == null ? null : content.duplicate();
+    }
+
+    /**
+     * @return the content of the file encoded in base64, which is encoded on each call, or {@code null} if it has
+     * no content. Prefer {@link #content()}, which does not copy the content.
+     */
+    public String bytes() {
+        if (content == null) {
+            return null;
+        }
+        ByteBuffer encoded = Base64.getEncoder().encode(content());
+        return new String(encoded.array(), encoded.arrayOffset(), encoded.remaining(), StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public String toString() {
+        return "FileWithBytes[mimeType=" + mimeType + ", name=" + name + ", size="
+                + (content == null ? null : content.remaining()) + "]";
+    }
 }
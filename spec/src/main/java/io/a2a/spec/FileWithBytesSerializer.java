@@ -0,0 +1,67 @@
+package io.a2a.spec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Writes the content of a {@link FileWithBytes} straight to the JSON output in base64, without creating the
+ * encoded string.
+ */
+public class FileWithBytesSerializer extends StdSerializer<FileWithBytes> {
+
+    public FileWithBytesSerializer() {
+        this(null);
+    }
+
+    public FileWithBytesSerializer(Class<FileWithBytes> vc) {
+        super(vc);
+    }
+
+    @Override
+    public void serialize(FileWithBytes value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        if (value.mimeType() != null) {
+            gen.writeStringField("mimeType", value.mimeType());
+        }
+        if (value.name() != null) {
+            gen.writeStringField("name", value.name());
+        }
+        ByteBuffer content = value.content();
+        if (content != null) {
+            gen.writeFieldName("bytes");
+            // The buffer is read-only, so even a heap buffer does not expose its array
+            gen.writeBinary(Base64Variants.MIME_NO_LINEFEEDS, new ByteBufferInputStream(content), content.remaining());
+        }
+        gen.writeEndObject();
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+    }
+}
@@ -39,6 +39,10 @@ public final class GetTaskPushNotificationConfigRequest extends NonStreamingJSON
         this(null, id, METHOD, params);
     }
 
+    GetTaskPushNotificationConfigRequest(String jsonrpc, Object id, LazyParams<GetTaskPushNotificationConfigParams> params) {
+        initLazy(jsonrpc, id, METHOD, params);
+    }
+
     public static class Builder {
         private String jsonrpc;
         private Object id;
@@ -42,6 +42,10 @@ public final class GetTaskRequest extends NonStreamingJSONRPCRequest<TaskQueryPa
         this(null, id, METHOD, params);
     }
 
+    GetTaskRequest(String jsonrpc, Object id, LazyParams<TaskQueryParams> params) {
+        initLazy(jsonrpc, id, METHOD, params);
+    }
+
 
     public static class Builder {
         private String jsonrpc;
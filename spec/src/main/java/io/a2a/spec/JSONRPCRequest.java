@@ -4,20 +4,27 @@ import static io.a2a.util.Utils.defaultIfNull;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import io.a2a.util.Assert;
 
 /**
  * Represents a JSONRPC request.
+ * <p>
+ * Requests read with {@link JSONRPCRequestDeserializerBase#LAZY_PARAMS} set only bind their {@code params}
+ * when {@link #getParams()} is first called, so that requests rejected before their params are used are cheap
+ * to read.
  */
 @JsonInclude(JsonInclude.Include.NON_ABSENT)
 @JsonIgnoreProperties(ignoreUnknown = true)
+@JsonDeserialize(using = JSONRPCRequestDeserializer.class)
 public abstract sealed class JSONRPCRequest<T> implements JSONRPCMessage permits NonStreamingJSONRPCRequest, StreamingJSONRPCRequest {
 
     protected String jsonrpc;
     protected Object id;
     protected String method;
     protected T params;
+    private volatile LazyParams<T> lazyParams;
 
     public JSONRPCRequest() {
     }
@@ -46,7 +53,32 @@ public abstract sealed class JSONRPCRequest<T> implements JSONRPCMessage permits
         return this.method;
     }
 
+    /**
+     * @return the params
+     * @throws InvalidParamsError if the params were read lazily and can not be bound to their type
+     */
     public T getParams() {
+        if (this.lazyParams != null) {
+            bindParams();
+        }
         return this.params;
     }
+
+    private synchronized void bindParams() {
+        LazyParams<T> lazyParams = this.lazyParams;
+        if (lazyParams != null) {
+            this.params = lazyParams.bind();
+            this.lazyParams = null;
+        }
+    }
+
+    /**
+     * Initializes a request read by a deserializer with params to bind on first access.
+     */
+    void initLazy(String jsonrpc, Object id, String method, LazyParams<T> lazyParams) {
+        this.jsonrpc = jsonrpc;
+        this.id = id;
+        this.method = method;
+        this.lazyParams = lazyParams;
+    }
 }
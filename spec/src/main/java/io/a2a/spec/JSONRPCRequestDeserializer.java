@@ -0,0 +1,53 @@
+package io.a2a.spec;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+/**
+ * Deserializes both streaming and non-streaming requests, so that a request can be read without
+ * knowing its method upfront.
+ */
+public class JSONRPCRequestDeserializer extends JSONRPCRequestDeserializerBase<JSONRPCRequest<?>> {
+
+    private final StreamingJSONRPCRequestDeserializer<?> streamingDeserializer = new StreamingJSONRPCRequestDeserializer<>();
+    private final NonStreamingJSONRPCRequestDeserializer nonStreamingDeserializer = new NonStreamingJSONRPCRequestDeserializer();
+
+    public JSONRPCRequestDeserializer() {
+        this(null);
+    }
+
+    public JSONRPCRequestDeserializer(Class<?> vc) {
+        super(vc);
+    }
+
+    @Override
+    public JSONRPCRequest<?> deserialize(JsonParser jsonParser, DeserializationContext context)
+            throws IOException, JsonProcessingException {
+        return parseRequest(jsonParser, context);
+    }
+
+    @Override
+    protected Class<?> getParamsType(String method) {
+        Class<?> paramsType = streamingDeserializer.getParamsType(method);
+        return paramsType != null ? paramsType : nonStreamingDeserializer.getParamsType(method);
+    }
+
+    @Override
+    protected JSONRPCRequest<?> createRequest(String jsonrpc, Object id, String method, Object params) {
+        if (streamingDeserializer.getParamsType(method) != null) {
+            return streamingDeserializer.createRequest(jsonrpc, id, method, params);
+        }
+        return nonStreamingDeserializer.createRequest(jsonrpc, id, method, params);
+    }
+
+    @Override
+    JSONRPCRequest<?> createLazyRequest(String jsonrpc, Object id, String method, LazyParams<?> params) {
+        if (streamingDeserializer.getParamsType(method) != null) {
+            return streamingDeserializer.createLazyRequest(jsonrpc, id, method, params);
+        }
+        return nonStreamingDeserializer.createLazyRequest(jsonrpc, id, method, params);
+    }
+}
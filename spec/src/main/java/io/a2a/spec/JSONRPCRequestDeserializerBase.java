@@ -1,15 +1,41 @@
 package io.a2a.spec;
 
-import static io.a2a.util.Utils.OBJECT_MAPPER;
+import java.io.IOException;
 
+import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.a2a.util.JsonCodec;
 
+/**
+ * Base class for the JSON-RPC request deserializers.
+ * <p>
+ * Requests are read in a single pass over the token stream, without building an intermediate tree.
+ * {@code params} is bound straight to the type expected by the method when {@code jsonrpc}, {@code id} and
+ * {@code method} precede it, which is the order clients serialize requests in. Otherwise, it is buffered
+ * as tokens and bound once the rest of the request has been read.
+ * <p>
+ * When the {@link #LAZY_PARAMS} attribute is set, {@code params} is always buffered and only bound when
+ * {@link JSONRPCRequest#getParams()} is first called, which then throws an {@link InvalidParamsError} if the
+ * params are of the wrong shape. Requests that are rejected before their params are used, for instance
+ * because the agent does not support the method, then cost little more than tokenizing their body.
+ *
+ * @param <T> the type of the requests created by the deserializer
+ */
 public abstract class JSONRPCRequestDeserializerBase<T> extends StdDeserializer<JSONRPCRequest<?>> {
 
+    /**
+     * The deserialization attribute enabling lazy binding of {@code params}, set with
+     * {@code ObjectReader.withAttribute(LAZY_PARAMS, true)}.
+     */
+    public static final String LAZY_PARAMS = JSONRPCRequestDeserializerBase.class.getName() + ".lazyParams";
+
     public JSONRPCRequestDeserializerBase() {
         this(null);
     }
@@ -18,17 +44,161 @@ public abstract class JSONRPCRequestDeserializerBase<T> extends StdDeserializer<
         super(vc);
     }
 
-    protected <T> T getAndValidateParams(JsonNode paramsNode, JsonParser jsonParser, JsonNode node, Class<T> paramsType) throws JsonMappingException {
+    /**
+     * Returns the type {@code params} is bound to for the given method.
+     * <p>
+     * Subclasses parsing requests with {@link #parseRequest(JsonParser, DeserializationContext)} override this
+     * method and {@link #createRequest(String, Object, String, Object)}. By default, no method is handled, which
+     * leaves subclasses implementing {@code deserialize} on their own unaffected.
+     *
+     * @param method the method name
+     * @return the params type, or {@code null} if requests for this method are not handled by this deserializer
+     */
+    protected Class<?> getParamsType(String method) {
+        return null;
+    }
+
+    /**
+     * Creates the request for the given method.
+     *
+     * @param jsonrpc the JSON-RPC protocol version
+     * @param id the request id
+     * @param method the method name, for which {@link #getParamsType(String)} returned a type
+     * @param params the params bound to the type returned by {@link #getParamsType(String)}
+     * @return the request
+     * @throws UnsupportedOperationException if {@link #getParamsType(String)} is overridden but this method is not
+     */
+    protected T createRequest(String jsonrpc, Object id, String method, Object params) {
+        throw new UnsupportedOperationException(getClass().getName() + " must override createRequest to handle "
+                + method);
+    }
+
+    /**
+     * Creates the request for the given method, with params bound on first access.
+     * <p>
+     * Binds the params straight away by default, for deserializers which do not support lazy params.
+     */
+    T createLazyRequest(String jsonrpc, Object id, String method, LazyParams<?> params) {
+        return createRequest(jsonrpc, id, method, params.bind());
+    }
+
+    protected T parseRequest(JsonParser jsonParser, DeserializationContext context) throws IOException {
+        String jsonrpc = null;
+        Object id = null;
+        boolean idRead = false;
+        JsonMappingException idError = null;
+        String method = null;
+        boolean methodRead = false;
+        Class<?> paramsType = null;
+        Object params = null;
+        TokenBuffer bufferedParams = null;
+        boolean lazy = Boolean.TRUE.equals(context.getAttribute(LAZY_PARAMS));
+
+        JsonToken token = jsonParser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = jsonParser.nextToken();
+        } else if (token != JsonToken.FIELD_NAME) {
+            // Not an object, so it has none of the request members
+            jsonParser.skipChildren();
+        }
+
+        for (; token == JsonToken.FIELD_NAME; token = jsonParser.nextToken()) {
+            String fieldName = jsonParser.currentName();
+            JsonToken valueToken = jsonParser.nextToken();
+            switch (fieldName) {
+                case "jsonrpc":
+                    jsonrpc = jsonParser.getValueAsString();
+                    jsonParser.skipChildren();
+                    break;
+                case "method":
+                    methodRead = true;
+                    method = jsonParser.getValueAsString();
+                    jsonParser.skipChildren();
+                    paramsType = isValidMethodName(method) ? getParamsType(method) : null;
+                    break;
+                case "id":
+                    idRead = true;
+                    id = null;
+                    idError = null;
+                    if (valueToken == JsonToken.VALUE_STRING) {
+                        id = jsonParser.getText();
+                    } else if (valueToken == JsonToken.VALUE_NUMBER_INT || valueToken == JsonToken.VALUE_NUMBER_FLOAT) {
+                        try {
+                            id = jsonParser.getIntValue();
+                        } catch (JsonProcessingException e) {
+                            idError = new JsonMappingException(jsonParser, "Invalid id", e);
+                        }
+                    } else {
+                        idError = new JsonMappingException(jsonParser, "Invalid id");
+                        jsonParser.skipChildren();
+                    }
+                    break;
+                case "params":
+                    if (! lazy && paramsType != null && idRead && idError == null
+                            && JSONRPCMessage.JSONRPC_VERSION.equals(jsonrpc)) {
+                        // Everything needed to report an error is known, bind without buffering
+                        params = readParams(jsonParser, paramsType, id);
+                        bufferedParams = null;
+                    } else {
+                        bufferedParams = new TokenBuffer(jsonParser, context);
+                        bufferedParams.copyCurrentStructure(jsonParser);
+                    }
+                    break;
+                default:
+                    jsonParser.skipChildren();
+                    break;
+            }
+        }
+
+        if (! JSONRPCMessage.JSONRPC_VERSION.equals(jsonrpc)) {
+            throw new IdJsonMappingException("Invalid JSON-RPC protocol version", id);
+        }
+        if (! methodRead) {
+            throw new IdJsonMappingException("Missing method", id);
+        }
+        if (! isValidMethodName(method)) {
+            throw new MethodNotFoundJsonMappingException("Invalid method", id);
+        }
+        if (idError != null) {
+            throw idError;
+        }
+        if (paramsType == null) {
+            throw new MethodNotFoundJsonMappingException("Invalid method", id);
+        }
+        if (bufferedParams != null && lazy && paramsType != Void.class
+                && bufferedParams.firstToken() != JsonToken.VALUE_NULL) {
+            return createLazyRequest(jsonrpc, id, method, new LazyParams<>(bufferedParams, paramsType));
+        }
+        if (bufferedParams != null) {
+            try (JsonParser paramsParser = bufferedParams.asParser(JsonCodec.DEFAULT.getMapper())) {
+                paramsParser.nextToken();
+                params = readParams(paramsParser, paramsType, id);
+            }
+        }
+        return createRequest(jsonrpc, id, method, params);
+    }
+
+    /**
+     * @deprecated requests are now parsed in a single pass by {@link #parseRequest(JsonParser, DeserializationContext)},
+     * which validates the params along with the rest of the request
+     */
+    @Deprecated
+    protected <P> P getAndValidateParams(JsonNode paramsNode, JsonParser jsonParser, JsonNode node, Class<P> paramsType) throws JsonMappingException {
         if (paramsNode == null) {
             return null;
         }
         try {
-            return OBJECT_MAPPER.treeToValue(paramsNode, paramsType);
+            return JsonCodec.DEFAULT.getMapper().treeToValue(paramsNode, paramsType);
         } catch (JsonProcessingException e) {
             throw new InvalidParamsJsonMappingException("Invalid params", e, getIdIfPossible(node, jsonParser));
         }
     }
 
+    /**
+     * @deprecated requests are now parsed in a single pass by {@link #parseRequest(JsonParser, DeserializationContext)},
+     * which validates the protocol version along with the rest of the request
+     */
+    @Deprecated
     protected String getAndValidateJsonrpc(JsonNode treeNode, JsonParser jsonParser) throws JsonMappingException {
         JsonNode jsonrpcNode = treeNode.get("jsonrpc");
         if (jsonrpcNode == null || ! jsonrpcNode.asText().equals(JSONRPCMessage.JSONRPC_VERSION)) {
@@ -37,6 +207,11 @@ public abstract class JSONRPCRequestDeserializerBase<T> extends StdDeserializer<
         return jsonrpcNode.asText();
     }
 
+    /**
+     * @deprecated requests are now parsed in a single pass by {@link #parseRequest(JsonParser, DeserializationContext)},
+     * which validates the method along with the rest of the request
+     */
+    @Deprecated
     protected String getAndValidateMethod(JsonNode treeNode, JsonParser jsonParser) throws JsonMappingException {
         JsonNode methodNode = treeNode.get("method");
         if (methodNode == null) {
@@ -49,14 +224,19 @@ public abstract class JSONRPCRequestDeserializerBase<T> extends StdDeserializer<
         return method;
     }
 
+    /**
+     * @deprecated requests are now parsed in a single pass by {@link #parseRequest(JsonParser, DeserializationContext)},
+     * which validates the id along with the rest of the request
+     */
+    @Deprecated
     protected Object getAndValidateId(JsonNode treeNode, JsonParser jsonParser) throws JsonProcessingException {
         JsonNode idNode = treeNode.get("id");
         Object id = null;
         if (idNode != null) {
             if (idNode.isTextual()) {
-                id = OBJECT_MAPPER.treeToValue(idNode, String.class);
+                id = JsonCodec.DEFAULT.getMapper().treeToValue(idNode, String.class);
             } else if (idNode.isNumber()) {
-                id = OBJECT_MAPPER.treeToValue(idNode, Integer.class);
+                id = JsonCodec.DEFAULT.getMapper().treeToValue(idNode, Integer.class);
             } else {
                 throw new JsonMappingException(jsonParser, "Invalid id");
             }
@@ -64,6 +244,10 @@ public abstract class JSONRPCRequestDeserializerBase<T> extends StdDeserializer<
         return id;
     }
 
+    /**
+     * @deprecated requests are now parsed in a single pass by {@link #parseRequest(JsonParser, DeserializationContext)}
+     */
+    @Deprecated
     protected Object getIdIfPossible(JsonNode treeNode, JsonParser jsonParser) {
         try {
             return getAndValidateId(treeNode, jsonParser);
@@ -73,6 +257,18 @@ public abstract class JSONRPCRequestDeserializerBase<T> extends StdDeserializer<
         }
     }
 
+    private static Object readParams(JsonParser jsonParser, Class<?> paramsType, Object id) throws IOException {
+        try {
+            return JsonCodec.DEFAULT.reader(paramsType).readValue(jsonParser);
+        } catch (JsonProcessingException e) {
+            if (e instanceof JsonParseException || e.getCause() instanceof JsonParseException) {
+                // Malformed JSON rather than params of the wrong shape
+                throw e;
+            }
+            throw new InvalidParamsJsonMappingException("Invalid params", e, id);
+        }
+    }
+
     protected static boolean isValidMethodName(String methodName) {
         return methodName != null && (methodName.equals(CancelTaskRequest.METHOD)
                 || methodName.equals(GetTaskRequest.METHOD)
@@ -0,0 +1,37 @@
+package io.a2a.spec;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.a2a.util.JsonCodec;
+
+/**
+ * The {@code params} of a request, buffered as tokens and bound to their type on first access.
+ *
+ * @param <T> the type the params are bound to
+ */
+final class LazyParams<T> {
+
+    private final TokenBuffer tokens;
+    private final Class<T> type;
+
+    LazyParams(TokenBuffer tokens, Class<T> type) {
+        this.tokens = tokens;
+        this.type = type;
+    }
+
+    /**
+     * @return the bound params
+     * @throws InvalidParamsError if the params can not be bound to their type
+     */
+    T bind() {
+        try (JsonParser parser = tokens.asParser(JsonCodec.DEFAULT.getMapper())) {
+            parser.nextToken();
+            return JsonCodec.DEFAULT.reader(type).readValue(parser);
+        } catch (IOException e) {
+            // The tokens were read from well-formed JSON, so the params are of the wrong shape
+            throw new InvalidParamsError();
+        }
+    }
+}
@@ -41,6 +41,10 @@ public final class ListTaskPushNotificationConfigRequest extends NonStreamingJSO
         this(null, id, METHOD, params);
     }
 
+    ListTaskPushNotificationConfigRequest(String jsonrpc, Object id, LazyParams<ListTaskPushNotificationConfigParams> params) {
+        initLazy(jsonrpc, id, METHOD, params);
+    }
+
     public static class Builder {
         private String jsonrpc;
         private Object id;
@@ -5,7 +5,6 @@ import java.io.IOException;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
 
 public class NonStreamingJSONRPCRequestDeserializer extends JSONRPCRequestDeserializerBase<NonStreamingJSONRPCRequest<?>> {
 
@@ -20,39 +19,80 @@ public class NonStreamingJSONRPCRequestDeserializer extends JSONRPCRequestDeseri
     @Override
     public NonStreamingJSONRPCRequest<?> deserialize(JsonParser jsonParser, DeserializationContext context)
             throws IOException, JsonProcessingException {
-        JsonNode treeNode = jsonParser.getCodec().readTree(jsonParser);
-        String jsonrpc = getAndValidateJsonrpc(treeNode, jsonParser);
-        String method = getAndValidateMethod(treeNode, jsonParser);
-        Object id = getAndValidateId(treeNode, jsonParser);
-        JsonNode paramsNode = treeNode.get("params");
+        return parseRequest(jsonParser, context);
+    }
 
+    @Override
+    protected Class<?> getParamsType(String method) {
         switch (method) {
             case GetTaskRequest.METHOD:
-                return new GetTaskRequest(jsonrpc, id, method,
-                        getAndValidateParams(paramsNode, jsonParser, treeNode, TaskQueryParams.class));
+                return TaskQueryParams.class;
             case CancelTaskRequest.METHOD:
-                return new CancelTaskRequest(jsonrpc, id, method,
-                        getAndValidateParams(paramsNode, jsonParser, treeNode, TaskIdParams.class));
+                return TaskIdParams.class;
             case SetTaskPushNotificationConfigRequest.METHOD:
-                return new SetTaskPushNotificationConfigRequest(jsonrpc, id, method,
-                        getAndValidateParams(paramsNode, jsonParser, treeNode, TaskPushNotificationConfig.class));
+                return TaskPushNotificationConfig.class;
+            case GetTaskPushNotificationConfigRequest.METHOD:
+                return GetTaskPushNotificationConfigParams.class;
+            case SendMessageRequest.METHOD:
+                return MessageSendParams.class;
+            case ListTaskPushNotificationConfigRequest.METHOD:
+                return ListTaskPushNotificationConfigParams.class;
+            case DeleteTaskPushNotificationConfigRequest.METHOD:
+                return DeleteTaskPushNotificationConfigParams.class;
+            case GetAuthenticatedExtendedCardRequest.METHOD:
+                return Void.class;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    protected NonStreamingJSONRPCRequest<?> createRequest(String jsonrpc, Object id, String method, Object params) {
+        switch (method) {
+            case GetTaskRequest.METHOD:
+                return new GetTaskRequest(jsonrpc, id, method, (TaskQueryParams) params);
+            case CancelTaskRequest.METHOD:
+                return new CancelTaskRequest(jsonrpc, id, method, (TaskIdParams) params);
+            case SetTaskPushNotificationConfigRequest.METHOD:
+                return new SetTaskPushNotificationConfigRequest(jsonrpc, id, method, (TaskPushNotificationConfig) params);
             case GetTaskPushNotificationConfigRequest.METHOD:
                 return new GetTaskPushNotificationConfigRequest(jsonrpc, id, method,
-                        getAndValidateParams(paramsNode, jsonParser, treeNode, GetTaskPushNotificationConfigParams.class));
+                        (GetTaskPushNotificationConfigParams) params);
             case SendMessageRequest.METHOD:
-                return new SendMessageRequest(jsonrpc, id, method,
-                        getAndValidateParams(paramsNode, jsonParser, treeNode, MessageSendParams.class));
+                return new SendMessageRequest(jsonrpc, id, method, (MessageSendParams) params);
             case ListTaskPushNotificationConfigRequest.METHOD:
                 return new ListTaskPushNotificationConfigRequest(jsonrpc, id, method,
-                        getAndValidateParams(paramsNode, jsonParser, treeNode, ListTaskPushNotificationConfigParams.class));
+                        (ListTaskPushNotificationConfigParams) params);
             case DeleteTaskPushNotificationConfigRequest.METHOD:
                 return new DeleteTaskPushNotificationConfigRequest(jsonrpc, id, method,
-                        getAndValidateParams(paramsNode, jsonParser, treeNode, DeleteTaskPushNotificationConfigParams.class));
+                        (DeleteTaskPushNotificationConfigParams) params);
             case GetAuthenticatedExtendedCardRequest.METHOD:
-                return new GetAuthenticatedExtendedCardRequest(jsonrpc, id, method,
-                        getAndValidateParams(paramsNode, jsonParser, treeNode, Void.class));
+                return new GetAuthenticatedExtendedCardRequest(jsonrpc, id, method, (Void) params);
+            default:
+                throw new IllegalArgumentException("Unsupported method " + method);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    NonStreamingJSONRPCRequest<?> createLazyRequest(String jsonrpc, Object id, String method, LazyParams<?> params) {
+        switch (method) {
+            case GetTaskRequest.METHOD:
+                return new GetTaskRequest(jsonrpc, id, (LazyParams<TaskQueryParams>) params);
+            case CancelTaskRequest.METHOD:
+                return new CancelTaskRequest(jsonrpc, id, (LazyParams<TaskIdParams>) params);
+            case SetTaskPushNotificationConfigRequest.METHOD:
+                return new SetTaskPushNotificationConfigRequest(jsonrpc, id, (LazyParams<TaskPushNotificationConfig>) params);
+            case GetTaskPushNotificationConfigRequest.METHOD:
+                return new GetTaskPushNotificationConfigRequest(jsonrpc, id, (LazyParams<GetTaskPushNotificationConfigParams>) params);
+            case SendMessageRequest.METHOD:
+                return new SendMessageRequest(jsonrpc, id, (LazyParams<MessageSendParams>) params);
+            case ListTaskPushNotificationConfigRequest.METHOD:
+                return new ListTaskPushNotificationConfigRequest(jsonrpc, id, (LazyParams<ListTaskPushNotificationConfigParams>) params);
+            case DeleteTaskPushNotificationConfigRequest.METHOD:
+                return new DeleteTaskPushNotificationConfigRequest(jsonrpc, id, (LazyParams<DeleteTaskPushNotificationConfigParams>) params);
             default:
-                throw new MethodNotFoundJsonMappingException("Invalid method", getIdIfPossible(treeNode, jsonParser));
+                return super.createLazyRequest(jsonrpc, id, method, params);
         }
     }
 }
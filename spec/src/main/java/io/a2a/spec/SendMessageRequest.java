@@ -45,6 +45,10 @@ public final class SendMessageRequest extends NonStreamingJSONRPCRequest<Message
         this(JSONRPC_VERSION, id, METHOD, params);
     }
 
+    SendMessageRequest(String jsonrpc, Object id, LazyParams<MessageSendParams> params) {
+        initLazy(jsonrpc, id, METHOD, params);
+    }
+
     public static class Builder {
         private String jsonrpc;
         private Object id;
@@ -41,6 +41,10 @@ public final class SendStreamingMessageRequest extends StreamingJSONRPCRequest<M
         this(null, id, METHOD, params);
     }
 
+    SendStreamingMessageRequest(String jsonrpc, Object id, LazyParams<MessageSendParams> params) {
+        initLazy(jsonrpc, id, METHOD, params);
+    }
+
     public static class Builder {
             private String jsonrpc;
             private Object id;
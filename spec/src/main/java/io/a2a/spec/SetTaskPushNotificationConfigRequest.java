@@ -42,6 +42,10 @@ public final class SetTaskPushNotificationConfigRequest extends NonStreamingJSON
         this(null, id, METHOD, taskPushConfig);
     }
 
+    SetTaskPushNotificationConfigRequest(String jsonrpc, Object id, LazyParams<TaskPushNotificationConfig> params) {
+        initLazy(jsonrpc, id, METHOD, params);
+    }
+
     public static class Builder {
         private String jsonrpc;
         private Object id;
@@ -5,7 +5,6 @@ import java.io.IOException;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
 
 public class StreamingJSONRPCRequestDeserializer<T> extends JSONRPCRequestDeserializerBase<StreamingJSONRPCRequest<?>> {
 
@@ -20,21 +19,43 @@ public class StreamingJSONRPCRequestDeserializer<T> extends JSONRPCRequestDeseri
     @Override
     public StreamingJSONRPCRequest<?> deserialize(JsonParser jsonParser, DeserializationContext context)
             throws IOException, JsonProcessingException {
-        JsonNode treeNode = jsonParser.getCodec().readTree(jsonParser);
-        String jsonrpc = getAndValidateJsonrpc(treeNode, jsonParser);
-        String method = getAndValidateMethod(treeNode, jsonParser);
-        Object id = getAndValidateId(treeNode, jsonParser);
-        JsonNode paramsNode = treeNode.get("params");
+        return parseRequest(jsonParser, context);
+    }
+
+    @Override
+    protected Class<?> getParamsType(String method) {
+        switch (method) {
+            case TaskResubscriptionRequest.METHOD:
+                return TaskIdParams.class;
+            case SendStreamingMessageRequest.METHOD:
+                return MessageSendParams.class;
+            default:
+                return null;
+        }
+    }
 
+    @Override
+    protected StreamingJSONRPCRequest<?> createRequest(String jsonrpc, Object id, String method, Object params) {
+        switch (method) {
+            case TaskResubscriptionRequest.METHOD:
+                return new TaskResubscriptionRequest(jsonrpc, id, method, (TaskIdParams) params);
+            case SendStreamingMessageRequest.METHOD:
+                return new SendStreamingMessageRequest(jsonrpc, id, method, (MessageSendParams) params);
+            default:
+                throw new IllegalArgumentException("Unsupported method " + method);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    StreamingJSONRPCRequest<?> createLazyRequest(String jsonrpc, Object id, String method, LazyParams<?> params) {
         switch (method) {
             case TaskResubscriptionRequest.METHOD:
-                return new TaskResubscriptionRequest(jsonrpc, id, method,
-                        getAndValidateParams(paramsNode, jsonParser, treeNode, TaskIdParams.class));
+                return new TaskResubscriptionRequest(jsonrpc, id, (LazyParams<TaskIdParams>) params);
             case SendStreamingMessageRequest.METHOD:
-                return new SendStreamingMessageRequest(jsonrpc, id, method,
-                        getAndValidateParams(paramsNode, jsonParser, treeNode, MessageSendParams.class));
+                return new SendStreamingMessageRequest(jsonrpc, id, (LazyParams<MessageSendParams>) params);
             default:
-                throw new MethodNotFoundJsonMappingException("Invalid method", getIdIfPossible(treeNode, jsonParser));
+                return super.createLazyRequest(jsonrpc, id, method, params);
         }
     }
 }
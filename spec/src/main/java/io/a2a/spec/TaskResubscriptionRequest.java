@@ -40,6 +40,10 @@ public final class TaskResubscriptionRequest extends StreamingJSONRPCRequest<Tas
         this(null, id, METHOD, params);
     }
 
+    TaskResubscriptionRequest(String jsonrpc, Object id, LazyParams<TaskIdParams> params) {
+        initLazy(jsonrpc, id, METHOD, params);
+    }
+
     public static class Builder {
         private String jsonrpc;
         private Object id;
@@ -0,0 +1,143 @@
+package io.a2a.util;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.a2a.spec.AgentCard;
+import io.a2a.spec.CancelTaskResponse;
+import io.a2a.spec.DeleteTaskPushNotificationConfigResponse;
+import io.a2a.spec.GetAuthenticatedExtendedCardResponse;
+import io.a2a.spec.GetTaskPushNotificationConfigResponse;
+import io.a2a.spec.GetTaskResponse;
+import io.a2a.spec.JSONRPCError;
+import io.a2a.spec.JSONRPCErrorResponse;
+import io.a2a.spec.JSONRPCRequest;
+import io.a2a.spec.ListTaskPushNotificationConfigResponse;
+import io.a2a.spec.Message;
+import io.a2a.spec.NonStreamingJSONRPCRequest;
+import io.a2a.spec.SendMessageResponse;
+import io.a2a.spec.SendStreamingMessageResponse;
+import io.a2a.spec.SetTaskPushNotificationConfigResponse;
+import io.a2a.spec.StreamingEventKind;
+import io.a2a.spec.StreamingJSONRPCRequest;
+import io.a2a.spec.Task;
+
+/**
+ * Reads and writes JSON with {@link ObjectReader}s and {@link ObjectWriter}s built once per type, rather than
+ * going through the {@link ObjectMapper} for every call, which looks up the (de)serializer of the root type each
+ * time. The readers and writers for the A2A types exchanged on every request are built upfront.
+ * <p>
+ * Readers and writers snapshot the configuration of the mapper when they are built, so the mapper must not be
+ * reconfigured once it is used by a codec.
+ */
+public final class JsonCodec {
+
+    private static final List<Class<?>> A2A_TYPES = List.of(
+            Task.class,
+            Message.class,
+            AgentCard.class,
+            StreamingEventKind.class,
+            JSONRPCError.class,
+            JSONRPCRequest.class,
+            NonStreamingJSONRPCRequest.class,
+            StreamingJSONRPCRequest.class,
+            JSONRPCErrorResponse.class,
+            SendMessageResponse.class,
+            SendStreamingMessageResponse.class,
+            GetTaskResponse.class,
+            CancelTaskResponse.class,
+            SetTaskPushNotificationConfigResponse.class,
+            GetTaskPushNotificationConfigResponse.class,
+            ListTaskPushNotificationConfigResponse.class,
+            DeleteTaskPushNotificationConfigResponse.class,
+            GetAuthenticatedExtendedCardResponse.class);
+
+    /**
+     * The codec for {@link Utils#OBJECT_MAPPER}.
+     */
+    public static final JsonCodec DEFAULT = new JsonCodec(Utils.OBJECT_MAPPER);
+
+    private final ObjectMapper mapper;
+    private final ConcurrentMap<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Type, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public JsonCodec(ObjectMapper mapper) {
+        Assert.checkNotNullParam("mapper", mapper);
+        this.mapper = mapper;
+        for (Class<?> type : A2A_TYPES) {
+            reader(type);
+            writer(type);
+        }
+    }
+
+    public ObjectMapper getMapper() {
+        return mapper;
+    }
+
+    /**
+     * @param type the type to read
+     * @return the reader for the type
+     */
+    public ObjectReader reader(Class<?> type) {
+        return readers.computeIfAbsent(type, t -> mapper.readerFor(type));
+    }
+
+    /**
+     * @param type the type to read
+     * @return the reader for the type
+     */
+    public ObjectReader reader(TypeReference<?> type) {
+        return readers.computeIfAbsent(type.getType(), t -> mapper.readerFor(type));
+    }
+
+    /**
+     * @param type the type to write
+     * @return the writer for the type
+     */
+    public ObjectWriter writer(Class<?> type) {
+        return writers.computeIfAbsent(type, t -> mapper.writerFor(type));
+    }
+
+    /**
+     * @param type the type to write
+     * @return the writer for the type
+     */
+    public ObjectWriter writer(TypeReference<?> type) {
+        return writers.computeIfAbsent(type.getType(), t -> mapper.writerFor(type));
+    }
+
+    public <T> T readValue(String json, Class<T> type) throws JsonProcessingException {
+        return reader(type).readValue(json);
+    }
+
+    public <T> T readValue(String json, TypeReference<T> type) throws JsonProcessingException {
+        return reader(type).readValue(json);
+    }
+
+    /**
+     * Writes the value with the writer for its runtime type.
+     */
+    public String writeValueAsString(Object value) throws JsonProcessingException {
+        if (value == null) {
+            return mapper.writeValueAsString(null);
+        }
+        return writer(value.getClass()).writeValueAsString(value);
+    }
+
+    /**
+     * Writes the value with the writer for its runtime type.
+     */
+    public byte[] writeValueAsBytes(Object value) throws JsonProcessingException {
+        if (value == null) {
+            return mapper.writeValueAsBytes(null);
+        }
+        return writer(value.getClass()).writeValueAsBytes(value);
+    }
+}
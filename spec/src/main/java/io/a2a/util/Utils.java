@@ -2,19 +2,45 @@ package io.a2a.util;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class Utils {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(Utils.class);
+
+    private static final String BLACKBIRD_MODULE = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+
     public static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     static {
         // needed for date/time types
         OBJECT_MAPPER.registerModule(new JavaTimeModule());
+        // Generates bytecode to access properties, rather than using reflection, if the optional
+        // jackson-module-blackbird dependency is present. Disabled with -Da2a.json.blackbird=false
+        if (Boolean.parseBoolean(System.getProperty("a2a.json.blackbird", "true"))) {
+            registerModuleIfPresent(BLACKBIRD_MODULE);
+        }
     }
 
     public static <T> T unmarshalFrom(String data, TypeReference<T> typeRef) throws JsonProcessingException {
-        return OBJECT_MAPPER.readValue(data, typeRef);
+        return JsonCodec.DEFAULT.readValue(data, typeRef);
+    }
+
+    private static void registerModuleIfPresent(String className) {
+        Class<?> moduleClass;
+        try {
+            moduleClass = Class.forName(className, true, Utils.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return;
+        }
+        try {
+            OBJECT_MAPPER.registerModule((Module) moduleClass.getDeclaredConstructor().newInstance());
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.warn("Unable to register Jackson module {}: {}", className, e.getMessage(), e);
+        }
     }
 
     public static <T> T defaultIfNull(T value, T defaultValue) {
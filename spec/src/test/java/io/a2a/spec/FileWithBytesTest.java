@@ -0,0 +1,57 @@
+package io.a2a.spec;
+
+import static io.a2a.util.Utils.OBJECT_MAPPER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.junit.jupiter.api.Test;
+
+public class FileWithBytesTest {
+
+    private static final byte[] HELLO = "hello".getBytes(StandardCharsets.UTF_8);
+    private static final String HELLO_JSON = """
+            {"mimeType":"text/plain","name":"hello.txt","bytes":"aGVsbG8="}""";
+
+    @Test
+    public void testOfHoldsContent() throws Exception {
+        FileWithBytes file = FileWithBytes.of("text/plain", "hello.txt", HELLO);
+        assertEquals(new FileWithBytes("text/plain", "hello.txt", "aGVsbG8="), file);
+        assertEquals(ByteBuffer.wrap(HELLO), file.content());
+        assertEquals(HELLO_JSON, OBJECT_MAPPER.writeValueAsString(file));
+    }
+
+    @Test
+    public void testOfDirectBuffer() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(HELLO.length + 2);
+        buffer.put((byte) 0).put(HELLO).put((byte) 0).position(1).limit(HELLO.length + 1);
+        FileWithBytes file = FileWithBytes.of(null, null, buffer);
+
+        // The buffer is held, not copied, and encoded only when needed
+        assertTrue(file.content().isDirect());
+        assertEquals("aGVsbG8=", file.bytes());
+        assertEquals("{\"bytes\":\"aGVsbG8=\"}", OBJECT_MAPPER.writeValueAsString(file));
+        assertEquals(1, buffer.position());
+    }
+
+    @Test
+    public void testContent() throws Exception {
+        Part<?> part = OBJECT_MAPPER.readValue("{\"kind\":\"file\",\"file\":" + HELLO_JSON + "}", Part.class);
+        FileWithBytes file = assertInstanceOf(FileWithBytes.class, ((FilePart) part).getFile());
+
+        assertEquals(ByteBuffer.wrap(HELLO), file.content());
+        assertEquals(HELLO_JSON, OBJECT_MAPPER.writeValueAsString(file));
+    }
+
+    @Test
+    public void testInvalidBase64() {
+        assertThrows(IllegalArgumentException.class, () -> new FileWithBytes(null, null, "not base64!"));
+        assertThrows(JsonMappingException.class, () -> OBJECT_MAPPER.readValue(
+                "{\"kind\":\"file\",\"file\":{\"bytes\":\"not base64!\"}}", Part.class));
+    }
+}
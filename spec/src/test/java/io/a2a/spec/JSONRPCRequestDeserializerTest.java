@@ -0,0 +1,188 @@
+package io.a2a.spec;
+
+import static io.a2a.util.Utils.OBJECT_MAPPER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.junit.jupiter.api.Test;
+
+public class JSONRPCRequestDeserializerTest {
+
+    private static final String SEND_MESSAGE_PARAMS = """
+            {"message": {"role": "user", "parts": [{"kind": "text", "text": "tell me a joke"}],
+             "messageId": "message-1234", "kind": "message"}}""";
+
+    @Test
+    public void testDeserializeNonStreamingRequest() throws Exception {
+        String json = """
+                {"jsonrpc": "2.0", "id": 1, "method": "message/send", "params": %s}
+                """.formatted(SEND_MESSAGE_PARAMS);
+
+        JSONRPCRequest<?> request = OBJECT_MAPPER.readValue(json, JSONRPCRequest.class);
+
+        SendMessageRequest sendMessageRequest = assertInstanceOf(SendMessageRequest.class, request);
+        assertEquals(1, sendMessageRequest.getId());
+        assertEquals("message-1234", sendMessageRequest.getParams().message().getMessageId());
+        assertInstanceOf(SendMessageRequest.class, OBJECT_MAPPER.readValue(json, NonStreamingJSONRPCRequest.class));
+    }
+
+    @Test
+    public void testDeserializeStreamingRequest() throws Exception {
+        String json = """
+                {"jsonrpc": "2.0", "id": "abc", "method": "tasks/resubscribe", "params": {"id": "task-123"}}
+                """;
+
+        JSONRPCRequest<?> request = OBJECT_MAPPER.readValue(json, JSONRPCRequest.class);
+
+        TaskResubscriptionRequest resubscriptionRequest = assertInstanceOf(TaskResubscriptionRequest.class, request);
+        assertEquals("abc", resubscriptionRequest.getId());
+        assertEquals("task-123", resubscriptionRequest.getParams().id());
+        assertInstanceOf(TaskResubscriptionRequest.class, OBJECT_MAPPER.readValue(json, StreamingJSONRPCRequest.class));
+    }
+
+    @Test
+    public void testDeserializeParamsBeforeMethod() throws Exception {
+        String json = """
+                {"params": %s, "method": "message/stream", "jsonrpc": "2.0", "unknown": {"nested": [1, 2]}, "id": 5}
+                """.formatted(SEND_MESSAGE_PARAMS);
+
+        JSONRPCRequest<?> request = OBJECT_MAPPER.readValue(json, JSONRPCRequest.class);
+
+        SendStreamingMessageRequest streamingRequest = assertInstanceOf(SendStreamingMessageRequest.class, request);
+        assertEquals(5, streamingRequest.getId());
+        assertEquals("message-1234", streamingRequest.getParams().message().getMessageId());
+    }
+
+    @Test
+    public void testDeserializeWithoutParams() throws Exception {
+        String json = """
+                {"jsonrpc": "2.0", "id": 1, "method": "agent/getAuthenticatedExtendedCard"}
+                """;
+
+        JSONRPCRequest<?> request = OBJECT_MAPPER.readValue(json, JSONRPCRequest.class);
+
+        assertInstanceOf(GetAuthenticatedExtendedCardRequest.class, request);
+        assertNull(request.getParams());
+    }
+
+    @Test
+    public void testInvalidRequests() {
+        InvalidParamsJsonMappingException invalidParams = assertThrows(InvalidParamsJsonMappingException.class,
+                () -> OBJECT_MAPPER.readValue("""
+                        {"jsonrpc": "2.0", "id": "1", "method": "message/send", "params": "not_a_dict"}
+                        """, JSONRPCRequest.class));
+        assertEquals("1", invalidParams.getId());
+
+        invalidParams = assertThrows(InvalidParamsJsonMappingException.class,
+                () -> OBJECT_MAPPER.readValue("""
+                        {"jsonrpc": "2.0", "method": "message/send", "params": {"message": {"parts": "invalid"}}, "id": "2"}
+                        """, JSONRPCRequest.class));
+        assertEquals("2", invalidParams.getId());
+
+        IdJsonMappingException invalidVersion = assertThrows(IdJsonMappingException.class,
+                () -> OBJECT_MAPPER.readValue("""
+                        {"jsonrpc": "1.0", "id": 3, "method": "message/send", "params": {}}
+                        """, JSONRPCRequest.class));
+        assertEquals(3, invalidVersion.getId());
+
+        assertThrows(IdJsonMappingException.class,
+                () -> OBJECT_MAPPER.readValue("""
+                        {"jsonrpc": "2.0", "params": {}}
+                        """, JSONRPCRequest.class));
+
+        MethodNotFoundJsonMappingException methodNotFound = assertThrows(MethodNotFoundJsonMappingException.class,
+                () -> OBJECT_MAPPER.readValue("""
+                        {"jsonrpc": "2.0", "id": 4, "method": "nonexistent/method", "params": {}}
+                        """, JSONRPCRequest.class));
+        assertEquals(4, methodNotFound.getId());
+
+        assertThrows(MethodNotFoundJsonMappingException.class,
+                () -> OBJECT_MAPPER.readValue("""
+                        {"jsonrpc": "2.0", "id": 4, "method": "message/stream", "params": {}}
+                        """, NonStreamingJSONRPCRequest.class));
+
+        JsonMappingException invalidId = assertThrows(JsonMappingException.class,
+                () -> OBJECT_MAPPER.readValue("""
+                        {"jsonrpc": "2.0", "method": "message/send", "params": {}, "id": {"bad": "type"}}
+                        """, JSONRPCRequest.class));
+        assertEquals(JsonMappingException.class, invalidId.getClass());
+
+        assertThrows(JsonParseException.class,
+                () -> OBJECT_MAPPER.readValue("""
+                        {"jsonrpc": "2.0", "id": 1, "method": "message/send", "params": {"message": }}
+                        """, JSONRPCRequest.class));
+    }
+
+    @Test
+    public void testLazyParams() throws Exception {
+        ObjectReader reader = OBJECT_MAPPER.readerFor(JSONRPCRequest.class)
+                .withAttribute(JSONRPCRequestDeserializerBase.LAZY_PARAMS, true);
+
+        JSONRPCRequest<?> request = reader.readValue("""
+                {"jsonrpc": "2.0", "id": 1, "method": "message/stream", "params": %s}
+                """.formatted(SEND_MESSAGE_PARAMS));
+        SendStreamingMessageRequest streamingRequest = assertInstanceOf(SendStreamingMessageRequest.class, request);
+        assertEquals(1, streamingRequest.getId());
+        assertEquals(SendStreamingMessageRequest.METHOD, streamingRequest.getMethod());
+        assertEquals("message-1234", streamingRequest.getParams().message().getMessageId());
+        assertSame(streamingRequest.getParams(), streamingRequest.getParams());
+
+        // Params of the wrong shape are only reported once they are accessed
+        request = reader.readValue("""
+                {"jsonrpc": "2.0", "id": "2", "method": "tasks/pushNotificationConfig/set", "params": "not_a_dict"}
+                """);
+        SetTaskPushNotificationConfigRequest setRequest =
+                assertInstanceOf(SetTaskPushNotificationConfigRequest.class, request);
+        assertEquals("2", setRequest.getId());
+        assertThrows(InvalidParamsError.class, setRequest::getParams);
+
+        // Malformed JSON and requests missing their params are still rejected upfront
+        assertThrows(JsonParseException.class, () -> reader.readValue("""
+                {"jsonrpc": "2.0", "id": 1, "method": "message/send", "params": {"message": }}
+                """));
+        assertThrows(IllegalArgumentException.class, () -> reader.readValue("""
+                {"jsonrpc": "2.0", "id": 1, "method": "message/send", "params": null}
+                """));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testSubclassWithItsOwnDeserialize() throws Exception {
+        // A subclass written against the tree-based helpers, which does not override the single pass methods
+        JSONRPCRequestDeserializerBase<GetTaskRequest> deserializer = new JSONRPCRequestDeserializerBase<>() {
+            @Override
+            public GetTaskRequest deserialize(JsonParser jsonParser, DeserializationContext context)
+                    throws IOException {
+                JsonNode node = jsonParser.getCodec().readTree(jsonParser);
+                String jsonrpc = getAndValidateJsonrpc(node, jsonParser);
+                String method = getAndValidateMethod(node, jsonParser);
+                Object id = getAndValidateId(node, jsonParser);
+                TaskQueryParams params = getAndValidateParams(node.get("params"), jsonParser, node,
+                        TaskQueryParams.class);
+                return new GetTaskRequest(jsonrpc, id, method, params);
+            }
+        };
+
+        JSONRPCRequest<?> request;
+        try (JsonParser parser = OBJECT_MAPPER.createParser("""
+                {"jsonrpc": "2.0", "id": 1, "method": "tasks/get", "params": {"id": "task-123"}}
+                """)) {
+            parser.nextToken();
+            request = deserializer.deserialize(parser, OBJECT_MAPPER.getDeserializationContext());
+        }
+
+        assertEquals(1, request.getId());
+        assertEquals("task-123", assertInstanceOf(GetTaskRequest.class, request).getParams().id());
+    }
+}
@@ -0,0 +1,106 @@
+package io.a2a.spec;
+
+import static io.a2a.util.Utils.OBJECT_MAPPER;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares reading a {@code message/send} request in a single pass with the previous approach of reading the
+ * body into a tree to find the method, then again into a tree which the params are bound from.
+ * {@code lazyParams} reads the request without binding its params, as for a request rejected before its
+ * params are used.
+ * <p>
+ * Run with {@code mvn -pl spec test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=io.a2a.spec.JSONRPCRequestParsingBenchmark}, or from the IDE. The GC profiler is enabled
+ * so that {@code gc.alloc.rate.norm} reports the bytes allocated per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JSONRPCRequestParsingBenchmark {
+
+    @Param({"10", "1000"})
+    public int parts;
+
+    @Param({"1024", "262144"})
+    public int fileSize;
+
+    private String body;
+    private ObjectReader lazyReader;
+
+    @Setup
+    public void setup() throws Exception {
+        Random random = new Random(42);
+        List<Part<?>> messageParts = new ArrayList<>(parts + 1);
+        for (int i = 0; i < parts; i++) {
+            messageParts.add(new TextPart("Part " + i + " of a large message sent to the agent"));
+        }
+        byte[] file = new byte[fileSize];
+        random.nextBytes(file);
+        messageParts.add(new FilePart(FileWithBytes.of("application/octet-stream", "file.bin", file)));
+
+        Message message = new Message.Builder()
+                .role(Message.Role.USER)
+                .parts(messageParts)
+                .messageId("message-1234")
+                .contextId("context-1234")
+                .build();
+        body = OBJECT_MAPPER.writeValueAsString(new SendMessageRequest("1", new MessageSendParams(message, null, null)));
+        lazyReader = OBJECT_MAPPER.readerFor(JSONRPCRequest.class)
+                .withAttribute(JSONRPCRequestDeserializerBase.LAZY_PARAMS, true);
+    }
+
+    @Benchmark
+    public JSONRPCRequest<?> singlePass() throws Exception {
+        return OBJECT_MAPPER.readValue(body, JSONRPCRequest.class);
+    }
+
+    @Benchmark
+    public JSONRPCRequest<?> lazyParams() throws Exception {
+        return lazyReader.readValue(body);
+    }
+
+    @Benchmark
+    public JSONRPCRequest<?> treeThenBind() throws Exception {
+        JsonNode node = OBJECT_MAPPER.readTree(body);
+        String method = node.get("method").asText();
+        if (SendStreamingMessageRequest.METHOD.equals(method) || TaskResubscriptionRequest.METHOD.equals(method)) {
+            throw new IllegalStateException("Unexpected method " + method);
+        }
+        JsonNode treeNode = OBJECT_MAPPER.readTree(body);
+        MessageSendParams params = OBJECT_MAPPER.treeToValue(treeNode.get("params"), MessageSendParams.class);
+        return new SendMessageRequest(treeNode.get("jsonrpc").asText(), treeNode.get("id").asText(),
+                treeNode.get("method").asText(), params);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .include(JSONRPCRequestParsingBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,56 @@
+package io.a2a.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.a2a.spec.JSONRPCRequest;
+import io.a2a.spec.SendMessageRequest;
+import io.a2a.spec.Task;
+import io.a2a.spec.TaskState;
+import io.a2a.spec.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+public class JsonCodecTest {
+
+    @Test
+    public void testReadersAndWritersAreCached() {
+        assertSame(JsonCodec.DEFAULT.reader(Task.class), JsonCodec.DEFAULT.reader(Task.class));
+        assertSame(JsonCodec.DEFAULT.writer(Task.class), JsonCodec.DEFAULT.writer(Task.class));
+        assertSame(JsonCodec.DEFAULT.reader(Task.class), JsonCodec.DEFAULT.reader(Task.TYPE_REFERENCE));
+        assertSame(JsonCodec.DEFAULT.reader(new TypeReference<List<Task>>() {}),
+                JsonCodec.DEFAULT.reader(new TypeReference<List<Task>>() {}));
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        Task task = new Task.Builder()
+                .id("task-123")
+                .contextId("session-xyz")
+                .status(new TaskStatus(TaskState.WORKING))
+                .build();
+
+        String json = JsonCodec.DEFAULT.writeValueAsString(task);
+
+        assertEquals(Utils.OBJECT_MAPPER.writeValueAsString(task), json);
+        Task read = JsonCodec.DEFAULT.readValue(json, Task.class);
+        assertEquals("task-123", read.getId());
+        assertEquals(TaskState.WORKING, read.getStatus().state());
+
+        List<Task> tasks = JsonCodec.DEFAULT.readValue("[" + json + "]", new TypeReference<List<Task>>() {});
+        assertEquals("task-123", tasks.get(0).getId());
+    }
+
+    @Test
+    public void testReadsRequests() throws Exception {
+        JSONRPCRequest<?> request = JsonCodec.DEFAULT.readValue("""
+                {"jsonrpc": "2.0", "id": 1, "method": "message/send", "params": {"message": {"role": "user",
+                 "parts": [{"kind": "text", "text": "tell me a joke"}], "messageId": "message-1234", "kind": "message"}}}
+                """, JSONRPCRequest.class);
+
+        assertInstanceOf(SendMessageRequest.class, request);
+    }
+}
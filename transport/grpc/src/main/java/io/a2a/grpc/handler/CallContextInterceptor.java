@@ -0,0 +1,30 @@
+package io.a2a.grpc.handler;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+
+/**
+ * Makes the {@link Metadata} of a call available to {@link GrpcHandler}, which adds it to the state of the
+ * {@link io.a2a.server.ServerCallContext} under {@link GrpcHandler#METADATA_STATE_KEY}.
+ * <p>
+ * The deadline and the cancellation of the call are taken from the gRPC {@link Context}, so they are propagated
+ * whether or not this interceptor is registered.
+ */
+@ApplicationScoped
+public class CallContextInterceptor implements ServerInterceptor {
+
+    static final Context.Key<Metadata> METADATA = Context.key("a2a-metadata");
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        Context context = Context.current().withValue(METADATA, headers);
+        return Contexts.interceptCall(context, call, headers, next);
+    }
+}
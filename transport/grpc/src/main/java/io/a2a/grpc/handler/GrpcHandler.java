@@ -8,8 +8,12 @@ import jakarta.enterprise.inject.Vetoed;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.protobuf.Empty;
 import io.a2a.grpc.A2AServiceGrpc;
@@ -19,6 +23,7 @@ import io.a2a.server.auth.UnauthenticatedUser;
 import io.a2a.server.auth.User;
 import io.a2a.server.requesthandlers.CallContextFactory;
 import io.a2a.server.requesthandlers.RequestHandler;
+import io.a2a.server.util.async.VirtualThreads;
 import io.a2a.spec.AgentCard;
 import io.a2a.spec.ContentTypeNotSupportedError;
 import io.a2a.spec.DeleteTaskPushNotificationConfigParams;
@@ -42,16 +47,34 @@ import io.a2a.spec.TaskNotFoundError;
 import io.a2a.spec.TaskPushNotificationConfig;
 import io.a2a.spec.TaskQueryParams;
 import io.a2a.spec.UnsupportedOperationError;
+import io.grpc.Context;
+import io.grpc.Deadline;
+import io.grpc.Metadata;
 import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 
 @Vetoed
 public abstract class GrpcHandler extends A2AServiceGrpc.A2AServiceImplBase {
 
+    /**
+     * The key of the call's {@link Metadata} in the state of the {@link ServerCallContext}, set when the
+     * {@link CallContextInterceptor} is registered.
+     */
+    public static final String METADATA_STATE_KEY = "grpc_metadata";
+
+    /**
+     * The key of the call's {@link Deadline} in the state of the {@link ServerCallContext}, set when the client
+     * set a deadline.
+     */
+    public static final String DEADLINE_STATE_KEY = "grpc_deadline";
+
     // Hook so testing can wait until streaming subscriptions are established.
     // Without this we get intermittent failures
     private static volatile Runnable streamingSubscribedRunnable;
 
+    // Shared by all streams, so that an event sent to several subscribers of a task is converted once
+    private final StreamResponseCache streamResponseCache = new StreamResponseCache(256);
 
     public GrpcHandler() {
     }
@@ -193,7 +216,7 @@ public abstract class GrpcHandler extends A2AServiceGrpc.A2AServiceImplBase {
             ServerCallContext context = createCallContext(responseObserver);
             MessageSendParams params = FromProto.messageSendParams(request);
             Flow.Publisher<StreamingEventKind> publisher = getRequestHandler().onMessageSendStream(params, context);
-            convertToStreamResponse(publisher, responseObserver);
+            convertToStreamResponse(publisher, responseObserver, context);
         } catch (JSONRPCError e) {
             handleError(responseObserver, e);
         } catch (Throwable t) {
@@ -213,7 +236,7 @@ public abstract class GrpcHandler extends A2AServiceGrpc.A2AServiceImplBase {
             ServerCallContext context = createCallContext(responseObserver);
             TaskIdParams params = FromProto.taskIdParams(request);
             Flow.Publisher<StreamingEventKind> publisher = getRequestHandler().onResubscribeToTask(params, context);
-            convertToStreamResponse(publisher, responseObserver);
+            convertToStreamResponse(publisher, responseObserver, context);
         } catch (JSONRPCError e) {
             handleError(responseObserver, e);
         } catch (Throwable t) {
@@ -222,50 +245,97 @@ public abstract class GrpcHandler extends A2AServiceGrpc.A2AServiceImplBase {
     }
 
     private void convertToStreamResponse(Flow.Publisher<StreamingEventKind> publisher,
-                                         StreamObserver<io.a2a.grpc.StreamResponse> responseObserver) {
-        CompletableFuture.runAsync(() -> {
-            publisher.subscribe(new Flow.Subscriber<StreamingEventKind>() {
-                private Flow.Subscription subscription;
-
-                @Override
-                public void onSubscribe(Flow.Subscription subscription) {
-                    this.subscription = subscription;
-                    subscription.request(1);
-
-                    // Notify tests that we are subscribed
-                    Runnable runnable = streamingSubscribedRunnable;
-                    if (runnable != null) {
-                        runnable.run();
-                    }
-                }
-
-                @Override
-                public void onNext(StreamingEventKind event) {
-                    StreamResponse response = ToProto.streamResponse(event);
-                    responseObserver.onNext(response);
-                    if (response.hasStatusUpdate() && response.getStatusUpdate().getFinal()) {
-                        responseObserver.onCompleted();
-                    } else {
-                        subscription.request(1);
-                    }
-                }
-
-                @Override
-                public void onError(Throwable throwable) {
-                    if (throwable instanceof JSONRPCError jsonrpcError) {
-                        handleError(responseObserver, jsonrpcError);
-                    } else {
-                        handleInternalError(responseObserver, throwable);
-                    }
-                    responseObserver.onCompleted();
-                }
-
-                @Override
-                public void onComplete() {
-                    responseObserver.onCompleted();
-                }
-            });
-        });
+                                         StreamObserver<io.a2a.grpc.StreamResponse> responseObserver,
+                                         ServerCallContext context) {
+        // Created before returning, since the readiness handler can only be set during the initial call
+        StreamResponseSubscriber subscriber = new StreamResponseSubscriber(responseObserver, context);
+        getStreamingExecutor().execute(() -> publisher.subscribe(subscriber));
+    }
+
+    /**
+     * Sends the events of a stream to the client, only requesting the next event once the transport is ready to
+     * send more. A slow client then leaves events in the event queue, which blocks the agent once it is full,
+     * rather than having them buffered by the transport.
+     * <p>
+     * Observers which are not a {@link ServerCallStreamObserver} have no notion of readiness, so the next event
+     * is requested as soon as the previous one has been sent.
+     */
+    private class StreamResponseSubscriber implements Flow.Subscriber<StreamingEventKind> {
+        private final StreamObserver<StreamResponse> responseObserver;
+        private final ServerCallContext context;
+        private final ServerCallStreamObserver<StreamResponse> serverCallObserver;
+        // Set while the next event is waiting for the transport to become ready
+        private final AtomicBoolean awaitingReady = new AtomicBoolean();
+        private volatile Flow.Subscription subscription;
+
+        StreamResponseSubscriber(StreamObserver<StreamResponse> responseObserver, ServerCallContext context) {
+            this.responseObserver = responseObserver;
+            this.context = context;
+            if (responseObserver instanceof ServerCallStreamObserver<StreamResponse> observer) {
+                this.serverCallObserver = observer;
+                observer.setOnReadyHandler(this::onReady);
+            } else {
+                this.serverCallObserver = null;
+            }
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            // Stop consuming the task's events once the client went away
+            context.addCancelCallback(subscription::cancel);
+            requestWhenReady();
+
+            // Notify tests that we are subscribed
+            Runnable runnable = streamingSubscribedRunnable;
+            if (runnable != null) {
+                runnable.run();
+            }
+        }
+
+        @Override
+        public void onNext(StreamingEventKind event) {
+            StreamResponse response = streamResponseCache.get(event, ToProto::streamResponse);
+            responseObserver.onNext(response);
+            if (response.hasStatusUpdate() && response.getStatusUpdate().getFinal()) {
+                responseObserver.onCompleted();
+            } else {
+                requestWhenReady();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (throwable instanceof JSONRPCError jsonrpcError) {
+                handleError(responseObserver, jsonrpcError);
+            } else {
+                handleInternalError(responseObserver, throwable);
+            }
+            responseObserver.onCompleted();
+        }
+
+        @Override
+        public void onComplete() {
+            responseObserver.onCompleted();
+        }
+
+        private void requestWhenReady() {
+            if (serverCallObserver == null) {
+                subscription.request(1);
+                return;
+            }
+            awaitingReady.set(true);
+            // The transport may have become ready before the flag was set, without the handler seeing it
+            if (serverCallObserver.isReady()) {
+                onReady();
+            }
+        }
+
+        private void onReady() {
+            if (awaitingReady.compareAndSet(true, false)) {
+                subscription.request(1);
+            }
+        }
     }
 
     @Override
@@ -303,28 +373,39 @@ public abstract class GrpcHandler extends A2AServiceGrpc.A2AServiceImplBase {
 
     private <V> ServerCallContext createCallContext(StreamObserver<V> responseObserver) {
         CallContextFactory factory = getCallContextFactory();
+        Metadata metadata = CallContextInterceptor.METADATA.get();
+        ServerCallContext callContext;
         if (factory == null) {
             // Default implementation when no custom CallContextFactory is provided
             // This handles both CDI injection scenarios and test scenarios where callContextFactory is null
             User user = UnauthenticatedUser.INSTANCE;
             Map<String, Object> state = new HashMap<>();
-            
-            // TODO: ARCHITECTURAL LIMITATION - StreamObserver is NOT equivalent to Python's grpc.aio.ServicerContext
-            // In Python: context parameter provides metadata, peer info, cancellation, etc.
-            // In Java: the proper equivalent would be ServerCall<ReqT,RespT> + Metadata from ServerInterceptor
-            // Current compromise: Store StreamObserver for basic functionality, but it lacks rich context
-            // 
-            // FUTURE ENHANCEMENT: Implement ServerInterceptor to capture ServerCall + Metadata,
-            // store in gRPC Context using Context.Key, then access via Context.current().get(key)
-            // This would provide proper equivalence to Python's ServicerContext
             state.put("grpc_response_observer", responseObserver);
-            
-            return new ServerCallContext(user, state);
+            if (metadata != null) {
+                state.put(METADATA_STATE_KEY, metadata);
+            }
+            Deadline deadline = Context.current().getDeadline();
+            if (deadline != null) {
+                state.put(DEADLINE_STATE_KEY, deadline);
+            }
+            callContext = new ServerCallContext(user, state);
         } else {
-            // TODO: CallContextFactory interface expects ServerCall + Metadata, but we only have StreamObserver
-            // This is another manifestation of the architectural limitation mentioned above
-            return factory.create(responseObserver); // Fall back to basic create() method for now
+            callContext = factory.create(responseObserver, metadata);
         }
+        propagateCancellation(callContext);
+        return callContext;
+    }
+
+    /**
+     * Cancels the call context when the client cancels the call, its deadline expires or its transport fails.
+     */
+    private static void propagateCancellation(ServerCallContext callContext) {
+        // The gRPC context is also cancelled once the call completes, but without a cause
+        Context.current().addListener(context -> {
+            if (context.cancellationCause() != null) {
+                callContext.cancel();
+            }
+        }, Runnable::run);
     }
 
     private <V> void handleError(StreamObserver<V> responseObserver, JSONRPCError error) {
@@ -383,4 +464,37 @@ public abstract class GrpcHandler extends A2AServiceGrpc.A2AServiceImplBase {
     protected abstract AgentCard getAgentCard();
 
     protected abstract CallContextFactory getCallContextFactory();
+
+    /**
+     * Returns the executor subscribing to the events of streaming calls. The subscribing thread is blocked
+     * while waiting for events, for as long as the stream lasts, so the executor must not be a bounded pool
+     * shared with other work, such as the common {@link java.util.concurrent.ForkJoinPool}.
+     * <p>
+     * By default, streams are subscribed on virtual threads if the JVM supports them, or else on a cached pool
+     * of daemon threads shared by all handlers. Subclasses override this method to use an executor of their
+     * runtime.
+     *
+     * @return the executor for streaming calls
+     */
+    protected Executor getStreamingExecutor() {
+        return DefaultStreamingExecutor.EXECUTOR;
+    }
+
+    // Created on first use, so that handlers supplying their own executor do not start one
+    private static final class DefaultStreamingExecutor {
+        private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+        private static final Executor EXECUTOR = defaultStreamingExecutor();
+
+        private static Executor defaultStreamingExecutor() {
+            ExecutorService virtualThreadExecutor = VirtualThreads.newExecutor();
+            if (virtualThreadExecutor != null) {
+                return virtualThreadExecutor;
+            }
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "a2a-grpc-streaming-" + THREAD_COUNT.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
 }
@@ -0,0 +1,151 @@
+package io.a2a.grpc.handler;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.a2a.grpc.utils.GrpcMethodOptions;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.KnownLength;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.Status;
+
+/**
+ * Applies {@link GrpcMethodOptions} to the calls served by {@link GrpcHandler}.
+ * <p>
+ * Responses are compressed with the encoding of their method when the client accepts it, the encoding being
+ * looked up in the server's compressor registry. Requests larger than the maximum inbound size of their method
+ * are rejected with {@code RESOURCE_EXHAUSTED} before they are parsed, provided the service was bound with
+ * {@link #limitInboundMessageSizes(ServerServiceDefinition)}. The server-wide maximum inbound message size, which
+ * is enforced while requests are received, must still be set to the largest size of any method. gRPC does not
+ * limit the size of the messages sent by servers, so the maximum outbound sizes are ignored.
+ */
+public class MethodOptionsInterceptor implements ServerInterceptor {
+
+    private final GrpcMethodOptions methodOptions;
+
+    public MethodOptionsInterceptor(GrpcMethodOptions methodOptions) {
+        this.methodOptions = methodOptions;
+    }
+
+    /**
+     * @param service the service whose calls this interceptor applies to
+     * @return the service, with the size of the requests of the methods with a maximum inbound size checked
+     * before they are parsed
+     */
+    public ServerServiceDefinition limitInboundMessageSizes(ServerServiceDefinition service) {
+        ServiceDescriptor serviceDescriptor = service.getServiceDescriptor();
+        ServiceDescriptor.Builder descriptorBuilder = ServiceDescriptor.newBuilder(serviceDescriptor.getName())
+                .setSchemaDescriptor(serviceDescriptor.getSchemaDescriptor());
+        List<ServerMethodDefinition<?, ?>> methods = new ArrayList<>();
+        for (ServerMethodDefinition<?, ?> method : service.getMethods()) {
+            ServerMethodDefinition<?, ?> limited = limitInboundMessageSize(method);
+            descriptorBuilder.addMethod(limited.getMethodDescriptor());
+            methods.add(limited);
+        }
+        ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(descriptorBuilder.build());
+        for (ServerMethodDefinition<?, ?> method : methods) {
+            builder.addMethod(method);
+        }
+        return builder.build();
+    }
+
+    private <ReqT, RespT> ServerMethodDefinition<ReqT, RespT> limitInboundMessageSize(
+            ServerMethodDefinition<ReqT, RespT> definition) {
+        MethodDescriptor<ReqT, RespT> method = definition.getMethodDescriptor();
+        Integer maxInboundMessageSize = methodOptions.maxInboundMessageSize(method);
+        if (maxInboundMessageSize == null || maxInboundMessageSize == Integer.MAX_VALUE) {
+            return definition;
+        }
+        MethodDescriptor<ReqT, RespT> limited = method.toBuilder()
+                .setRequestMarshaller(new SizeLimitingMarshaller<>(method.getRequestMarshaller(), maxInboundMessageSize))
+                .build();
+        return ServerMethodDefinition.create(limited, definition.getServerCallHandler());
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        MethodDescriptor<ReqT, RespT> method = call.getMethodDescriptor();
+        String compression = methodOptions.compression(method);
+        if (compression != null) {
+            call.setCompression(compression);
+        }
+        ServerCall.Listener<ReqT> listener = next.startCall(call, headers);
+        Integer maxInboundMessageSize = methodOptions.maxInboundMessageSize(method);
+        if (maxInboundMessageSize == null) {
+            return listener;
+        }
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(listener) {
+            // Listener methods are called serially
+            private boolean rejected;
+
+            @Override
+            public void onMessage(ReqT message) {
+                if (rejected) {
+                    return;
+                }
+                // The size limiting marshaller parses requests larger than the maximum size to null
+                if (message == null) {
+                    rejected = true;
+                    call.close(Status.RESOURCE_EXHAUSTED.withDescription(String.format(
+                            "%s request larger than %d bytes", method.getBareMethodName(), maxInboundMessageSize)),
+                            new Metadata());
+                    return;
+                }
+                super.onMessage(message);
+            }
+
+            @Override
+            public void onHalfClose() {
+                // The handler would otherwise fail the call, which is already closed, for lack of a request
+                if (!rejected) {
+                    super.onHalfClose();
+                }
+            }
+        };
+    }
+
+    /**
+     * Parses requests larger than the maximum size to {@code null}, without parsing them, for the interceptor to
+     * reject them with {@code RESOURCE_EXHAUSTED}. Throwing would fail the call with {@code UNKNOWN} instead.
+     */
+    private static final class SizeLimitingMarshaller<T> implements MethodDescriptor.Marshaller<T> {
+        private final MethodDescriptor.Marshaller<T> marshaller;
+        private final int maxSize;
+
+        SizeLimitingMarshaller(MethodDescriptor.Marshaller<T> marshaller, int maxSize) {
+            this.marshaller = marshaller;
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public InputStream stream(T value) {
+            return marshaller.stream(value);
+        }
+
+        @Override
+        public T parse(InputStream stream) {
+            try {
+                if (stream instanceof KnownLength) {
+                    return stream.available() > maxSize ? null : marshaller.parse(stream);
+                }
+                // Decompressed requests are of unknown length, so they are read up to the maximum size first
+                byte[] bytes = stream.readNBytes(maxSize + 1);
+                return bytes.length > maxSize ? null : marshaller.parse(new ByteArrayInputStream(bytes));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package io.a2a.grpc.handler;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import io.a2a.grpc.StreamResponse;
+import io.a2a.spec.Message;
+import io.a2a.spec.StreamingEventKind;
+
+/**
+ * Caches the conversions of the events streamed to clients, so that an event sent to several subscribers of a
+ * task is converted once.
+ * <p>
+ * Events are compared by identity and held weakly. At most {@code capacity} conversions are kept, the oldest
+ * being evicted first, so that a conversion does not outlive the fan-out of its event for long, even when the
+ * event is still referenced, for instance by the task store.
+ * <p>
+ * The task and context ids of a {@link Message} can still be set once it has been enqueued, so a conversion is
+ * only reused while they are the same as when it was made, and the message is converted again otherwise. The
+ * other events are immutable.
+ */
+final class StreamResponseCache {
+
+    private final int capacity;
+    private final ConcurrentMap<EventKey, Conversion> conversions = new ConcurrentHashMap<>();
+    private final Queue<EventKey> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final ReferenceQueue<StreamingEventKind> collected = new ReferenceQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    StreamResponseCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be greater than zero");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * @param event the event to convert
+     * @param converter converts the event if its conversion is not cached
+     * @return the cached conversion of the event, or the one computed by {@code converter}
+     */
+    StreamResponse get(StreamingEventKind event, Function<StreamingEventKind, StreamResponse> converter) {
+        expungeCollected();
+        // Read before converting, so that a change made during the conversion is caught by the next call
+        Object mutableState = mutableState(event);
+        EventKey lookup = new EventKey(event, null);
+        Conversion cached = conversions.get(lookup);
+        if (cached != null && Objects.equals(cached.mutableState(), mutableState)) {
+            return cached.response();
+        }
+        // Concurrent callers may both convert the event, which is harmless since the conversions are equal
+        Conversion conversion = new Conversion(converter.apply(event), mutableState);
+        if (cached != null) {
+            // The message was modified since it was converted, keeping its place in the insertion order
+            conversions.replace(lookup, cached, conversion);
+            return conversion.response();
+        }
+        EventKey key = new EventKey(event, collected);
+        if (conversions.putIfAbsent(key, conversion) == null) {
+            insertionOrder.add(key);
+            size.incrementAndGet();
+            evictOverCapacity();
+        }
+        return conversion.response();
+    }
+
+    /**
+     * @return the state of the event which can still change once it has been enqueued
+     */
+    private static Object mutableState(StreamingEventKind event) {
+        return event instanceof Message message ? Arrays.asList(message.getTaskId(), message.getContextId()) : null;
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    private void evictOverCapacity() {
+        while (size.get() > capacity) {
+            EventKey oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            remove(oldest);
+        }
+    }
+
+    private void expungeCollected() {
+        EventKey key;
+        while ((key = (EventKey) collected.poll()) != null) {
+            insertionOrder.remove(key);
+            remove(key);
+        }
+    }
+
+    private void remove(EventKey key) {
+        if (conversions.remove(key) != null) {
+            size.decrementAndGet();
+        }
+    }
+
+    private record Conversion(StreamResponse response, Object mutableState) {
+    }
+
+    private static final class EventKey extends WeakReference<StreamingEventKind> {
+        private final int hash;
+
+        EventKey(StreamingEventKind event, ReferenceQueue<StreamingEventKind> queue) {
+            super(event, queue);
+            this.hash = System.identityHashCode(event);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            // Keys whose event was collected are only equal to themselves
+            StreamingEventKind event = get();
+            return o instanceof EventKey other && event != null && event == other.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -3,9 +3,13 @@ package io.a2a.grpc.handler;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.google.protobuf.Empty;
 import com.google.protobuf.Struct;
@@ -30,6 +34,7 @@ import io.a2a.grpc.TaskState;
 import io.a2a.grpc.TaskStatus;
 import io.a2a.grpc.TaskSubscriptionRequest;
 import io.a2a.server.ServerCallContext;
+import io.a2a.server.auth.UnauthenticatedUser;
 import io.a2a.server.events.EventConsumer;
 import io.a2a.server.requesthandlers.AbstractA2ARequestHandlerTest;
 import io.a2a.server.requesthandlers.CallContextFactory;
@@ -45,9 +50,12 @@ import io.a2a.spec.TaskArtifactUpdateEvent;
 import io.a2a.spec.TaskStatusUpdateEvent;
 import io.a2a.spec.TextPart;
 import io.a2a.spec.UnsupportedOperationError;
+import io.grpc.Context;
+import io.grpc.Metadata;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.grpc.internal.testing.StreamRecorder;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import mutiny.zero.ZeroPublisher;
 import org.junit.jupiter.api.Assertions;
@@ -89,6 +97,38 @@ public class GrpcHandlerTest extends AbstractA2ARequestHandlerTest {
         assertEquals(TaskState.TASK_STATE_SUBMITTED, task.getStatus().getState());
     }
 
+    @Test
+    public void testCallContextFactoryGetsMetadata() throws Exception {
+        TestGrpcHandler handler = new TestGrpcHandler(AbstractA2ARequestHandlerTest.CARD, requestHandler);
+        AtomicReference<Metadata> receivedMetadata = new AtomicReference<>();
+        handler.callContextFactory = new CallContextFactory() {
+            @Override
+            public <V> ServerCallContext create(StreamObserver<V> responseObserver) {
+                throw new AssertionError("The metadata should be passed to the factory");
+            }
+
+            @Override
+            public <V> ServerCallContext create(StreamObserver<V> responseObserver, Metadata metadata) {
+                receivedMetadata.set(metadata);
+                return new ServerCallContext(UnauthenticatedUser.INSTANCE, new HashMap<>());
+            }
+        };
+        taskStore.save(AbstractA2ARequestHandlerTest.MINIMAL_TASK);
+        GetTaskRequest request = GetTaskRequest.newBuilder()
+                .setName("tasks/" + AbstractA2ARequestHandlerTest.MINIMAL_TASK.getId())
+                .build();
+        Metadata metadata = new Metadata();
+        metadata.put(Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER), "Bearer token");
+
+        StreamRecorder<Task> streamRecorder = StreamRecorder.create();
+        Context.current().withValue(CallContextInterceptor.METADATA, metadata)
+                .run(() -> handler.getTask(request, streamRecorder));
+        streamRecorder.awaitCompletion(5, TimeUnit.SECONDS);
+
+        Assertions.assertNull(streamRecorder.getError());
+        Assertions.assertSame(metadata, receivedMetadata.get());
+    }
+
     @Test
     public void testOnGetTaskNotFound() throws Exception {
         GrpcHandler handler = new TestGrpcHandler(AbstractA2ARequestHandlerTest.CARD, requestHandler);
@@ -408,6 +448,146 @@ public class GrpcHandlerTest extends AbstractA2ARequestHandlerTest {
         assertEquals(TaskState.TASK_STATE_WORKING, taskStatusUpdateEvent.getStatus().getState());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testOnMessageStreamWaitsForTransportReadiness() throws Exception {
+        GrpcHandler handler = new TestGrpcHandler(AbstractA2ARequestHandlerTest.CARD, requestHandler);
+        io.a2a.spec.Task task = new io.a2a.spec.Task.Builder(AbstractA2ARequestHandlerTest.MINIMAL_TASK)
+                .history(new ArrayList<>())
+                .build();
+        taskStore.save(task);
+        List<Event> events = List.of(
+                new TaskArtifactUpdateEvent.Builder()
+                        .taskId(task.getId())
+                        .contextId(task.getContextId())
+                        .artifact(new Artifact.Builder()
+                                .artifactId("11")
+                                .parts(new TextPart("text"))
+                                .build())
+                        .build(),
+                new TaskStatusUpdateEvent.Builder()
+                        .taskId(task.getId())
+                        .contextId(task.getContextId())
+                        .status(new io.a2a.spec.TaskStatus(io.a2a.spec.TaskState.WORKING))
+                        .build());
+
+        ServerCallStreamObserver<StreamResponse> streamObserver = Mockito.mock(ServerCallStreamObserver.class);
+        AtomicBoolean ready = new AtomicBoolean();
+        AtomicReference<Runnable> onReadyHandler = new AtomicReference<>();
+        List<StreamResponse> results = new CopyOnWriteArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        Mockito.when(streamObserver.isReady()).thenAnswer(invocation -> ready.get());
+        Mockito.doAnswer(invocation -> {
+            onReadyHandler.set(invocation.getArgument(0));
+            return null;
+        }).when(streamObserver).setOnReadyHandler(Mockito.any());
+        Mockito.doAnswer(invocation -> {
+            results.add(invocation.getArgument(0));
+            return null;
+        }).when(streamObserver).onNext(Mockito.any());
+        Mockito.doAnswer(invocation -> {
+            completed.countDown();
+            return null;
+        }).when(streamObserver).onCompleted();
+
+        CountDownLatch subscribed = new CountDownLatch(1);
+        GrpcHandler.setStreamingSubscribedRunnable(subscribed::countDown);
+        try (MockedConstruction<EventConsumer> mocked = Mockito.mockConstruction(
+                EventConsumer.class,
+                (mock, context) -> {
+                    Mockito.doReturn(ZeroPublisher.fromIterable(events)).when(mock).consumeAll();})) {
+            sendStreamingMessageRequest(handler, streamObserver);
+            Assertions.assertTrue(subscribed.await(5, TimeUnit.SECONDS));
+            // Nothing is requested while the transport is not ready
+            Assertions.assertTrue(results.isEmpty());
+            Assertions.assertNotNull(onReadyHandler.get());
+
+            ready.set(true);
+            onReadyHandler.get().run();
+            Assertions.assertTrue(completed.await(5, TimeUnit.SECONDS));
+        } finally {
+            GrpcHandler.setStreamingSubscribedRunnable(null);
+        }
+        Assertions.assertEquals(2, results.size());
+        Assertions.assertTrue(results.get(0).hasArtifactUpdate());
+        Assertions.assertTrue(results.get(1).hasStatusUpdate());
+    }
+
+    @Test
+    public void testOnMessageStreamCancelledByClient() throws Exception {
+        GrpcHandler handler = new TestGrpcHandler(AbstractA2ARequestHandlerTest.CARD, requestHandler);
+        CountDownLatch agentStarted = new CountDownLatch(1);
+        CountDownLatch agentCancelled = new CountDownLatch(1);
+        AtomicReference<ServerCallContext> callContext = new AtomicReference<>();
+        agentExecutorExecute = (context, eventQueue) -> {
+            callContext.set(context.getCallContext());
+            context.getCallContext().addCancelCallback(agentCancelled::countDown);
+            agentStarted.countDown();
+            try {
+                agentCancelled.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        StreamRecorder<StreamResponse> streamRecorder = StreamRecorder.create();
+        Context.CancellableContext grpcContext = Context.current().withCancellation();
+        grpcContext.run(() -> {
+            try {
+                sendStreamingMessageRequest(handler, streamRecorder);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Assertions.assertTrue(agentStarted.await(5, TimeUnit.SECONDS));
+        Assertions.assertFalse(callContext.get().isCancelled());
+
+        grpcContext.cancel(Status.CANCELLED.asRuntimeException());
+
+        Assertions.assertTrue(agentCancelled.await(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(callContext.get().isCancelled());
+    }
+
+    @Test
+    public void testOnMessageStreamCancelledByClientCancelsTask() throws Exception {
+        GrpcHandler handler = new TestGrpcHandler(AbstractA2ARequestHandlerTest.CARD, requestHandler);
+        taskStore.save(AbstractA2ARequestHandlerTest.MINIMAL_TASK);
+        CountDownLatch agentStarted = new CountDownLatch(1);
+        CountDownLatch agentInterrupted = new CountDownLatch(1);
+        agentExecutorExecute = (context, eventQueue) -> {
+            agentStarted.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                agentInterrupted.countDown();
+            }
+        };
+        agentExecutorCancel = (context, eventQueue) -> new TaskUpdater(context, eventQueue).cancel();
+
+        StreamRecorder<StreamResponse> streamRecorder = StreamRecorder.create();
+        Context.CancellableContext grpcContext = Context.current().withCancellation();
+        grpcContext.run(() -> {
+            try {
+                sendStreamingMessageRequest(handler, streamRecorder);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Assertions.assertTrue(agentStarted.await(5, TimeUnit.SECONDS));
+
+        grpcContext.cancel(Status.CANCELLED.asRuntimeException());
+
+        // The agent is stopped rather than left running, and the stored task is moved to the canceled state
+        Assertions.assertTrue(agentInterrupted.await(5, TimeUnit.SECONDS));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (taskStore.get(AbstractA2ARequestHandlerTest.MINIMAL_TASK.getId()).getStatus().state() != io.a2a.spec.TaskState.CANCELED
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(io.a2a.spec.TaskState.CANCELED,
+                taskStore.get(AbstractA2ARequestHandlerTest.MINIMAL_TASK.getId()).getStatus().state());
+    }
+
     @Test
     public void testOnMessageStreamNewMessageSendPushNotificationSuccess() throws Exception {
         GrpcHandler handler = new TestGrpcHandler(AbstractA2ARequestHandlerTest.CARD, requestHandler);
@@ -805,6 +985,7 @@ public class GrpcHandlerTest extends AbstractA2ARequestHandlerTest {
     private static class TestGrpcHandler extends GrpcHandler {
         private final AgentCard card;
         private final RequestHandler handler;
+        CallContextFactory callContextFactory;
 
         TestGrpcHandler(AgentCard card, RequestHandler handler) {
             this.card = card;
@@ -823,7 +1004,7 @@ public class GrpcHandlerTest extends AbstractA2ARequestHandlerTest {
 
         @Override
         protected CallContextFactory getCallContextFactory() {
-            return null;
+            return callContextFactory;
         }
     }
 }
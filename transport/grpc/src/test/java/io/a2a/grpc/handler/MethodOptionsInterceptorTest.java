@@ -0,0 +1,59 @@
+package io.a2a.grpc.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayInputStream;
+
+import io.a2a.grpc.A2AServiceGrpc;
+import io.a2a.grpc.GetTaskRequest;
+import io.a2a.grpc.utils.GrpcMethodOptions;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerServiceDefinition;
+import org.junit.jupiter.api.Test;
+
+public class MethodOptionsInterceptorTest {
+
+    private static final GetTaskRequest SMALL_REQUEST = GetTaskRequest.newBuilder().setName("tasks/1").build();
+    private static final GetTaskRequest LARGE_REQUEST = GetTaskRequest.newBuilder().setName("tasks/" + "1".repeat(100)).build();
+
+    private final ServerServiceDefinition service = new A2AServiceGrpc.A2AServiceImplBase() {
+    }.bindService();
+
+    @Test
+    public void testRequestsAreCheckedBeforeParsing() throws Exception {
+        MethodOptionsInterceptor interceptor = new MethodOptionsInterceptor(new GrpcMethodOptions.Builder()
+                .maxInboundMessageSize("GetTask", 64)
+                .build());
+        MethodDescriptor.Marshaller<?> marshaller = requestMarshaller(interceptor.limitInboundMessageSizes(service));
+
+        assertEquals(SMALL_REQUEST, marshaller.parse(new KnownLengthInputStream(SMALL_REQUEST.toByteArray())));
+        assertNull(marshaller.parse(new KnownLengthInputStream(LARGE_REQUEST.toByteArray())));
+
+        // Decompressed requests are of unknown length
+        assertEquals(SMALL_REQUEST, marshaller.parse(new ByteArrayInputStream(SMALL_REQUEST.toByteArray())));
+        assertNull(marshaller.parse(new ByteArrayInputStream(LARGE_REQUEST.toByteArray())));
+    }
+
+    @Test
+    public void testMethodsWithoutMaximumSizeAreUnchanged() {
+        MethodOptionsInterceptor interceptor = new MethodOptionsInterceptor(new GrpcMethodOptions.Builder()
+                .maxInboundMessageSize("SendMessage", 64)
+                .build());
+        assertSame(requestMarshaller(service), requestMarshaller(interceptor.limitInboundMessageSizes(service)));
+    }
+
+    private static MethodDescriptor.Marshaller<?> requestMarshaller(ServerServiceDefinition service) {
+        return service.getMethod(A2AServiceGrpc.getGetTaskMethod().getFullMethodName())
+                .getMethodDescriptor()
+                .getRequestMarshaller();
+    }
+
+    private static final class KnownLengthInputStream extends ByteArrayInputStream implements KnownLength {
+        KnownLengthInputStream(byte[] bytes) {
+            super(bytes);
+        }
+    }
+}
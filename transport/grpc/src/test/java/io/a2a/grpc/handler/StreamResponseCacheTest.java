@@ -0,0 +1,92 @@
+package io.a2a.grpc.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import io.a2a.grpc.StreamResponse;
+import io.a2a.grpc.utils.ProtoUtils.ToProto;
+import io.a2a.spec.Message;
+import io.a2a.spec.StreamingEventKind;
+import io.a2a.spec.TaskState;
+import io.a2a.spec.TaskStatus;
+import io.a2a.spec.TaskStatusUpdateEvent;
+import io.a2a.spec.TextPart;
+import org.junit.jupiter.api.Test;
+
+public class StreamResponseCacheTest {
+
+    private final AtomicInteger conversions = new AtomicInteger();
+    private final Function<StreamingEventKind, StreamResponse> converter = event -> {
+        conversions.incrementAndGet();
+        return ToProto.streamResponse(event);
+    };
+
+    @Test
+    public void testEventIsConvertedOnce() {
+        StreamResponseCache cache = new StreamResponseCache(8);
+        TaskStatusUpdateEvent event = event();
+
+        StreamResponse response = cache.get(event, converter);
+        assertEquals("task-123", response.getStatusUpdate().getTaskId());
+        assertSame(response, cache.get(event, converter));
+        assertEquals(1, conversions.get());
+    }
+
+    @Test
+    public void testEventsAreComparedByIdentity() {
+        StreamResponseCache cache = new StreamResponseCache(8);
+        StreamResponse response = cache.get(event(), converter);
+
+        assertNotSame(response, cache.get(event(), converter));
+        assertEquals(2, conversions.get());
+    }
+
+    @Test
+    public void testOldestConversionIsEvicted() {
+        StreamResponseCache cache = new StreamResponseCache(2);
+        TaskStatusUpdateEvent first = event();
+        cache.get(first, converter);
+        cache.get(event(), converter);
+        cache.get(event(), converter);
+        assertEquals(2, cache.size());
+
+        cache.get(first, converter);
+        assertEquals(4, conversions.get());
+    }
+
+    @Test
+    public void testModifiedMessageIsConvertedAgain() {
+        StreamResponseCache cache = new StreamResponseCache(8);
+        Message message = new Message.Builder()
+                .role(Message.Role.AGENT)
+                .parts(new TextPart("hello"))
+                .messageId("message-1234")
+                .taskId("task-123")
+                .contextId("context-1234")
+                .build();
+
+        assertEquals("task-123", cache.get(message, converter).getMsg().getTaskId());
+        message.setTaskId("task-456");
+        assertEquals("task-456", cache.get(message, converter).getMsg().getTaskId());
+        message.setContextId("context-5678");
+        StreamResponse response = cache.get(message, converter);
+        assertEquals("context-5678", response.getMsg().getContextId());
+
+        // Converted once per state, and cached again once unchanged
+        assertSame(response, cache.get(message, converter));
+        assertEquals(3, conversions.get());
+        assertEquals(1, cache.size());
+    }
+
+    private static TaskStatusUpdateEvent event() {
+        return new TaskStatusUpdateEvent.Builder()
+                .taskId("task-123")
+                .contextId("context-1234")
+                .status(new TaskStatus(TaskState.WORKING))
+                .build();
+    }
+}